@@ -1,5 +1,6 @@
 package com.mechbuilder;
 
+import com.mechbuilder.data.CatalogSnapshot;
 import com.mechbuilder.data.MechChassisRepository;
 import com.mechbuilder.data.MechSectionFactory;
 import com.mechbuilder.model.Mech;
@@ -10,6 +11,8 @@ import com.opencsv.exceptions.CsvValidationException;
 
 import javax.swing.SwingUtilities;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 
@@ -19,19 +22,33 @@ import java.util.Map;
  */
 public class MechBuilderApplication {
     
+    private static final String DEFAULT_SNAPSHOT_FILE = "catalog.snapshot";
+    
     public static void main(String[] args) {
         if (args.length > 0 && "demo".equals(args[0])) {
             // Demo mode - show enhanced MechSection functionality
             runDemo();
+        } else if (args.length > 0 && "compile-catalog".equals(args[0])) {
+            // Build mode - compile the CSV catalogs into a binary snapshot
+            compileCatalog(args.length > 1 ? args[1] : DEFAULT_SNAPSHOT_FILE);
         } else {
             // Normal mode - run the GUI
-            SwingUtilities.invokeLater(() -> {
-                try {
-                    new MechBuilderUI();
-                } catch (IOException | CsvValidationException e) {
-                    e.printStackTrace();
-                }
-            });
+            SwingUtilities.invokeLater(MechBuilderUI::new);
+        }
+    }
+    
+    /**
+     * Compiles the bundled CSV catalogs into a binary snapshot that can be
+     * loaded with -Dmechbuilder.catalog.snapshot=&lt;file&gt;
+     */
+    private static void compileCatalog(String output) {
+        try {
+            Path path = Paths.get(output);
+            CatalogSnapshot.compile(path);
+            System.out.println("Catalog snapshot written to " + path.toAbsolutePath());
+        } catch (IOException | CsvValidationException e) {
+            System.err.println("❌ Error compiling catalog snapshot: " + e.getMessage());
+            System.exit(1);
         }
     }
     
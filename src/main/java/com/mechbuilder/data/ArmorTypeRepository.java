@@ -1,46 +1,72 @@
 package com.mechbuilder.data;
 
-import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import com.mechbuilder.model.ArmorType;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Repository for loading and managing armor type data from CSV file.
  */
 public class ArmorTypeRepository {
-    private static final String RESOURCE_PATH = "Armor Types.csv";
+    static final String RESOURCE_PATH = "Armor Types.csv";
     
+    /**
+     * Returns the shared, immutable armor types catalog, parsing the CSV on first use
+     */
     public List<ArmorType> loadAll() throws IOException, CsvValidationException {
+        return index().armorTypes;
+    }
+    
+    /**
+     * Discards the cached armor types and parses the CSV again
+     */
+    public List<ArmorType> reload() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().reload(RESOURCE_PATH, this::buildIndex).armorTypes;
+    }
+    
+    private ArmorIndex index() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().get(RESOURCE_PATH, this::buildIndex);
+    }
+    
+    private ArmorIndex buildIndex() throws IOException, CsvValidationException {
+        return new ArmorIndex(parseAll());
+    }
+    
+    /**
+     * Loads rows from the precompiled snapshot when one is configured and current, otherwise from CSV
+     */
+    private List<ArmorType> parseAll() throws IOException, CsvValidationException {
+        List<ArmorType> snapshot = CatalogSnapshot.read(RESOURCE_PATH, CatalogSnapshot::readArmor);
+        return snapshot != null ? snapshot : parseCsv();
+    }
+    
+    List<ArmorType> parseCsv() throws IOException, CsvValidationException {
         List<ArmorType> armorTypes = new ArrayList<>();
         
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        InputStream inputStream = CatalogSource.open(RESOURCE_PATH);
         if (inputStream == null) {
             throw new IOException("Resource not found: " + RESOURCE_PATH);
         }
         
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            String[] header = reader.readNext(); // Skip header row
-            if (header == null) {
+        try (CsvRowReader reader = new CsvRowReader(inputStream)) {
+            if (!reader.nextRow()) { // Skip header row
                 throw new IOException("CSV file is empty or improperly formatted.");
             }
 
-            while (true) {
-                String[] row = reader.readNext();
-                if (row == null) break;
+            while (reader.nextRow()) {
                 
-                if (row.length < 3) continue; // Make sure there are enough columns
+                if (reader.getFieldCount() < 3) continue; // Make sure there are enough columns
                 
                 try {
-                    String armorType = row[0].trim();
-                    int hpPerTon = Integer.parseInt(row[1].trim());
-                    String type = row[2].trim();
+                    String armorType = reader.getTrimmedString(0);
+                    int hpPerTon = reader.getInt(1);
+                    String type = reader.getTrimmedString(2);
                     
                     // Skip empty rows
                     if (armorType.isEmpty()) continue;
@@ -49,39 +75,33 @@ public class ArmorTypeRepository {
                     armorTypes.add(armor);
                 } catch (NumberFormatException e) {
                     // Skip malformed rows
-                    System.err.println("Skipping malformed armor row: " + String.join(",", row));
+                    System.err.println("Skipping malformed armor row: " + reader.getRowText());
                 }
             }
         }
         
-        return armorTypes;
+        return List.copyOf(armorTypes);
     }
     
     /**
      * Find armor type by name
      */
     public Optional<ArmorType> findByName(String name) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(armor -> armor.getArmorType().equalsIgnoreCase(name))
-                .findFirst();
+        return Optional.ofNullable(index().byName.get(CatalogIndexes.foldCase(name)));
     }
     
     /**
      * Find armor types by category (Plate, Refractive, Ablative)
      */
     public List<ArmorType> findByType(String type) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(armor -> armor.getType().equalsIgnoreCase(type))
-                .toList();
+        return index().byType.getOrDefault(CatalogIndexes.foldCase(type), List.of());
     }
     
     /**
      * Find armor types within HP/Ton range
      */
     public List<ArmorType> findByHpPerTonRange(int minHp, int maxHp) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(armor -> armor.getHpPerTon() >= minHp && armor.getHpPerTon() <= maxHp)
-                .toList();
+        return index().byHpPerTon.findInRange(minHp, maxHp);
     }
     
     /**
@@ -91,4 +111,21 @@ public class ArmorTypeRepository {
         return findByType(type).stream()
                 .max((a1, a2) -> Integer.compare(a1.getHpPerTon(), a2.getHpPerTon()));
     }
-}
\ No newline at end of file
+    
+    /**
+     * Parsed armor catalog plus the lookup indexes built from it
+     */
+    private static final class ArmorIndex {
+        private final List<ArmorType> armorTypes;
+        private final Map<String, ArmorType> byName;
+        private final Map<String, List<ArmorType>> byType;
+        private final RangeIndex<ArmorType> byHpPerTon;
+        
+        ArmorIndex(List<ArmorType> armorTypes) {
+            this.armorTypes = armorTypes;
+            this.byName = CatalogIndexes.uniqueBy(armorTypes, armor -> CatalogIndexes.foldCase(armor.getArmorType()));
+            this.byType = CatalogIndexes.groupBy(armorTypes, armor -> CatalogIndexes.foldCase(armor.getType()));
+            this.byHpPerTon = new RangeIndex<>(armorTypes, ArmorType::getHpPerTon);
+        }
+    }
+}
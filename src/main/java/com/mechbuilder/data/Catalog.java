@@ -0,0 +1,142 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.ArmorType;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.SlotConfiguration;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of every game data catalog, published once by
+ * {@link CatalogLoader} and shared by the UI and the section factory.
+ *
+ * The with* methods apply a hot reload of one catalog file: only that list's
+ * derived structures are rebuilt, and the new catalog shares everything else
+ * with this one.
+ */
+public final class Catalog {
+    private final List<MechChassis> chassis;
+    private final List<WeaponComponent> weapons;
+    private final List<SlotConfiguration> slotConfigurations;
+    private final List<ArmorType> armorTypes;
+    private final List<Shield> shields;
+    private final Map<String, SlotConfiguration> slotsBySize;
+    private final WeaponTable weaponTable;
+
+    // Dense IDs, carried over from the catalog this one was reloaded from
+    private final EntityRegistry<MechChassis> chassisIds;
+    private final EntityRegistry<WeaponComponent> weaponIds;
+    private final EntityRegistry<ArmorType> armorIds;
+    private final EntityRegistry<Shield> shieldIds;
+
+    public Catalog(List<MechChassis> chassis, List<WeaponComponent> weapons,
+                   List<SlotConfiguration> slotConfigurations, List<ArmorType> armorTypes,
+                   List<Shield> shields) {
+        this(chassis, new WeaponTable(weapons), slotConfigurations, armorTypes, shields);
+    }
+
+    /**
+     * Catalog over a weapon table already built, e.g. the repository's, so the
+     * weapon list and its columnar view are only built once
+     */
+    public Catalog(List<MechChassis> chassis, WeaponTable weapons,
+                   List<SlotConfiguration> slotConfigurations, List<ArmorType> armorTypes,
+                   List<Shield> shields) {
+        this.chassis = List.copyOf(chassis);
+        this.weapons = weapons.getWeapons();
+        this.slotConfigurations = List.copyOf(slotConfigurations);
+        this.armorTypes = List.copyOf(armorTypes);
+        this.shields = List.copyOf(shields);
+        this.slotsBySize = CatalogIndexes.uniqueBy(this.slotConfigurations, SlotConfiguration::getMechSize);
+        this.weaponTable = weapons;
+        this.chassisIds = new EntityRegistry<>(this.chassis, MechChassis::getName);
+        this.weaponIds = new EntityRegistry<>(this.weapons, WeaponComponent::getName);
+        this.armorIds = new EntityRegistry<>(this.armorTypes, ArmorType::getArmorType);
+        this.shieldIds = new EntityRegistry<>(this.shields, Shield::getShield);
+    }
+
+    /**
+     * Catalog from parts that are already built, so a reload of one file keeps
+     * every other list's derived structures as they are
+     */
+    private Catalog(List<MechChassis> chassis, EntityRegistry<MechChassis> chassisIds,
+                    WeaponTable weaponTable, EntityRegistry<WeaponComponent> weaponIds,
+                    List<SlotConfiguration> slotConfigurations, Map<String, SlotConfiguration> slotsBySize,
+                    List<ArmorType> armorTypes, EntityRegistry<ArmorType> armorIds,
+                    List<Shield> shields, EntityRegistry<Shield> shieldIds) {
+        this.chassis = chassis;
+        this.chassisIds = chassisIds;
+        this.weapons = weaponTable.getWeapons();
+        this.weaponTable = weaponTable;
+        this.weaponIds = weaponIds;
+        this.slotConfigurations = slotConfigurations;
+        this.slotsBySize = slotsBySize;
+        this.armorTypes = armorTypes;
+        this.armorIds = armorIds;
+        this.shields = shields;
+        this.shieldIds = shieldIds;
+    }
+
+    public List<MechChassis> getChassis() { return chassis; }
+    public List<WeaponComponent> getWeapons() { return weapons; }
+    public List<SlotConfiguration> getSlotConfigurations() { return slotConfigurations; }
+    public List<ArmorType> getArmorTypes() { return armorTypes; }
+    public List<Shield> getShields() { return shields; }
+
+    /**
+     * Columnar view of the weapons, row i being getWeapons().get(i)
+     */
+    public WeaponTable getWeaponTable() { return weaponTable; }
+
+    public EntityRegistry<MechChassis> getChassisIds() { return chassisIds; }
+    public EntityRegistry<WeaponComponent> getWeaponIds() { return weaponIds; }
+    public EntityRegistry<ArmorType> getArmorIds() { return armorIds; }
+    public EntityRegistry<Shield> getShieldIds() { return shieldIds; }
+
+    public Catalog withChassis(List<MechChassis> updated) {
+        List<MechChassis> list = List.copyOf(updated);
+        return new Catalog(list, chassisIds.reload(list), weaponTable, weaponIds,
+                slotConfigurations, slotsBySize, armorTypes, armorIds, shields, shieldIds);
+    }
+
+    public Catalog withWeapons(List<WeaponComponent> updated) {
+        return withWeapons(new WeaponTable(updated));
+    }
+
+    public Catalog withWeapons(WeaponTable updated) {
+        return new Catalog(chassis, chassisIds, updated, weaponIds.reload(updated.getWeapons()),
+                slotConfigurations, slotsBySize, armorTypes, armorIds, shields, shieldIds);
+    }
+
+    public Catalog withSlotConfigurations(List<SlotConfiguration> updated) {
+        List<SlotConfiguration> list = List.copyOf(updated);
+        return new Catalog(chassis, chassisIds, weaponTable, weaponIds,
+                list, CatalogIndexes.uniqueBy(list, SlotConfiguration::getMechSize),
+                armorTypes, armorIds, shields, shieldIds);
+    }
+
+    public Catalog withArmorTypes(List<ArmorType> updated) {
+        List<ArmorType> list = List.copyOf(updated);
+        return new Catalog(chassis, chassisIds, weaponTable, weaponIds,
+                slotConfigurations, slotsBySize, list, armorIds.reload(list), shields, shieldIds);
+    }
+
+    public Catalog withShields(List<Shield> updated) {
+        List<Shield> list = List.copyOf(updated);
+        return new Catalog(chassis, chassisIds, weaponTable, weaponIds,
+                slotConfigurations, slotsBySize, armorTypes, armorIds, list, shieldIds.reload(list));
+    }
+
+    public Optional<MechChassis> findChassisByName(String name) {
+        int id = chassisIds.idOfName(name);
+        return id == EntityRegistry.NO_ID ? Optional.empty() : Optional.of(chassisIds.get(id));
+    }
+
+    public Optional<SlotConfiguration> findSlotConfiguration(String mechSize) {
+        return Optional.ofNullable(slotsBySize.get(mechSize));
+    }
+}
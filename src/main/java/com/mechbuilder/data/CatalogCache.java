@@ -0,0 +1,109 @@
+package com.mechbuilder.data;
+
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Process-wide cache of parsed catalog data shared by every repository.
+ *
+ * Each catalog file is parsed at most once; concurrent readers asking for the
+ * same key while it is loading wait for the single in-flight load instead of
+ * parsing the file again. Cached values are expected to be immutable, so a
+ * reader holding an old value is unaffected by a later invalidate or reload.
+ */
+public final class CatalogCache {
+    private static final CatalogCache INSTANCE = new CatalogCache();
+
+    private final ConcurrentHashMap<String, FutureTask<Object>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Parses a catalog file into its cached form
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws IOException, CsvValidationException;
+    }
+
+    private CatalogCache() {
+    }
+
+    public static CatalogCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached value for the key, running the loader on first access.
+     * A failed load is not cached, so the next call retries it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Loader<T> loader) throws IOException, CsvValidationException {
+        FutureTask<Object> task = entries.get(key);
+        if (task == null) {
+            FutureTask<Object> created = new FutureTask<>(loader::load);
+            task = entries.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                created.run();
+            }
+        }
+        try {
+            return (T) task.get();
+        } catch (ExecutionException e) {
+            entries.remove(key, task);
+            throw rethrow(key, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + key, e);
+        }
+    }
+
+    /**
+     * Discards the cached value so the next access parses the file again
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Discards every cached catalog
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Drops the cached value and loads it again immediately
+     */
+    public <T> T reload(String key, Loader<T> loader) throws IOException, CsvValidationException {
+        invalidate(key);
+        return get(key, loader);
+    }
+
+    /**
+     * Check whether a value for the key has finished loading
+     */
+    public boolean isLoaded(String key) {
+        FutureTask<Object> task = entries.get(key);
+        return task != null && task.isDone();
+    }
+
+    private static IOException rethrow(String key, Throwable cause) throws CsvValidationException {
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof CsvValidationException) {
+            throw (CsvValidationException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException("Failed to load " + key, cause);
+    }
+}
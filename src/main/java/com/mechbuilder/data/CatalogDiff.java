@@ -0,0 +1,104 @@
+package com.mechbuilder.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Entries added, removed and changed between two versions of one catalog.
+ *
+ * Entries are matched by key (the name column); an entry is changed when its
+ * key exists in both versions but its content differs. Changed entries are
+ * reported in their new form, removed entries in their old form.
+ */
+public final class CatalogDiff<T> {
+    private final String catalogName;
+    private final Class<T> entryType;
+    private final Function<T, String> keyExtractor;
+    private final List<T> added;
+    private final List<T> removed;
+    private final List<T> changed;
+
+    private CatalogDiff(String catalogName, Class<T> entryType, Function<T, String> keyExtractor,
+                        List<T> added, List<T> removed, List<T> changed) {
+        this.catalogName = catalogName;
+        this.entryType = entryType;
+        this.keyExtractor = keyExtractor;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * Compares two versions of a catalog; result lists keep catalog order
+     */
+    static <T> CatalogDiff<T> compute(String catalogName, Class<T> entryType, List<T> before, List<T> after,
+                                      Function<T, String> keyExtractor, BiPredicate<T, T> sameContent) {
+        Map<String, T> beforeByKey = CatalogIndexes.uniqueBy(before, keyExtractor);
+        Map<String, T> afterByKey = CatalogIndexes.uniqueBy(after, keyExtractor);
+
+        List<T> added = new ArrayList<>();
+        List<T> changed = new ArrayList<>();
+        for (T entry : after) {
+            String key = keyExtractor.apply(entry);
+            if (afterByKey.get(key) != entry) {
+                continue; // Duplicate key; only the first row is addressable
+            }
+            T previous = beforeByKey.get(key);
+            if (previous == null) {
+                added.add(entry);
+            } else if (!sameContent.test(previous, entry)) {
+                changed.add(entry);
+            }
+        }
+
+        List<T> removed = new ArrayList<>();
+        for (T entry : before) {
+            String key = keyExtractor.apply(entry);
+            if (beforeByKey.get(key) == entry && !afterByKey.containsKey(key)) {
+                removed.add(entry);
+            }
+        }
+        return new CatalogDiff<>(catalogName, entryType, keyExtractor, added, removed, changed);
+    }
+
+    /**
+     * Human-readable name of the catalog, e.g. "Weapons"
+     */
+    public String getCatalogName() {
+        return catalogName;
+    }
+
+    public List<T> getAdded() { return added; }
+    public List<T> getRemoved() { return removed; }
+    public List<T> getChanged() { return changed; }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * Key the entry was matched by
+     */
+    public String keyOf(T entry) {
+        return keyExtractor.apply(entry);
+    }
+
+    /**
+     * Typed view of this diff when it describes entries of the given type
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Optional<CatalogDiff<E>> ofType(Class<E> type) {
+        return entryType == type ? Optional.of((CatalogDiff<E>) this) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d added, %d removed, %d changed",
+                catalogName, added.size(), removed.size(), changed.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.mechbuilder.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Helpers for building the hash indexes repositories keep next to their catalog lists
+ */
+final class CatalogIndexes {
+
+    private CatalogIndexes() {
+    }
+
+    /**
+     * Maps each key to the first entry carrying it, mirroring findFirst() on a scan
+     */
+    static <K, T> Map<K, T> uniqueBy(List<T> items, Function<T, K> keyExtractor) {
+        Map<K, T> index = new HashMap<>();
+        for (T item : items) {
+            index.putIfAbsent(keyExtractor.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Groups entries by key, keeping catalog order inside each group
+     */
+    static <K, T> Map<K, List<T>> groupBy(List<T> items, Function<T, K> keyExtractor) {
+        Map<K, List<T>> grouped = new HashMap<>();
+        for (T item : items) {
+            grouped.computeIfAbsent(keyExtractor.apply(item), k -> new ArrayList<>()).add(item);
+        }
+        Map<K, List<T>> index = new HashMap<>();
+        for (Map.Entry<K, List<T>> entry : grouped.entrySet()) {
+            index.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Normalises a key for case-insensitive lookups
+     */
+    static String foldCase(String key) {
+        return key == null ? null : key.toLowerCase(Locale.ROOT);
+    }
+}
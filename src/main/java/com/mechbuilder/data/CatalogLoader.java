@@ -0,0 +1,106 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.ArmorType;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.SlotConfiguration;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads every catalog file concurrently on a background executor and
+ * publishes the result as one immutable {@link Catalog}.
+ *
+ * Loads go through the repositories, so the parsed data also lands in the
+ * shared {@link CatalogCache} and later repository calls are cache hits.
+ */
+public final class CatalogLoader {
+    /** Number of catalog files read by a bootstrap */
+    public static final int CATALOG_COUNT = 5;
+
+    /**
+     * Notified from a loader thread each time one catalog file finishes
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void catalogLoaded(String catalogName, int completed, int total);
+    }
+
+    private CatalogLoader() {
+    }
+
+    /**
+     * Starts loading all catalogs in parallel. The returned future completes
+     * with the catalog, or exceptionally with the first load failure.
+     */
+    public static CompletableFuture<Catalog> loadAsync(ProgressListener listener) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CATALOG_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "catalog-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger completed = new AtomicInteger();
+
+        CompletableFuture<List<MechChassis>> chassis =
+            submit(executor, "Chassis", () -> new MechChassisRepository().loadAll(), completed, listener);
+        CompletableFuture<WeaponTable> weapons =
+            submit(executor, "Weapons", () -> new WeaponRepository().loadTable(), completed, listener);
+        CompletableFuture<List<SlotConfiguration>> slots =
+            submit(executor, "Slots", () -> new SlotRepository().loadAll(), completed, listener);
+        CompletableFuture<List<ArmorType>> armor =
+            submit(executor, "Armor", () -> new ArmorTypeRepository().loadAll(), completed, listener);
+        CompletableFuture<List<Shield>> shields =
+            submit(executor, "Shields", () -> new ShieldRepository().loadAll(), completed, listener);
+
+        CompletableFuture<Catalog> catalog = CompletableFuture.allOf(chassis, weapons, slots, armor, shields)
+            .thenApply(ignored -> new Catalog(chassis.join(), weapons.join(), slots.join(), armor.join(), shields.join()));
+        catalog.whenComplete((result, error) -> executor.shutdown());
+        return catalog;
+    }
+
+    /**
+     * Loads all catalogs in parallel and waits for the result
+     */
+    public static Catalog load() throws IOException, CsvValidationException {
+        try {
+            return loadAsync(null).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof CsvValidationException) {
+                throw (CsvValidationException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to load catalog", cause);
+        }
+    }
+
+    private static <T> CompletableFuture<T> submit(ExecutorService executor, String name, CatalogCache.Loader<T> loader,
+                                                   AtomicInteger completed, ProgressListener listener) {
+        return CompletableFuture.supplyAsync(() -> {
+            T value;
+            try {
+                value = loader.load();
+            } catch (IOException | CsvValidationException e) {
+                throw new CompletionException(e);
+            }
+            int done = completed.incrementAndGet();
+            if (listener != null) {
+                listener.catalogLoaded(name, done, CATALOG_COUNT);
+            }
+            return value;
+        }, executor);
+    }
+}
@@ -0,0 +1,418 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.ArmorType;
+import com.mechbuilder.model.Hardpoints;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.SlotConfiguration;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary snapshot of the five catalog CSVs.
+ *
+ * The snapshot is produced ahead of time by {@link #compile(Path)} (see the
+ * "compile-catalog" mode of MechBuilderApplication) and is only used when the
+ * {@value #SNAPSHOT_PROPERTY} system property points at it. The file is
+ * mapped read-only once, and kept until it changes on disk, so every
+ * repository decodes its section straight from the same mapped buffer.
+ *
+ * Each section records the length, last-modified time and CRC32 of the CSV
+ * it was built from. A CSV with the same length and time is taken as
+ * unchanged without being read; only when the time differs is its CRC32
+ * computed. If the CSV has changed, or the snapshot is missing or from
+ * another format version, {@link #read} returns null and the caller parses
+ * the CSV.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int magic, int version, int sectionCount
+ * sectionCount x { string resource, long crc32, long sourceLength, long sourceModified,
+ *                  int rows, int offset, int length }
+ * section bodies, one record per row
+ * </pre>
+ * Strings are an int byte length followed by UTF-8 bytes.
+ */
+public final class CatalogSnapshot {
+    public static final String SNAPSHOT_PROPERTY = "mechbuilder.catalog.snapshot";
+    public static final int FORMAT_VERSION = 3;
+
+    private static final int MAGIC = 0x4D434154; // "MCAT"
+
+    // Source modification time recorded when the CSV location cannot be inspected cheaply
+    private static final long UNKNOWN_MODIFIED = Long.MIN_VALUE;
+
+    // The most recently mapped snapshot, reused until the file changes
+    private static Mapping mapping;
+
+    /**
+     * Decodes one catalog row from the mapped snapshot
+     */
+    @FunctionalInterface
+    interface RowReader<T> {
+        T read(ByteBuffer buffer);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(DataOutputStream out, T row) throws IOException;
+    }
+
+    private CatalogSnapshot() {
+    }
+
+    /**
+     * Parses every catalog CSV and writes the binary snapshot to the given path
+     */
+    public static void compile(Path output) throws IOException, CsvValidationException {
+        Map<String, byte[]> sections = new LinkedHashMap<>();
+        Map<String, Integer> rowCounts = new HashMap<>();
+
+        List<MechChassis> chassis = new MechChassisRepository().parseCsv();
+        sections.put(MechChassisRepository.RESOURCE_PATH, encode(chassis, CatalogSnapshot::writeChassis));
+        rowCounts.put(MechChassisRepository.RESOURCE_PATH, chassis.size());
+
+        List<WeaponComponent> weapons = new WeaponRepository().parseCsv();
+        sections.put(WeaponRepository.RESOURCE_PATH, encode(weapons, CatalogSnapshot::writeWeapon));
+        rowCounts.put(WeaponRepository.RESOURCE_PATH, weapons.size());
+
+        List<SlotConfiguration> slots = new SlotRepository().parseCsv();
+        sections.put(SlotRepository.RESOURCE_PATH, encode(slots, CatalogSnapshot::writeSlots));
+        rowCounts.put(SlotRepository.RESOURCE_PATH, slots.size());
+
+        List<ArmorType> armor = new ArmorTypeRepository().parseCsv();
+        sections.put(ArmorTypeRepository.RESOURCE_PATH, encode(armor, CatalogSnapshot::writeArmor));
+        rowCounts.put(ArmorTypeRepository.RESOURCE_PATH, armor.size());
+
+        List<Shield> shields = new ShieldRepository().parseCsv();
+        sections.put(ShieldRepository.RESOURCE_PATH, encode(shields, CatalogSnapshot::writeShield));
+        rowCounts.put(ShieldRepository.RESOURCE_PATH, shields.size());
+
+        // Directory size is needed up front to compute the section offsets
+        int headerSize = 12;
+        for (String resource : sections.keySet()) {
+            headerSize += 4 + resource.getBytes(StandardCharsets.UTF_8).length + 8 + 8 + 8 + 4 + 4 + 4;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(sections.size());
+
+            int offset = headerSize;
+            for (Map.Entry<String, byte[]> section : sections.entrySet()) {
+                long[] fingerprint = fingerprint(section.getKey());
+                long[] stat = CatalogSource.stat(section.getKey());
+                writeString(out, section.getKey());
+                out.writeLong(fingerprint[0]);
+                out.writeLong(fingerprint[1]);
+                out.writeLong(stat != null && stat[0] == fingerprint[1] ? stat[1] : UNKNOWN_MODIFIED);
+                out.writeInt(rowCounts.get(section.getKey()));
+                out.writeInt(offset);
+                out.writeInt(section.getValue().length);
+                offset += section.getValue().length;
+            }
+            for (byte[] body : sections.values()) {
+                out.write(body);
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, "catalog", ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads one catalog section from the configured snapshot.
+     * @return the decoded rows, or null if there is no usable, up-to-date snapshot
+     */
+    static <T> List<T> read(String resource, RowReader<T> rowReader) {
+        String location = System.getProperty(SNAPSHOT_PROPERTY);
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        Path path = Paths.get(location);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try {
+            Mapping snapshot = map(path);
+            Section section = snapshot.sections.get(resource);
+            if (section == null) {
+                return null;
+            }
+            if (!isCurrent(resource, section)) {
+                System.err.println("Catalog snapshot is stale for " + resource + ", reading CSV instead");
+                return null;
+            }
+
+            ByteBuffer body = snapshot.buffer.duplicate();
+            body.limit(section.offset + section.length).position(section.offset);
+            List<T> result = new ArrayList<>(section.rows);
+            for (int row = 0; row < section.rows; row++) {
+                result.add(rowReader.read(body));
+            }
+            return Collections.unmodifiableList(result);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            System.err.println("Unable to read catalog snapshot " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Maps the snapshot and reads its section directory, or returns the
+     * previous mapping while the file is unchanged
+     */
+    private static synchronized Mapping map(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (mapping != null && mapping.isOf(path, attributes)) {
+            return mapping;
+        }
+
+        Map<String, Section> sections = new HashMap<>();
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            System.err.println("Ignoring catalog snapshot with unknown format: " + path);
+        } else {
+            int sectionCount = buffer.getInt();
+            for (int i = 0; i < sectionCount; i++) {
+                String name = readString(buffer);
+                sections.put(name, new Section(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                        buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            }
+        }
+        mapping = new Mapping(path, attributes, buffer, sections);
+        return mapping;
+    }
+
+    /**
+     * Whether the CSV still matches what the section was built from. The CSV
+     * is only read, to compute its CRC32, when its modification time differs.
+     */
+    private static boolean isCurrent(String resource, Section section) throws IOException {
+        long[] stat = CatalogSource.stat(resource);
+        if (stat != null) {
+            if (stat[0] != section.sourceLength) {
+                return false;
+            }
+            if (stat[1] == section.sourceModified) {
+                return true;
+            }
+        }
+        long[] fingerprint = fingerprint(resource);
+        return fingerprint[0] == section.crc && fingerprint[1] == section.sourceLength;
+    }
+
+    /**
+     * CRC32 and byte length of a catalog CSV, used to detect stale snapshots
+     */
+    static long[] fingerprint(String resource) throws IOException {
+        try (InputStream in = CatalogSource.open(resource)) {
+            if (in == null) {
+                throw new IOException("Resource not found: " + resource);
+            }
+            CRC32 crc = new CRC32();
+            byte[] chunk = new byte[8192];
+            long length = 0;
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                crc.update(chunk, 0, read);
+                length += read;
+            }
+            return new long[] {crc.getValue(), length};
+        }
+    }
+
+    /**
+     * Directory entry of one catalog section
+     */
+    private static final class Section {
+        private final long crc;
+        private final long sourceLength;
+        private final long sourceModified;
+        private final int rows;
+        private final int offset;
+        private final int length;
+
+        Section(long crc, long sourceLength, long sourceModified, int rows, int offset, int length) {
+            this.crc = crc;
+            this.sourceLength = sourceLength;
+            this.sourceModified = sourceModified;
+            this.rows = rows;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * A mapped snapshot file with its section directory; no sections when the format is unknown
+     */
+    private static final class Mapping {
+        private final Path path;
+        private final Object fileKey;
+        private final long size;
+        private final FileTime modified;
+        private final ByteBuffer buffer;
+        private final Map<String, Section> sections;
+
+        Mapping(Path path, BasicFileAttributes attributes, ByteBuffer buffer, Map<String, Section> sections) {
+            this.path = path;
+            this.fileKey = attributes.fileKey();
+            this.size = attributes.size();
+            this.modified = attributes.lastModifiedTime();
+            this.buffer = buffer;
+            this.sections = sections;
+        }
+
+        boolean isOf(Path other, BasicFileAttributes attributes) {
+            return path.equals(other)
+                    && Objects.equals(fileKey, attributes.fileKey())
+                    && size == attributes.size()
+                    && modified.equals(attributes.lastModifiedTime());
+        }
+    }
+
+    private static <T> byte[] encode(List<T> rows, RowWriter<T> writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (T row : rows) {
+                writer.write(out, row);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    // Row codecs; field order must match between write and read
+
+    private static void writeChassis(DataOutputStream out, MechChassis chassis) throws IOException {
+        writeString(out, chassis.getName());
+        writeString(out, chassis.getChassisSize());
+        out.writeInt(chassis.getTonnage());
+        out.writeInt(chassis.getMaxArmorTonnage());
+        out.writeInt(chassis.getHexSpeed());
+        for (String section : MechChassisRepository.HARDPOINT_SECTIONS) {
+            writeString(out, chassis.getHardpoints(SectionId.fromName(section)).toString());
+        }
+    }
+
+    static MechChassis readChassis(ByteBuffer in) {
+        String name = readString(in);
+        String chassisSize = readString(in);
+        int tonnage = in.getInt();
+        int maxArmorTonnage = in.getInt();
+        int hexSpeed = in.getInt();
+        Map<SectionId, Hardpoints> hardpoints = new EnumMap<>(SectionId.class);
+        for (String section : MechChassisRepository.HARDPOINT_SECTIONS) {
+            hardpoints.put(SectionId.fromName(section), Hardpoints.parse(readString(in)));
+        }
+        return MechChassis.withHardpoints(name, chassisSize, tonnage, maxArmorTonnage, hexSpeed, hardpoints);
+    }
+
+    private static void writeWeapon(DataOutputStream out, WeaponComponent weapon) throws IOException {
+        writeString(out, weapon.getName());
+        writeString(out, weapon.getType());
+        out.writeDouble(weapon.getTonnage());
+        out.writeDouble(weapon.getHeatGeneration());
+        out.writeInt(weapon.getDamage());
+        out.writeInt(weapon.getOptimalRange());
+        out.writeInt(weapon.getMaxRange());
+        out.writeDouble(weapon.getRecycleTime());
+        out.writeInt(weapon.getAccuracyPenalty());
+        out.writeInt(weapon.getShotsperSalvo());
+        out.writeDouble(weapon.getDamageDrop());
+    }
+
+    static WeaponComponent readWeapon(ByteBuffer in) {
+        return new WeaponComponent(readString(in), readString(in), in.getDouble(), in.getDouble(),
+                in.getInt(), in.getInt(), in.getInt(), in.getDouble(), in.getInt(), in.getInt(), in.getDouble());
+    }
+
+    private static void writeSlots(DataOutputStream out, SlotConfiguration config) throws IOException {
+        writeString(out, config.getMechSize());
+        out.writeInt(config.getLeftArmSlots());
+        out.writeInt(config.getLeftTorsoSlots());
+        out.writeInt(config.getCockpitSlots());
+        out.writeInt(config.getCenterTorsoSlots());
+        out.writeInt(config.getRightTorsoSlots());
+        out.writeInt(config.getRightArmSlots());
+        out.writeInt(config.getLeftLegSlots());
+        out.writeInt(config.getRightLegSlots());
+    }
+
+    static SlotConfiguration readSlots(ByteBuffer in) {
+        return new SlotConfiguration(readString(in), in.getInt(), in.getInt(), in.getInt(),
+                in.getInt(), in.getInt(), in.getInt(), in.getInt(), in.getInt());
+    }
+
+    private static void writeArmor(DataOutputStream out, ArmorType armor) throws IOException {
+        writeString(out, armor.getArmorType());
+        out.writeInt(armor.getHpPerTon());
+        writeString(out, armor.getType());
+    }
+
+    static ArmorType readArmor(ByteBuffer in) {
+        return new ArmorType(readString(in), in.getInt(), readString(in));
+    }
+
+    private static void writeShield(DataOutputStream out, Shield shield) throws IOException {
+        writeString(out, shield.getShield());
+        out.writeInt(shield.getHp());
+        out.writeInt(shield.getRechargeRate());
+        out.writeInt(shield.getRechargeDelay());
+        out.writeDouble(shield.getTonnage());
+        out.writeInt(shield.getHeatGenerated());
+        out.writeInt(shield.getRechargingHeat());
+    }
+
+    static Shield readShield(ByteBuffer in) {
+        return new Shield(readString(in), in.getInt(), in.getInt(), in.getInt(),
+                in.getDouble(), in.getInt(), in.getInt());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.mechbuilder.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+
+/**
+ * Resolves catalog files for the repositories.
+ *
+ * When an external data directory is configured, a catalog file found there
+ * overrides the copy bundled on the classpath; files missing from the
+ * directory still fall back to the bundled ones. The directory is read from
+ * the {@code mechbuilder.data.dir} system property at startup and can be
+ * changed at runtime.
+ */
+public final class CatalogSource {
+    public static final String DATA_DIR_PROPERTY = "mechbuilder.data.dir";
+
+    private static volatile Path dataDirectory = initialDirectory();
+
+    private CatalogSource() {
+    }
+
+    /**
+     * The external data directory, if one is configured
+     */
+    public static Optional<Path> getDataDirectory() {
+        return Optional.ofNullable(dataDirectory);
+    }
+
+    /**
+     * Points the repositories at a different data directory, or back at the
+     * bundled catalogs when null. Cached catalogs are discarded so the next
+     * access reads from the new location.
+     */
+    public static void setDataDirectory(Path directory) {
+        dataDirectory = directory;
+        CatalogCache.getInstance().invalidateAll();
+    }
+
+    /**
+     * Opens a catalog file, preferring the data directory over the classpath
+     * @return the stream, or null when the file exists in neither place
+     */
+    static InputStream open(String resource) throws IOException {
+        Path directory = dataDirectory;
+        if (directory != null) {
+            Path file = directory.resolve(resource);
+            if (Files.isRegularFile(file)) {
+                return Files.newInputStream(file);
+            }
+        }
+        return CatalogSource.class.getClassLoader().getResourceAsStream(resource);
+    }
+
+    /**
+     * Byte length and last-modified time of a catalog file, taken from the
+     * file system or the jar directory without reading the file
+     * @return {length, lastModifiedMillis}, or null when the file is missing
+     *         or its location cannot be inspected cheaply
+     */
+    static long[] stat(String resource) throws IOException {
+        Path directory = dataDirectory;
+        if (directory != null) {
+            Path file = directory.resolve(resource);
+            if (Files.isRegularFile(file)) {
+                return stat(file);
+            }
+        }
+        URL url = CatalogSource.class.getClassLoader().getResource(resource);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return stat(Paths.get(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+            return new long[] {entry.getSize(), entry.getTime()};
+        }
+        return null;
+    }
+
+    private static long[] stat(Path file) throws IOException {
+        return new long[] {Files.size(file), Files.getLastModifiedTime(file).toMillis()};
+    }
+
+    private static Path initialDirectory() {
+        String configured = System.getProperty(DATA_DIR_PROPERTY);
+        return configured == null || configured.isBlank() ? null : Paths.get(configured);
+    }
+}
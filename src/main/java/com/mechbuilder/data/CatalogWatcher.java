@@ -0,0 +1,226 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.ArmorType;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.SlotConfiguration;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches an external data directory and hot-reloads catalog files as they change.
+ *
+ * Only the catalog whose file changed is parsed again. The new rows are
+ * compared with the current ones and listeners receive the updated
+ * {@link Catalog} together with a {@link CatalogDiff} of added, removed and
+ * changed entries, so open builders can patch themselves instead of
+ * rebuilding. A file that fails to parse (for example while an editor is
+ * half-way through saving) is reported and the previous catalog is kept.
+ */
+public final class CatalogWatcher implements Closeable {
+    // Editors often write a file in several steps; wait for the burst to settle
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    /**
+     * Notified on the watcher thread after a catalog file has been reloaded
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void catalogUpdated(Catalog catalog, CatalogDiff<?> diff);
+    }
+
+    private final Path directory;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Catalog catalog;
+    private WatchService watchService;
+    private Thread thread;
+
+    public CatalogWatcher(Path directory, Catalog initial) {
+        this.directory = directory;
+        this.catalog = initial;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * The most recently published catalog
+     */
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Starts watching the directory on a background daemon thread
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        thread = new Thread(this::watchLoop, "catalog-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            thread.interrupt();
+            watchService = null;
+            thread = null;
+        }
+    }
+
+    /**
+     * Re-parses the catalog stored in the given file and publishes the
+     * differences to listeners.
+     * @return the diff, or null when the file is not a catalog file
+     */
+    synchronized CatalogDiff<?> refresh(String fileName) throws IOException, CsvValidationException {
+        Catalog current = catalog;
+        CatalogDiff<?> diff;
+        Catalog updated;
+
+        switch (fileName) {
+            case MechChassisRepository.RESOURCE_PATH: {
+                List<MechChassis> chassis = new MechChassisRepository().reload();
+                diff = CatalogDiff.compute("Chassis", MechChassis.class, current.getChassis(), chassis,
+                        MechChassis::getName, CatalogWatcher::sameChassis);
+                updated = current.withChassis(chassis);
+                break;
+            }
+            case WeaponRepository.RESOURCE_PATH: {
+                WeaponTable weapons = new WeaponRepository().reloadTable();
+                diff = CatalogDiff.compute("Weapons", WeaponComponent.class, current.getWeapons(), weapons.getWeapons(),
+                        WeaponComponent::getName, CatalogWatcher::sameWeapon);
+                updated = current.withWeapons(weapons);
+                break;
+            }
+            case SlotRepository.RESOURCE_PATH: {
+                List<SlotConfiguration> slots = new SlotRepository().reload();
+                diff = CatalogDiff.compute("Slots", SlotConfiguration.class, current.getSlotConfigurations(), slots,
+                        SlotConfiguration::getMechSize, (a, b) -> a.toString().equals(b.toString()));
+                updated = current.withSlotConfigurations(slots);
+                break;
+            }
+            case ArmorTypeRepository.RESOURCE_PATH: {
+                List<ArmorType> armorTypes = new ArmorTypeRepository().reload();
+                diff = CatalogDiff.compute("Armor", ArmorType.class, current.getArmorTypes(), armorTypes,
+                        ArmorType::getArmorType, ArmorType::equals);
+                updated = current.withArmorTypes(armorTypes);
+                break;
+            }
+            case ShieldRepository.RESOURCE_PATH: {
+                List<Shield> shields = new ShieldRepository().reload();
+                diff = CatalogDiff.compute("Shields", Shield.class, current.getShields(), shields,
+                        Shield::getShield, Shield::equals);
+                updated = current.withShields(shields);
+                break;
+            }
+            default:
+                return null;
+        }
+
+        catalog = updated;
+        if (!diff.isEmpty()) {
+            for (Listener listener : listeners) {
+                listener.catalogUpdated(updated, diff);
+            }
+        }
+        return diff;
+    }
+
+    private void watchLoop() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                Set<String> changedFiles = new LinkedHashSet<>();
+                collect(service.take(), changedFiles);
+
+                WatchKey more;
+                while ((more = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(more, changedFiles);
+                }
+
+                for (String fileName : changedFiles) {
+                    try {
+                        refresh(fileName);
+                    } catch (IOException | CsvValidationException | RuntimeException e) {
+                        System.err.println("Unable to reload " + fileName + ": " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watcher closed
+        }
+    }
+
+    private static void collect(WatchKey key, Set<String> changedFiles) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path) {
+                changedFiles.add(((Path) event.context()).getFileName().toString());
+            }
+        }
+        key.reset();
+    }
+
+    private static boolean sameChassis(MechChassis a, MechChassis b) {
+        return a.getChassisSize().equals(b.getChassisSize())
+                && a.getTonnage() == b.getTonnage()
+                && a.getMaxArmorTonnage() == b.getMaxArmorTonnage()
+                && a.getHexSpeed() == b.getHexSpeed()
+                && a.getHardpoints().equals(b.getHardpoints())
+                && sameHardpointLayout(a, b);
+    }
+
+    // Totals alone miss edits such as "2E" to "2B" that keep the count
+    private static boolean sameHardpointLayout(MechChassis a, MechChassis b) {
+        for (SectionId sectionId : SectionId.values()) {
+            if (!a.getHardpoints(sectionId).equals(b.getHardpoints(sectionId))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameWeapon(WeaponComponent a, WeaponComponent b) {
+        return a.getType().equals(b.getType())
+                && a.getTonnage() == b.getTonnage()
+                && a.getHeatGeneration() == b.getHeatGeneration()
+                && a.getDamage() == b.getDamage()
+                && a.getOptimalRange() == b.getOptimalRange()
+                && a.getMaxRange() == b.getMaxRange()
+                && a.getRecycleTime() == b.getRecycleTime()
+                && a.getAccuracyPenalty() == b.getAccuracyPenalty()
+                && a.getShotsperSalvo() == b.getShotsperSalvo()
+                && a.getDamageDrop() == b.getDamageDrop();
+    }
+}
@@ -0,0 +1,341 @@
+package com.mechbuilder.data;
+
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming, allocation-light reader for the catalog CSV files.
+ *
+ * Characters are decoded into one reusable char buffer and each row is
+ * described by field start/end offsets into that buffer. Numeric fields are
+ * parsed in place, so a row of numbers costs no intermediate Strings; only
+ * text fields that are actually requested are materialised. Handles a
+ * leading UTF-8 BOM, CRLF or LF line endings, and RFC 4180 quoting
+ * (e.g. {@code "Cannon, 120mm"} and doubled {@code ""} escapes).
+ */
+final class CsvRowReader implements Closeable {
+    private static final int INITIAL_BUFFER = 64 * 1024;
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Reader reader;
+    private char[] buffer = new char[INITIAL_BUFFER];
+    private int limit;
+    private int position;
+    private boolean endOfInput;
+    private boolean firstRead = true;
+
+    // Current row
+    private int rowStart;
+    private int rowEnd;
+    private int fieldCount;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private boolean[] fieldEscaped = new boolean[16];
+
+    CsvRowReader(InputStream inputStream) {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Advances to the next row.
+     * @return false once the input is exhausted
+     */
+    boolean nextRow() throws IOException, CsvValidationException {
+        rowStart = position;
+        int scan = position;
+        boolean inQuotes = false;
+
+        // Find the end of the row, refilling the buffer as needed; newlines inside quotes do not end it
+        while (true) {
+            if (scan == limit) {
+                if (endOfInput) {
+                    break;
+                }
+                scan -= compactAndFill();
+                continue;
+            }
+            char c = buffer[scan];
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == '\n' && !inQuotes) {
+                break;
+            }
+            scan++;
+        }
+
+        if (scan == rowStart && endOfInput) {
+            fieldCount = 0;
+            return false;
+        }
+        if (inQuotes) {
+            throw new CsvValidationException("Unterminated quoted field: " + new String(buffer, rowStart, scan - rowStart));
+        }
+
+        // Line terminator is consumed but not part of the row
+        position = scan < limit ? scan + 1 : scan;
+        rowEnd = scan > rowStart && buffer[scan - 1] == '\r' ? scan - 1 : scan;
+        splitFields();
+        return true;
+    }
+
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    String getString(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+        if (!fieldEscaped[field]) {
+            return new String(buffer, start, end - start);
+        }
+        StringBuilder value = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            value.append(buffer[i]);
+            if (buffer[i] == '"') {
+                i++; // Skip the second quote of an escaped pair
+            }
+        }
+        return value.toString();
+    }
+
+    String getTrimmedString(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+        while (start < end && buffer[start] <= ' ') start++;
+        while (end > start && buffer[end - 1] <= ' ') end--;
+        if (fieldEscaped[field]) {
+            return getString(field).trim();
+        }
+        return new String(buffer, start, end - start);
+    }
+
+    /**
+     * Parses an int field in place; surrounding whitespace is ignored
+     */
+    int getInt(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+        while (start < end && buffer[start] <= ' ') start++;
+        while (end > start && buffer[end - 1] <= ' ') end--;
+        if (start == end) {
+            throw malformed(field);
+        }
+
+        boolean negative = false;
+        if (buffer[start] == '-' || buffer[start] == '+') {
+            negative = buffer[start] == '-';
+            start++;
+            if (start == end) {
+                throw malformed(field);
+            }
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw malformed(field);
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw malformed(field);
+            }
+        }
+        if (negative) {
+            value = -value;
+        }
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            throw malformed(field);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a double field in place. Plain decimals with up to 15 significant
+     * digits are computed exactly from the digits; anything else (exponents,
+     * longer mantissas, NaN/Infinity) goes through Double.parseDouble.
+     */
+    double getDouble(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+        while (start < end && buffer[start] <= ' ') start++;
+        while (end > start && buffer[end - 1] <= ' ') end--;
+        if (start == end) {
+            throw malformed(field);
+        }
+
+        int i = start;
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                // Leading zeros are not significant
+                if (mantissa != 0 || c != '0') {
+                    digits++;
+                    if (digits > MAX_FAST_DIGITS) {
+                        return slowDouble(field, start, end);
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if (seenPoint) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                return slowDouble(field, start, end);
+            }
+        }
+        if (!seenDigit) {
+            throw malformed(field);
+        }
+        if (fractionDigits >= POWERS_OF_TEN.length) {
+            return slowDouble(field, start, end);
+        }
+
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Raw text of the current row, for error messages
+     */
+    String getRowText() {
+        return new String(buffer, rowStart, rowEnd - rowStart);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void splitFields() {
+        fieldCount = 0;
+        int i = rowStart;
+        while (true) {
+            ensureFieldCapacity();
+            int start;
+            int end;
+            boolean escaped = false;
+
+            if (i < rowEnd && buffer[i] == '"') {
+                start = ++i;
+                while (i < rowEnd) {
+                    if (buffer[i] == '"') {
+                        if (i + 1 < rowEnd && buffer[i + 1] == '"') {
+                            escaped = true;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                end = i;
+                if (i < rowEnd) {
+                    i++; // Skip the closing quote
+                }
+                // Tolerate stray characters between the closing quote and the delimiter
+                while (i < rowEnd && buffer[i] != ',') i++;
+            } else {
+                start = i;
+                while (i < rowEnd && buffer[i] != ',') i++;
+                end = i;
+            }
+
+            fieldStarts[fieldCount] = start;
+            fieldEnds[fieldCount] = end;
+            fieldEscaped[fieldCount] = escaped;
+            fieldCount++;
+
+            if (i >= rowEnd) {
+                return;
+            }
+            i++; // Skip the comma
+        }
+    }
+
+    /**
+     * Moves the unread part of the buffer to the front and reads more input.
+     * @return how far the unread data moved, so callers can rebase offsets
+     */
+    private int compactAndFill() throws IOException {
+        int shift = rowStart;
+        int remaining = limit - rowStart;
+        if (shift > 0) {
+            System.arraycopy(buffer, rowStart, buffer, 0, remaining);
+        } else if (remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        rowStart = 0;
+        position -= shift;
+        limit = remaining;
+
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+            if (firstRead) {
+                firstRead = false;
+                if (limit > 0 && buffer[0] == '\uFEFF') {
+                    System.arraycopy(buffer, 1, buffer, 0, limit - 1);
+                    limit--;
+                }
+            }
+        }
+        return shift;
+    }
+
+    private void ensureFieldCapacity() {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+        }
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + field + " of " + fieldCount);
+        }
+    }
+
+    private double slowDouble(int field, int start, int end) {
+        try {
+            return Double.parseDouble(new String(buffer, start, end - start));
+        } catch (NumberFormatException e) {
+            throw malformed(field);
+        }
+    }
+
+    private NumberFormatException malformed(int field) {
+        return new NumberFormatException("Not a number in field " + field + ": \"" + getString(field) + "\"");
+    }
+}
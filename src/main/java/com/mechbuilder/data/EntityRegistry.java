@@ -0,0 +1,132 @@
+package com.mechbuilder.data;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dense integer IDs for the entries of one catalog.
+ *
+ * A fresh registry gives each entry its position in the catalog list. A
+ * registry built with {@link #reload} for a reloaded list keeps every name's
+ * previous ID and appends IDs for names it has not seen, so inserting,
+ * reordering or removing rows never moves another entry's ID. IDs of removed
+ * entries stay reserved and resolve to null. All IDs fall in [0, capacity())
+ * and can index primitive arrays directly (loadouts, simulation state, builds
+ * kept across hot reloads). IDs are assigned per session: store names, not
+ * IDs, in anything that must outlive the process. Looking up an entity by ID
+ * and an ID by name or by entity are all constant time.
+ */
+public final class EntityRegistry<T> {
+    /** Returned by lookups that find no entry */
+    public static final int NO_ID = -1;
+
+    private final Function<T, String> nameExtractor;
+    private final List<T> entities;
+    private final Object[] entitiesById;           // null for IDs whose entry was removed
+    private final Map<String, Integer> idsByKey;    // every key ever seen, carried over by reload
+    private final Map<String, Integer> idsByName;
+    private final Map<T, Integer> idsByEntity;
+
+    public EntityRegistry(List<T> entities, Function<T, String> nameExtractor) {
+        this(entities, nameExtractor, Map.of());
+    }
+
+    private EntityRegistry(List<T> entities, Function<T, String> nameExtractor, Map<String, Integer> previousIds) {
+        this.nameExtractor = nameExtractor;
+        this.entities = List.copyOf(entities);
+        this.idsByKey = new HashMap<>(previousIds);
+        this.idsByName = new HashMap<>();
+        this.idsByEntity = new IdentityHashMap<>();
+        int[] ids = new int[this.entities.size()];
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (int row = 0; row < ids.length; row++) {
+            T entity = this.entities.get(row);
+            String name = nameExtractor.apply(entity);
+            // Later rows with a repeated name are told apart by how many came before them
+            int seen = occurrences.merge(name, 1, Integer::sum) - 1;
+            String key = seen == 0 ? name : name + '\0' + seen;
+            Integer id = idsByKey.get(key);
+            if (id == null) {
+                id = idsByKey.size();
+                idsByKey.put(key, id);
+            }
+            ids[row] = id;
+            idsByName.putIfAbsent(name, id); // First row wins, as in the name lookups
+            idsByEntity.put(entity, id);
+        }
+        this.entitiesById = new Object[idsByKey.size()];
+        for (int row = 0; row < ids.length; row++) {
+            entitiesById[ids[row]] = this.entities.get(row);
+        }
+    }
+
+    /**
+     * Registry for a reloaded list that keeps the IDs this one gave out
+     */
+    public EntityRegistry<T> reload(List<T> updated) {
+        return new EntityRegistry<>(updated, nameExtractor, idsByKey);
+    }
+
+    /**
+     * Number of entries in the catalog
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * One past the highest ID ever given out, for sizing ID-indexed arrays
+     */
+    public int capacity() {
+        return entitiesById.length;
+    }
+
+    /**
+     * The entity with the given ID, or null when a reload removed it
+     * @throws IndexOutOfBoundsException if the ID is not in [0, capacity())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        if (id < 0 || id >= entitiesById.length) {
+            throw new IndexOutOfBoundsException("ID " + id + " out of bounds for capacity " + entitiesById.length);
+        }
+        return (T) entitiesById[id];
+    }
+
+    /**
+     * ID of the first entry with this name, or NO_ID
+     */
+    public int idOfName(String name) {
+        Integer id = idsByName.get(name);
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * ID of this exact entity instance, or NO_ID when it is not part of the catalog
+     */
+    public int idOf(T entity) {
+        Integer id = idsByEntity.get(entity);
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * True when the ID belongs to an entry of the current catalog
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < entitiesById.length && entitiesById[id] != null;
+    }
+
+    /**
+     * IDs of the given entities, NO_ID for any that are not in the catalog
+     */
+    public int[] idsOf(List<T> list) {
+        int[] ids = new int[list.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idOf(list.get(i));
+        }
+        return ids;
+    }
+}
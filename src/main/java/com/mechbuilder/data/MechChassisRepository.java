@@ -1,68 +1,118 @@
 package com.mechbuilder.data;
 
-import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
+import com.mechbuilder.model.Hardpoints;
 import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.*;
 
 public class MechChassisRepository {
-    private static final String RESOURCE_PATH = "Mech Loadout Data.csv";
+    static final String RESOURCE_PATH = "Mech Loadout Data.csv";
     
+    // Hardpoint columns 5-10 of the CSV, in file order
+    static final String[] HARDPOINT_SECTIONS = {
+        "Left Arm", "Left Torso", "Head", "Center Torso", "Right Torso", "Right Arm"
+    };
+    
+    /**
+     * Returns the shared, immutable chassis catalog, parsing the CSV on first use
+     */
     public List<MechChassis> loadAll() throws IOException, CsvValidationException {
+        return index().chassisList;
+    }
+    
+    /**
+     * Discards the cached chassis and parses the CSV again
+     */
+    public List<MechChassis> reload() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().reload(RESOURCE_PATH, this::buildIndex).chassisList;
+    }
+    
+    private ChassisIndex index() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().get(RESOURCE_PATH, this::buildIndex);
+    }
+    
+    private ChassisIndex buildIndex() throws IOException, CsvValidationException {
+        return new ChassisIndex(parseAll());
+    }
+    
+    /**
+     * Loads rows from the precompiled snapshot when one is configured and current, otherwise from CSV
+     */
+    private List<MechChassis> parseAll() throws IOException, CsvValidationException {
+        List<MechChassis> snapshot = CatalogSnapshot.read(RESOURCE_PATH, CatalogSnapshot::readChassis);
+        return snapshot != null ? snapshot : parseCsv();
+    }
+    
+    List<MechChassis> parseCsv() throws IOException, CsvValidationException {
         List<MechChassis> chassisList = new ArrayList<>();
 
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        InputStream inputStream = CatalogSource.open(RESOURCE_PATH);
         if (inputStream == null) {
             throw new IOException("Resource not found: " + RESOURCE_PATH);
         }
 
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            String[] header = reader.readNext(); // Read header row
-            if (header == null) {
+        try (CsvRowReader reader = new CsvRowReader(inputStream)) {
+            if (!reader.nextRow()) { // Read header row
                 throw new IOException("CSV file is empty or improperly formatted.");
             }
 
-            while (true) {
-                String[] row = reader.readNext();
-                if (row == null) break;
+            while (reader.nextRow()) {
 
-                if (row.length < 11) continue; // Make sure there are enough columns
+                if (reader.getFieldCount() < 11) continue; // Make sure there are enough columns
 
-                String name = row[0];
-                String chassisSize = row[1];
-                int tonnage = Integer.parseInt(row[2]);
-                int maxArmorTonnage = Integer.parseInt(row[3]);
-                int hexSpeed = Integer.parseInt(row[4]);
+                String name = reader.getString(0);
+                String chassisSize = reader.getString(1);
+                int tonnage = reader.getInt(2);
+                int maxArmorTonnage = reader.getInt(3);
+                int hexSpeed = reader.getInt(4);
 
-                Map<String, Integer> hardpoints = new HashMap<>();
-                hardpoints.put("Left Arm", Integer.parseInt(row[5]));
-                hardpoints.put("Left Torso", Integer.parseInt(row[6]));
-                hardpoints.put("Head", Integer.parseInt(row[7]));
-                hardpoints.put("Center Torso", Integer.parseInt(row[8]));
-                hardpoints.put("Right Torso", Integer.parseInt(row[9]));
-                hardpoints.put("Right Arm", Integer.parseInt(row[10]));
+                // Cells hold a plain count or typed groups such as "2E1M"
+                Map<SectionId, Hardpoints> hardpoints = new EnumMap<>(SectionId.class);
+                for (int i = 0; i < HARDPOINT_SECTIONS.length; i++) {
+                    hardpoints.put(SectionId.fromName(HARDPOINT_SECTIONS[i]), parseHardpoints(reader, 5 + i));
+                }
 
-                MechChassis chassis = new MechChassis(name, chassisSize, tonnage, maxArmorTonnage, hexSpeed, hardpoints);
+                MechChassis chassis = MechChassis.withHardpoints(name, chassisSize, tonnage, maxArmorTonnage, hexSpeed,
+                        hardpoints);
                 chassisList.add(chassis);
             }
         }
 
-        return chassisList;
+        return List.copyOf(chassisList);
+    }
+    
+    private static Hardpoints parseHardpoints(CsvRowReader reader, int field) {
+        try {
+            return Hardpoints.parse(reader.getTrimmedString(field));
+        } catch (IllegalArgumentException e) {
+            throw new NumberFormatException("Bad hardpoints in field " + field + ": " + e.getMessage());
+        }
     }
     
     public Optional<MechChassis> findByName(String name) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(chassis -> chassis.getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(index().byName.get(name));
     }
     
     public List<MechChassis> findBySize(String chassisSize) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(chassis -> chassis.getChassisSize().equals(chassisSize))
-                .toList();
+        return index().bySize.getOrDefault(chassisSize, List.of());
+    }
+    
+    /**
+     * Parsed chassis catalog plus the lookup indexes built from it
+     */
+    private static final class ChassisIndex {
+        private final List<MechChassis> chassisList;
+        private final Map<String, MechChassis> byName;
+        private final Map<String, List<MechChassis>> bySize;
+        
+        ChassisIndex(List<MechChassis> chassisList) {
+            this.chassisList = chassisList;
+            this.byName = CatalogIndexes.uniqueBy(chassisList, MechChassis::getName);
+            this.bySize = CatalogIndexes.groupBy(chassisList, MechChassis::getChassisSize);
+        }
     }
-}
\ No newline at end of file
+}
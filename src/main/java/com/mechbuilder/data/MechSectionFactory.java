@@ -1,91 +1,192 @@
 package com.mechbuilder.data;
 
+import com.mechbuilder.model.Hardpoints;
 import com.mechbuilder.model.MechChassis;
 import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
 import com.mechbuilder.model.SlotConfiguration;
 import com.opencsv.exceptions.CsvValidationException;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory for creating complete MechSections by combining:
  * - Hardpoint data from MechChassis (from Mech Loadout Data.csv)
  * - Slot data from SlotConfiguration (from Slot Count.csv)
+ *
+ * Sections are built once per chassis as templates and handed out as cheap
+ * undamaged copies, so creating many mechs of the same chassis does not redo
+ * the slot lookup or the per-section setup. Slot counts are likewise resolved
+ * once per size class. The factory is safe to share between threads.
  */
 public class MechSectionFactory {
+    private static final MechSectionFactory DEFAULT = new MechSectionFactory();
+    
     private final SlotRepository slotRepository;
+    private final Catalog catalog; // When set, slot data comes from the preloaded catalog
     
-    // Mapping between CSV column names and section names
-    private static final Map<String, String> SECTION_MAPPING = new HashMap<>();
-    static {
-        SECTION_MAPPING.put("Left Arm", "L Arm Hardpoint");
-        SECTION_MAPPING.put("Left Torso", "L Torso Hardpoint");
-        SECTION_MAPPING.put("Head", "Head Hardpoint");
-        SECTION_MAPPING.put("Center Torso", "C Torso Hardpoint");
-        SECTION_MAPPING.put("Right Torso", "R Torso Hardpoint");
-        SECTION_MAPPING.put("Right Arm", "R Arm Hardpoint");
-    }
+    // Templates are keyed by chassis instance; a reloaded chassis is a new instance and gets new templates
+    private final Map<MechChassis, ChassisTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<SlotConfiguration, int[]> slotsBySizeClass = new ConcurrentHashMap<>();
     
     public MechSectionFactory() {
         this.slotRepository = new SlotRepository();
+        this.catalog = null;
+    }
+    
+    /**
+     * Creates a factory that resolves slot configurations from an already loaded catalog
+     */
+    public MechSectionFactory(Catalog catalog) {
+        this.slotRepository = null;
+        this.catalog = catalog;
+    }
+    
+    /**
+     * Shared factory backed by the slot repository, so its templates are reused by every caller
+     */
+    public static MechSectionFactory getDefault() {
+        return DEFAULT;
     }
     
     /**
-     * Creates complete MechSections for a chassis, combining hardpoint and slot data
+     * Creates complete MechSections for a chassis, combining hardpoint and slot data.
+     * Every call returns new, undamaged sections copied from the chassis template.
+     */
+    public EnumMap<SectionId, MechSection> createSections(MechChassis chassis)
+            throws IOException, CsvValidationException {
+        MechSection[] template = templateFor(chassis);
+        EnumMap<SectionId, MechSection> sections = new EnumMap<>(SectionId.class);
+        for (int i = 0; i < template.length; i++) {
+            sections.put(SectionId.ofOrdinal(i), template[i].copy());
+        }
+        return sections;
+    }
+    
+    /**
+     * Sections {@link #createSections(MechChassis)} builds for a chassis, without copying them
+     */
+    public EnumSet<SectionId> getSectionIds(MechChassis chassis) throws IOException, CsvValidationException {
+        MechSection[] template = templateFor(chassis);
+        EnumSet<SectionId> ids = EnumSet.noneOf(SectionId.class);
+        for (int i = 0; i < template.length; i++) {
+            if (template[i] != null) {
+                ids.add(SectionId.ofOrdinal(i));
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Name-keyed form of {@link #createSections(MechChassis)}
      */
     public Map<String, MechSection> createSectionsForChassis(MechChassis chassis) 
             throws IOException, CsvValidationException {
-        
+        Map<String, MechSection> sections = new HashMap<>();
+        for (Map.Entry<SectionId, MechSection> entry : createSections(chassis).entrySet()) {
+            sections.put(entry.getKey().getDisplayName(), entry.getValue());
+        }
+        return sections;
+    }
+    
+    /**
+     * Drops every cached template, e.g. after the slot catalog was edited in place
+     */
+    public void clearTemplates() {
+        templates.clear();
+        slotsBySizeClass.clear();
+    }
+    
+    /**
+     * Section templates for the chassis, indexed by SectionId ordinal. Never handed out directly.
+     */
+    private MechSection[] templateFor(MechChassis chassis) throws IOException, CsvValidationException {
+        // Resolving the slot configuration is a map lookup; it also tells us when the slot catalog was reloaded
+        SlotConfiguration config = findSlotConfiguration(chassis);
+        ChassisTemplate template = templates.get(chassis);
+        if (template == null || template.config != config) {
+            template = new ChassisTemplate(config, buildSections(chassis, slotsFor(config)));
+            templates.put(chassis, template);
+        }
+        return template.sections;
+    }
+    
+    private SlotConfiguration findSlotConfiguration(MechChassis chassis) throws IOException, CsvValidationException {
         // Get slot configuration for this chassis size
-        Optional<SlotConfiguration> slotConfig = slotRepository.findBySize(chassis.getChassisSize());
+        Optional<SlotConfiguration> slotConfig = catalog != null
+                ? catalog.findSlotConfiguration(chassis.getChassisSize())
+                : slotRepository.findBySize(chassis.getChassisSize());
         if (slotConfig.isEmpty()) {
             throw new IllegalArgumentException("No slot configuration found for chassis size: " + chassis.getChassisSize());
         }
+        return slotConfig.get();
+    }
+    
+    private MechSection[] buildSections(MechChassis chassis, int[] slots) {
+        MechSection[] sections = new MechSection[SectionId.COUNT];
         
-        SlotConfiguration config = slotConfig.get();
-        Map<String, MechSection> sections = new HashMap<>();
-        
-        // Create sections with both hardpoints and slots
-        sections.put("Left Arm", createSection("Left Arm", 
-            chassis.getHardpoints().get("Left Arm"), config.getLeftArmSlots()));
-        
-        sections.put("Left Torso", createSection("Left Torso", 
-            chassis.getHardpoints().get("Left Torso"), config.getLeftTorsoSlots()));
-        
-        sections.put("Head", createSection("Head", 
-            chassis.getHardpoints().get("Head"), config.getCockpitSlots()));
-        
-        sections.put("Center Torso", createSection("Center Torso", 
-            chassis.getHardpoints().get("Center Torso"), config.getCenterTorsoSlots()));
-        
-        sections.put("Right Torso", createSection("Right Torso", 
-            chassis.getHardpoints().get("Right Torso"), config.getRightTorsoSlots()));
-        
-        sections.put("Right Arm", createSection("Right Arm", 
-            chassis.getHardpoints().get("Right Arm"), config.getRightArmSlots()));
-        
-        // Leg sections (usually no hardpoints but have slots)
-        sections.put("Left Leg", createSection("Left Leg", 0, config.getLeftLegSlots()));
-        sections.put("Right Leg", createSection("Right Leg", 0, config.getRightLegSlots()));
-        
+        // Create sections with both hardpoints and slots; legs have no hardpoint column, so they get none
+        for (SectionId id : SectionId.values()) {
+            sections[id.ordinal()] = createSection(id, chassis.getHardpoints(id), slots[id.ordinal()]);
+        }
         return sections;
     }
     
     /**
-     * Creates a single MechSection with hardpoints and slots
-     * For now, assumes all hardpoints are energy (can be enhanced later)
+     * Slot counts of a size class, indexed by SectionId ordinal
      */
-    private MechSection createSection(String name, int totalHardpoints, int totalSlots) {
+    private int[] slotsFor(SlotConfiguration config) {
+        return slotsBySizeClass.computeIfAbsent(config, c -> {
+            int[] slots = new int[SectionId.COUNT];
+            for (SectionId id : SectionId.values()) {
+                slots[id.ordinal()] = slotsFor(c, id);
+            }
+            return slots;
+        });
+    }
+    
+    private static int slotsFor(SlotConfiguration config, SectionId id) {
+        switch (id) {
+            case LEFT_ARM: return config.getLeftArmSlots();
+            case LEFT_TORSO: return config.getLeftTorsoSlots();
+            case HEAD: return config.getCockpitSlots();
+            case CENTER_TORSO: return config.getCenterTorsoSlots();
+            case RIGHT_TORSO: return config.getRightTorsoSlots();
+            case RIGHT_ARM: return config.getRightArmSlots();
+            case LEFT_LEG: return config.getLeftLegSlots();
+            case RIGHT_LEG: return config.getRightLegSlots();
+            default: throw new IllegalArgumentException("Unknown section: " + id);
+        }
+    }
+    
+    /**
+     * Creates a single MechSection with hardpoints and slots.
+     * Untyped hardpoint counts become universal hardpoints that take any weapon type.
+     */
+    private MechSection createSection(SectionId id, Hardpoints hardpoints, int totalSlots) {
         // Default values for armor and structure (can be enhanced later)
         int armorTons = 2;
         int internalStructure = 5;
         
-        // For simplicity, treat all hardpoints as energy hardpoints
-        // This can be enhanced later to parse hardpoint types
-        return new MechSection(name, armorTons, internalStructure, 
-                             totalHardpoints, 0, 0, totalSlots);
+        return new MechSection(id, armorTons, internalStructure, hardpoints, totalSlots);
+    }
+    
+    /**
+     * Sections of one chassis together with the slot configuration they were built from
+     */
+    private static final class ChassisTemplate {
+        private final SlotConfiguration config;
+        private final MechSection[] sections;
+        
+        ChassisTemplate(SlotConfiguration config, MechSection[] sections) {
+            this.config = config;
+            this.sections = sections;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.mechbuilder.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * N-gram index over catalog entry names for substring and prefix searches.
+ *
+ * Every 1-, 2- and 3-character gram of the case-folded names maps to a sorted
+ * posting list of catalog positions. A query is answered by intersecting the
+ * posting lists of its grams and verifying the few surviving candidates, so the
+ * cost depends on the number of matches rather than the size of the catalog.
+ */
+final class NameSearchIndex<T> {
+    private static final int MAX_GRAM = 3;
+
+    // Match ranks used by search(); lower sorts first
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_SUBSTRING = 3;
+
+    private final List<T> items;
+    private final String[] names;
+    private final String[] foldedNames;
+    private final Map<Long, int[]> postings;
+
+    NameSearchIndex(List<T> items, Function<T, String> nameExtractor) {
+        this.items = items;
+        this.names = new String[items.size()];
+        this.foldedNames = new String[items.size()];
+
+        Map<Long, PostingBuilder> builders = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String name = nameExtractor.apply(items.get(i));
+            names[i] = name == null ? "" : name;
+            foldedNames[i] = fold(names[i]);
+
+            String folded = foldedNames[i];
+            for (int start = 0; start < folded.length(); start++) {
+                int maxLength = Math.min(MAX_GRAM, folded.length() - start);
+                for (int length = 1; length <= maxLength; length++) {
+                    builders.computeIfAbsent(gramKey(folded, start, length), k -> new PostingBuilder()).add(i);
+                }
+            }
+        }
+
+        this.postings = new HashMap<>(builders.size() * 2);
+        for (Map.Entry<Long, PostingBuilder> entry : builders.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+
+    /**
+     * Case-sensitive substring match in catalog order (String.contains semantics)
+     */
+    List<T> findContaining(String query) {
+        int[] candidates = candidatesFor(fold(query));
+        List<T> result = new ArrayList<>();
+        for (int position : candidates) {
+            if (names[position].contains(query)) {
+                result.add(items.get(position));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Case-insensitive prefix match in catalog order
+     */
+    List<T> findByPrefix(String prefix) {
+        String folded = fold(prefix);
+        int[] candidates = candidatesFor(folded);
+        List<T> result = new ArrayList<>();
+        for (int position : candidates) {
+            if (foldedNames[position].startsWith(folded)) {
+                result.add(items.get(position));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Case-insensitive substring search ranked by match quality: exact name,
+     * then name prefix, then word prefix, then any other substring. Entries of
+     * equal rank keep catalog order, so the result is stable across calls.
+     */
+    List<T> search(String query) {
+        String folded = fold(query);
+        int[] candidates = candidatesFor(folded);
+
+        // Pack (rank, position) into one long so a primitive sort gives the final order
+        long[] ranked = new long[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            int rank = rank(foldedNames[position], folded);
+            if (rank >= 0) {
+                ranked[count++] = ((long) rank << 32) | position;
+            }
+        }
+        Arrays.sort(ranked, 0, count);
+
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(items.get((int) ranked[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static int rank(String name, String query) {
+        int index = name.indexOf(query);
+        if (index < 0) {
+            return -1;
+        }
+        if (index == 0) {
+            return name.length() == query.length() ? RANK_EXACT : RANK_PREFIX;
+        }
+        while (index >= 0) {
+            if (!Character.isLetterOrDigit(name.charAt(index - 1))) {
+                return RANK_WORD_PREFIX;
+            }
+            index = name.indexOf(query, index + 1);
+        }
+        return RANK_SUBSTRING;
+    }
+
+    /**
+     * Catalog positions whose folded name contains every gram of the folded query
+     */
+    private int[] candidatesFor(String folded) {
+        if (folded.isEmpty()) {
+            int[] all = new int[names.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        if (folded.length() <= MAX_GRAM) {
+            return postings.getOrDefault(gramKey(folded, 0, folded.length()), new int[0]);
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (int start = 0; start + MAX_GRAM <= folded.length(); start++) {
+            int[] list = postings.get(gramKey(folded, start, MAX_GRAM));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] current = lists.get(0);
+        for (int i = 1; i < lists.size() && current.length > 0; i++) {
+            current = intersect(current, lists.get(i));
+        }
+        return current;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Per-character case folding; unlike String.toLowerCase it never changes the
+     * length of a string, so a substring of a name always folds to a substring
+     * of the folded name.
+     */
+    static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static long gramKey(String text, int start, int length) {
+        long key = length;
+        for (int i = 0; i < length; i++) {
+            key = (key << 16) | text.charAt(start + i);
+        }
+        return key;
+    }
+
+    /**
+     * Growable int[] that skips repeated positions from the same name
+     */
+    private static final class PostingBuilder {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && values[size - 1] == position) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.mechbuilder.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Sorted primitive index over one numeric attribute of a catalog list.
+ *
+ * Keys are kept in a sorted double[] next to the catalog position of each
+ * entry, so an inclusive range query is two binary searches plus a copy of
+ * the matching positions. Results are returned in catalog order, matching
+ * what the previous linear scans produced.
+ */
+final class RangeIndex<T> {
+    private final List<T> items;
+    private final double[] keys;
+    private final int[] positions;
+
+    RangeIndex(List<T> items, ToDoubleFunction<T> keyExtractor) {
+        this.items = items;
+
+        List<Integer> order = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            // NaN never satisfies a range comparison, so it is left out of the index
+            if (!Double.isNaN(keyExtractor.applyAsDouble(items.get(i)))) {
+                order.add(i);
+            }
+        }
+        order.sort(Comparator.comparingDouble(i -> keyExtractor.applyAsDouble(items.get(i))));
+
+        this.keys = new double[order.size()];
+        this.positions = new int[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            positions[i] = order.get(i);
+            keys[i] = keyExtractor.applyAsDouble(items.get(positions[i]));
+        }
+    }
+
+    /**
+     * Find all entries whose key lies within [min, max]
+     */
+    List<T> findInRange(double min, double max) {
+        if (Double.isNaN(min) || Double.isNaN(max) || min > max) {
+            return Collections.emptyList();
+        }
+
+        int from = lowerBound(min);
+        int to = upperBound(max);
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+
+        int[] matches = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(matches);
+
+        List<T> result = new ArrayList<>(matches.length);
+        for (int position : matches) {
+            result.add(items.get(position));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * First index whose key is >= value
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index whose key is > value
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,50 +1,76 @@
 package com.mechbuilder.data;
 
-import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import com.mechbuilder.model.Shield;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Repository for loading and managing shield data from CSV file.
  */
 public class ShieldRepository {
-    private static final String RESOURCE_PATH = "Shields.csv";
+    static final String RESOURCE_PATH = "Shields.csv";
     
+    /**
+     * Returns the shared, immutable shields catalog, parsing the CSV on first use
+     */
     public List<Shield> loadAll() throws IOException, CsvValidationException {
+        return index().shields;
+    }
+    
+    /**
+     * Discards the cached shields and parses the CSV again
+     */
+    public List<Shield> reload() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().reload(RESOURCE_PATH, this::buildIndex).shields;
+    }
+    
+    private ShieldIndex index() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().get(RESOURCE_PATH, this::buildIndex);
+    }
+    
+    private ShieldIndex buildIndex() throws IOException, CsvValidationException {
+        return new ShieldIndex(parseAll());
+    }
+    
+    /**
+     * Loads rows from the precompiled snapshot when one is configured and current, otherwise from CSV
+     */
+    private List<Shield> parseAll() throws IOException, CsvValidationException {
+        List<Shield> snapshot = CatalogSnapshot.read(RESOURCE_PATH, CatalogSnapshot::readShield);
+        return snapshot != null ? snapshot : parseCsv();
+    }
+    
+    List<Shield> parseCsv() throws IOException, CsvValidationException {
         List<Shield> shields = new ArrayList<>();
         
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        InputStream inputStream = CatalogSource.open(RESOURCE_PATH);
         if (inputStream == null) {
             throw new IOException("Resource not found: " + RESOURCE_PATH);
         }
         
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            String[] header = reader.readNext(); // Skip header row
-            if (header == null) {
+        try (CsvRowReader reader = new CsvRowReader(inputStream)) {
+            if (!reader.nextRow()) { // Skip header row
                 throw new IOException("CSV file is empty or improperly formatted.");
             }
 
-            while (true) {
-                String[] row = reader.readNext();
-                if (row == null) break;
+            while (reader.nextRow()) {
                 
-                if (row.length < 7) continue; // Make sure there are enough columns
+                if (reader.getFieldCount() < 7) continue; // Make sure there are enough columns
                 
                 try {
-                    String shield = row[0].trim();
-                    int hp = Integer.parseInt(row[1].trim());
-                    int rechargeRate = Integer.parseInt(row[2].trim());
-                    int rechargeDelay = Integer.parseInt(row[3].trim());
-                    double tonnage = Double.parseDouble(row[4].trim());
-                    int heatGenerated = Integer.parseInt(row[5].trim());
-                    int rechargingHeat = Integer.parseInt(row[6].trim());
+                    String shield = reader.getTrimmedString(0);
+                    int hp = reader.getInt(1);
+                    int rechargeRate = reader.getInt(2);
+                    int rechargeDelay = reader.getInt(3);
+                    double tonnage = reader.getDouble(4);
+                    int heatGenerated = reader.getInt(5);
+                    int rechargingHeat = reader.getInt(6);
                     
                     // Skip empty rows
                     if (shield.isEmpty()) continue;
@@ -54,48 +80,40 @@ public class ShieldRepository {
                     shields.add(shieldObj);
                 } catch (NumberFormatException e) {
                     // Skip malformed rows
-                    System.err.println("Skipping malformed shield row: " + String.join(",", row));
+                    System.err.println("Skipping malformed shield row: " + reader.getRowText());
                 }
             }
         }
         
-        return shields;
+        return List.copyOf(shields);
     }
     
     /**
      * Find shield by name
      */
     public Optional<Shield> findByName(String name) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(shield -> shield.getShield().equalsIgnoreCase(name))
-                .findFirst();
+        return Optional.ofNullable(index().byName.get(CatalogIndexes.foldCase(name)));
     }
     
     /**
      * Find shields within tonnage range
      */
     public List<Shield> findByTonnageRange(double minTonnage, double maxTonnage) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(shield -> shield.getTonnage() >= minTonnage && shield.getTonnage() <= maxTonnage)
-                .toList();
+        return index().byTonnage.findInRange(minTonnage, maxTonnage);
     }
     
     /**
      * Find shields within HP range
      */
     public List<Shield> findByHpRange(int minHp, int maxHp) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(shield -> shield.getHp() >= minHp && shield.getHp() <= maxHp)
-                .toList();
+        return index().byHp.findInRange(minHp, maxHp);
     }
     
     /**
      * Get shields excluding "None" option
      */
     public List<Shield> findActualShields() throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(shield -> !shield.isNoneShield())
-                .toList();
+        return index().actualShields;
     }
     
     /**
@@ -114,4 +132,25 @@ public class ShieldRepository {
                 .sorted((s1, s2) -> Double.compare(s2.getEfficiencyRating(), s1.getEfficiencyRating()))
                 .toList();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Parsed shield catalog plus the lookup indexes built from it
+     */
+    private static final class ShieldIndex {
+        private final List<Shield> shields;
+        private final List<Shield> actualShields;
+        private final Map<String, Shield> byName;
+        private final RangeIndex<Shield> byTonnage;
+        private final RangeIndex<Shield> byHp;
+        
+        ShieldIndex(List<Shield> shields) {
+            this.shields = shields;
+            this.actualShields = shields.stream()
+                    .filter(shield -> !shield.isNoneShield())
+                    .toList();
+            this.byName = CatalogIndexes.uniqueBy(shields, shield -> CatalogIndexes.foldCase(shield.getShield()));
+            this.byTonnage = new RangeIndex<>(shields, Shield::getTonnage);
+            this.byHp = new RangeIndex<>(shields, Shield::getHp);
+        }
+    }
+}
@@ -1,44 +1,72 @@
 package com.mechbuilder.data;
 
-import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import com.mechbuilder.model.SlotConfiguration;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class SlotRepository {
-    private static final String RESOURCE_PATH = "Slot Count.csv";
+    static final String RESOURCE_PATH = "Slot Count.csv";
     
+    /**
+     * Returns the shared, immutable slot configurations catalog, parsing the CSV on first use
+     */
     public List<SlotConfiguration> loadAll() throws IOException, CsvValidationException {
+        return index().list;
+    }
+    
+    /**
+     * Discards the cached slot configurations and parses the CSV again
+     */
+    public List<SlotConfiguration> reload() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().reload(RESOURCE_PATH, this::buildIndex).list;
+    }
+    
+    private SlotIndex index() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().get(RESOURCE_PATH, this::buildIndex);
+    }
+    
+    private SlotIndex buildIndex() throws IOException, CsvValidationException {
+        return new SlotIndex(parseAll());
+    }
+    
+    /**
+     * Loads rows from the precompiled snapshot when one is configured and current, otherwise from CSV
+     */
+    private List<SlotConfiguration> parseAll() throws IOException, CsvValidationException {
+        List<SlotConfiguration> snapshot = CatalogSnapshot.read(RESOURCE_PATH, CatalogSnapshot::readSlots);
+        return snapshot != null ? snapshot : parseCsv();
+    }
+    
+    List<SlotConfiguration> parseCsv() throws IOException, CsvValidationException {
         List<SlotConfiguration> list = new ArrayList<>();
         
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        InputStream inputStream = CatalogSource.open(RESOURCE_PATH);
         if (inputStream == null) {
             throw new IOException("Resource not found: " + RESOURCE_PATH);
         }
         
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            String[] fields;
-            reader.readNext(); // Skip header
+        try (CsvRowReader reader = new CsvRowReader(inputStream)) {
+            reader.nextRow(); // Skip header
 
-            while ((fields = reader.readNext()) != null) {
-                if (fields.length < 9) continue;
+            while (reader.nextRow()) {
+                if (reader.getFieldCount() < 9) continue;
 
                 try {
-                    String mechSize = fields[0];
-                    int leftArmSlots = Integer.parseInt(fields[1]);
-                    int leftTorsoSlots = Integer.parseInt(fields[2]);
-                    int cockpitSlots = Integer.parseInt(fields[3]);
-                    int centerTorsoSlots = Integer.parseInt(fields[4]);
-                    int rightTorsoSlots = Integer.parseInt(fields[5]);
-                    int rightArmSlots = Integer.parseInt(fields[6]);
-                    int leftLegSlots = Integer.parseInt(fields[7]);
-                    int rightLegSlots = Integer.parseInt(fields[8]);
+                    String mechSize = reader.getString(0);
+                    int leftArmSlots = reader.getInt(1);
+                    int leftTorsoSlots = reader.getInt(2);
+                    int cockpitSlots = reader.getInt(3);
+                    int centerTorsoSlots = reader.getInt(4);
+                    int rightTorsoSlots = reader.getInt(5);
+                    int rightArmSlots = reader.getInt(6);
+                    int leftLegSlots = reader.getInt(7);
+                    int rightLegSlots = reader.getInt(8);
 
                     list.add(new SlotConfiguration(
                         mechSize, leftArmSlots, leftTorsoSlots, cockpitSlots,
@@ -48,12 +76,23 @@ public class SlotRepository {
             }
         }
 
-        return list;
+        return List.copyOf(list);
     }
     
     public Optional<SlotConfiguration> findBySize(String mechSize) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(config -> config.getMechSize().equals(mechSize))
-                .findFirst();
+        return Optional.ofNullable(index().bySize.get(mechSize));
+    }
+    
+    /**
+     * Parsed slot catalog plus the lookup index built from it
+     */
+    private static final class SlotIndex {
+        private final List<SlotConfiguration> list;
+        private final Map<String, SlotConfiguration> bySize;
+        
+        SlotIndex(List<SlotConfiguration> list) {
+            this.list = list;
+            this.bySize = CatalogIndexes.uniqueBy(list, SlotConfiguration::getMechSize);
+        }
     }
-}
\ No newline at end of file
+}
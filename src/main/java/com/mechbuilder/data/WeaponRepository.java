@@ -1,45 +1,80 @@
 package com.mechbuilder.data;
 
-import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import com.mechbuilder.model.WeaponComponent;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class WeaponRepository {
-    private static final String RESOURCE_PATH = "Weaponry Components.csv";
+    static final String RESOURCE_PATH = "Weaponry Components.csv";
     
+    /**
+     * Returns the shared, immutable weapons catalog, parsing the CSV on first use
+     */
     public List<WeaponComponent> loadAll() throws IOException, CsvValidationException {
+        return index().table.getWeapons();
+    }
+    
+    /**
+     * Discards the cached weapons and parses the CSV again
+     */
+    public List<WeaponComponent> reload() throws IOException, CsvValidationException {
+        return reloadTable().getWeapons();
+    }
+    
+    /**
+     * Discards the cached weapons, parses the CSV again and returns the new columnar view
+     */
+    public WeaponTable reloadTable() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().reload(RESOURCE_PATH, this::buildIndex).table;
+    }
+    
+    private WeaponIndex index() throws IOException, CsvValidationException {
+        return CatalogCache.getInstance().get(RESOURCE_PATH, this::buildIndex);
+    }
+    
+    private WeaponIndex buildIndex() throws IOException, CsvValidationException {
+        return new WeaponIndex(parseAll());
+    }
+    
+    /**
+     * Loads rows from the precompiled snapshot when one is configured and current, otherwise from CSV
+     */
+    private List<WeaponComponent> parseAll() throws IOException, CsvValidationException {
+        List<WeaponComponent> snapshot = CatalogSnapshot.read(RESOURCE_PATH, CatalogSnapshot::readWeapon);
+        return snapshot != null ? snapshot : parseCsv();
+    }
+    
+    List<WeaponComponent> parseCsv() throws IOException, CsvValidationException {
         List<WeaponComponent> list = new ArrayList<>();
         
-        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE_PATH);
+        InputStream inputStream = CatalogSource.open(RESOURCE_PATH);
         if (inputStream == null) {
             throw new IOException("Resource not found: " + RESOURCE_PATH);
         }
         
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            String[] fields;
-            reader.readNext(); // Skip header
+        try (CsvRowReader reader = new CsvRowReader(inputStream)) {
+            reader.nextRow(); // Skip header
 
-            while ((fields = reader.readNext()) != null) {
-                if (fields.length < 11) continue;
+            while (reader.nextRow()) {
+                if (reader.getFieldCount() < 11) continue;
 
                 try {
-                    String name = fields[0];
-                    String type = fields[1];
-                    double tonnage = Double.parseDouble(fields[2]);
-                    int heat = Integer.parseInt(fields[3]);
-                    int damage = Integer.parseInt(fields[4]);
-                    int optimalRange = Integer.parseInt(fields[5]);
-                    int maxRange = Integer.parseInt(fields[6]);
-                    double recycle = Double.parseDouble(fields[7]);
-                    int accuracyPenalty = Integer.parseInt(fields[8]);
-                    int shotsPerSalvo = Integer.parseInt(fields[9]);
-                    double damageDrop = Double.parseDouble(fields[10]);
+                    String name = reader.getString(0);
+                    String type = reader.getString(1);
+                    double tonnage = reader.getDouble(2);
+                    int heat = reader.getInt(3);
+                    int damage = reader.getInt(4);
+                    int optimalRange = reader.getInt(5);
+                    int maxRange = reader.getInt(6);
+                    double recycle = reader.getDouble(7);
+                    int accuracyPenalty = reader.getInt(8);
+                    int shotsPerSalvo = reader.getInt(9);
+                    double damageDrop = reader.getDouble(10);
 
                     list.add(new WeaponComponent(
                         name, type, tonnage, heat, damage,
@@ -49,18 +84,51 @@ public class WeaponRepository {
             }
         }
 
-        return list;
+        return List.copyOf(list);
+    }
+    
+    /**
+     * Columnar view of the weapons catalog, built once alongside the list;
+     * {@link CatalogLoader} hands this same table to the {@link Catalog}
+     */
+    public WeaponTable loadTable() throws IOException, CsvValidationException {
+        return index().table;
     }
     
     public List<WeaponComponent> findByType(String type) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(weapon -> weapon.getType().equals(type))
-                .toList();
+        return index().byType.getOrDefault(type, List.of());
     }
     
     public List<WeaponComponent> findByName(String name) throws IOException, CsvValidationException {
-        return loadAll().stream()
-                .filter(weapon -> weapon.getName().contains(name))
-                .toList();
+        return index().byName.findContaining(name);
+    }
+    
+    /**
+     * Find weapons whose name starts with the given prefix, ignoring case
+     */
+    public List<WeaponComponent> findByNamePrefix(String prefix) throws IOException, CsvValidationException {
+        return index().byName.findByPrefix(prefix);
+    }
+    
+    /**
+     * Case-insensitive name search, best matches first (exact, prefix, word prefix, substring)
+     */
+    public List<WeaponComponent> searchByName(String query) throws IOException, CsvValidationException {
+        return index().byName.search(query);
+    }
+    
+    /**
+     * Parsed weapon catalog plus the lookup indexes built from it; the table holds the list
+     */
+    private static final class WeaponIndex {
+        private final Map<String, List<WeaponComponent>> byType;
+        private final NameSearchIndex<WeaponComponent> byName;
+        private final WeaponTable table;
+        
+        WeaponIndex(List<WeaponComponent> list) {
+            this.byType = CatalogIndexes.groupBy(list, WeaponComponent::getType);
+            this.byName = new NameSearchIndex<>(list, WeaponComponent::getName);
+            this.table = new WeaponTable(list);
+        }
     }
-}
\ No newline at end of file
+}
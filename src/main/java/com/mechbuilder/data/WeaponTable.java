@@ -0,0 +1,222 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.HardpointType;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented view of the weapon catalog for scan-heavy analytics.
+ *
+ * Row {@code i} describes the i-th weapon of the list the table was built
+ * from. Numeric stats live in parallel primitive arrays, so filters and
+ * aggregates walk contiguous memory instead of chasing one object pointer per
+ * weapon. The type column is dictionary-encoded: each distinct type string is
+ * stored once and rows hold a small int code. The table is immutable.
+ */
+public final class WeaponTable {
+    private final List<WeaponComponent> weapons;
+
+    private final double[] tonnage;
+    private final double[] heat;
+    private final double[] recycleTime;
+    private final double[] damageDrop;
+    private final int[] damage;
+    private final int[] optimalRange;
+    private final int[] maxRange;
+    private final int[] accuracyPenalty;
+    private final int[] shotsPerSalvo;
+    private final int[] hardpointMask; // HardpointType bit of the row, 0 when no hardpoint takes it
+
+    // Dictionary-encoded type column
+    private final int[] typeCodes;
+    private final String[] typeNames;
+    private final Map<String, Integer> codesByType;
+
+    public WeaponTable(List<WeaponComponent> weapons) {
+        int rows = weapons.size();
+        this.weapons = List.copyOf(weapons);
+        this.tonnage = new double[rows];
+        this.heat = new double[rows];
+        this.recycleTime = new double[rows];
+        this.damageDrop = new double[rows];
+        this.damage = new int[rows];
+        this.optimalRange = new int[rows];
+        this.maxRange = new int[rows];
+        this.accuracyPenalty = new int[rows];
+        this.shotsPerSalvo = new int[rows];
+        this.typeCodes = new int[rows];
+        this.hardpointMask = new int[rows];
+
+        Map<String, Integer> codes = new HashMap<>();
+        for (int row = 0; row < rows; row++) {
+            WeaponComponent weapon = this.weapons.get(row);
+            tonnage[row] = weapon.getTonnage();
+            heat[row] = weapon.getHeatGeneration();
+            recycleTime[row] = weapon.getRecycleTime();
+            damageDrop[row] = weapon.getDamageDrop();
+            damage[row] = weapon.getDamage();
+            optimalRange[row] = weapon.getOptimalRange();
+            maxRange[row] = weapon.getMaxRange();
+            accuracyPenalty[row] = weapon.getAccuracyPenalty();
+            shotsPerSalvo[row] = weapon.getShotsperSalvo();
+            hardpointMask[row] = HardpointType.maskOf(weapon.getType());
+
+            Integer code = codes.get(weapon.getType());
+            if (code == null) {
+                code = codes.size();
+                codes.put(weapon.getType(), code);
+            }
+            typeCodes[row] = code;
+        }
+
+        this.typeNames = new String[codes.size()];
+        for (Map.Entry<String, Integer> entry : codes.entrySet()) {
+            typeNames[entry.getValue()] = entry.getKey();
+        }
+        this.codesByType = codes;
+    }
+
+    public int size() {
+        return weapons.size();
+    }
+
+    /**
+     * The weapons the table was built from, row i being get(i)
+     */
+    public List<WeaponComponent> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * The weapon object behind a row
+     */
+    public WeaponComponent getWeapon(int row) {
+        return weapons.get(row);
+    }
+
+    public double getTonnage(int row) { return tonnage[row]; }
+    public double getHeat(int row) { return heat[row]; }
+    public double getRecycleTime(int row) { return recycleTime[row]; }
+    public double getDamageDrop(int row) { return damageDrop[row]; }
+    public int getDamage(int row) { return damage[row]; }
+    public int getOptimalRange(int row) { return optimalRange[row]; }
+    public int getMaxRange(int row) { return maxRange[row]; }
+    public int getAccuracyPenalty(int row) { return accuracyPenalty[row]; }
+    public int getShotsPerSalvo(int row) { return shotsPerSalvo[row]; }
+
+    /**
+     * HardpointType bit of the row; AND it with a section's type mask to test compatibility
+     */
+    public int getHardpointMask(int row) {
+        return hardpointMask[row];
+    }
+
+    /**
+     * Rows that a section with the given HardpointType mask can mount, in catalog order
+     */
+    public int[] rowsMountableIn(int sectionTypeMask) {
+        int[] rows = new int[weapons.size()];
+        int count = 0;
+        for (int row = 0; row < rows.length; row++) {
+            if ((hardpointMask[row] & sectionTypeMask) != 0) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Dictionary code of the row's type, in [0, getTypeCount())
+     */
+    public int getTypeCode(int row) {
+        return typeCodes[row];
+    }
+
+    public String getType(int row) {
+        return typeNames[typeCodes[row]];
+    }
+
+    public int getTypeCount() {
+        return typeNames.length;
+    }
+
+    public String getTypeName(int code) {
+        return typeNames[code];
+    }
+
+    /**
+     * Code for a type string, or -1 when no weapon has that type
+     */
+    public int codeOf(String type) {
+        Integer code = codesByType.get(type);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Rows whose type is the given one, in catalog order
+     */
+    public int[] rowsOfType(String type) {
+        int code = codeOf(type);
+        int[] rows = new int[typeCodes.length];
+        int count = 0;
+        if (code >= 0) {
+            for (int row = 0; row < typeCodes.length; row++) {
+                if (typeCodes[row] == code) {
+                    rows[count++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Rows whose tonnage lies in [min, max], in catalog order
+     */
+    public int[] rowsWithTonnageBetween(double min, double max) {
+        int[] rows = new int[tonnage.length];
+        int count = 0;
+        for (int row = 0; row < tonnage.length; row++) {
+            if (tonnage[row] >= min && tonnage[row] <= max) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Combined tonnage of the given rows; a row may appear more than once
+     */
+    public double sumTonnage(int[] rows) {
+        double total = 0.0;
+        for (int row : rows) {
+            total += tonnage[row];
+        }
+        return total;
+    }
+
+    /**
+     * Combined heat of the given rows; a row may appear more than once
+     */
+    public double sumHeat(int[] rows) {
+        double total = 0.0;
+        for (int row : rows) {
+            total += heat[row];
+        }
+        return total;
+    }
+
+    /**
+     * Combined damage column of the given rows; a row may appear more than once
+     */
+    public long sumDamage(int[] rows) {
+        long total = 0;
+        for (int row : rows) {
+            total += damage[row];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,102 @@
+package com.mechbuilder.model;
+
+import java.util.Map;
+
+/**
+ * Applies hits to a mech's sections, passing overflow from destroyed sections
+ * along a {@link DamageTransferGraph}.
+ *
+ * Sections are held in an array indexed by SectionId ordinal and destroyed
+ * sections are marked in a bitmask, so routing a hit walks a few array entries
+ * and never touches a map. A hit aimed at a destroyed section goes straight to
+ * the next section in the graph. Damage applied to the sections directly is
+ * picked up when a routed hit overflows them; call {@link #refresh()} after
+ * repairing or replacing section state behind the router's back.
+ */
+public final class DamageRouter {
+    private final MechSection[] sections = new MechSection[SectionId.COUNT];
+    private final DamageTransferGraph graph;
+    private int destroyedMask;
+
+    public DamageRouter(Map<SectionId, MechSection> sectionsById, DamageTransferGraph graph) {
+        for (Map.Entry<SectionId, MechSection> entry : sectionsById.entrySet()) {
+            sections[entry.getKey().ordinal()] = entry.getValue();
+        }
+        this.graph = graph;
+        refresh();
+    }
+
+    public DamageTransferGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Apply one hit starting at the given section
+     * @param absorbedBySection Receives the damage each section absorbed, by ordinal; may be null
+     * @return Damage left over once the transfer chain ran out
+     */
+    public int route(int ordinal, int damage, long[] absorbedBySection) {
+        int remaining = damage;
+        int at = ordinal;
+        while (remaining > 0 && at >= 0) {
+            int bit = 1 << at;
+            MechSection section = sections[at];
+            if ((destroyedMask & bit) == 0 && section != null) {
+                int overflow = section.applyDamage(remaining);
+                if (absorbedBySection != null) {
+                    absorbedBySection[at] += remaining - overflow;
+                }
+                remaining = overflow;
+                if (section.isDestroyed()) {
+                    destroyedMask |= bit;
+                }
+            }
+            at = graph.nextOrdinal(at);
+        }
+        return remaining;
+    }
+
+    /**
+     * Apply one hit starting at the given section
+     * @return Damage left over once the transfer chain ran out
+     */
+    public int route(SectionId section, int damage) {
+        return route(section.ordinal(), damage, null);
+    }
+
+    /**
+     * Bit {@code 1 << ordinal} is set for every section known to be destroyed
+     */
+    public int getDestroyedMask() {
+        return destroyedMask;
+    }
+
+    public boolean isDestroyed(SectionId section) {
+        return (destroyedMask & 1 << section.ordinal()) != 0;
+    }
+
+    /**
+     * Clear the damage of every section and the destroyed mask
+     */
+    public void resetDamage() {
+        for (MechSection section : sections) {
+            if (section != null) {
+                section.resetDamage();
+            }
+        }
+        destroyedMask = 0;
+    }
+
+    /**
+     * Rebuild the destroyed mask from the sections' current state
+     */
+    public void refresh() {
+        int mask = 0;
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i] != null && sections[i].isDestroyed()) {
+                mask |= 1 << i;
+            }
+        }
+        destroyedMask = mask;
+    }
+}
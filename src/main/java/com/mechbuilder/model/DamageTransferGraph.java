@@ -0,0 +1,69 @@
+package com.mechbuilder.model;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Where damage goes once a section is destroyed: each section passes its
+ * overflow on to at most one other section.
+ *
+ * The graph is stored as one array indexed by SectionId ordinal holding the
+ * next section's ordinal, or -1 where overflow is lost. Cycles are rejected,
+ * so following the array from any section always ends. Graphs are immutable.
+ */
+public final class DamageTransferGraph {
+    /** Arms and legs into their side torso, side torsos into the center torso */
+    public static final DamageTransferGraph DEFAULT = new DamageTransferGraph(defaultTransfers());
+
+    /** Overflow is lost wherever it happens */
+    public static final DamageTransferGraph NONE = new DamageTransferGraph(new EnumMap<>(SectionId.class));
+
+    private final int[] next = new int[SectionId.COUNT];
+
+    /**
+     * @param transfers Section each key passes overflow to; sections not listed pass nothing on
+     */
+    public DamageTransferGraph(Map<SectionId, SectionId> transfers) {
+        Arrays.fill(next, -1);
+        for (Map.Entry<SectionId, SectionId> transfer : transfers.entrySet()) {
+            if (transfer.getValue() != null) {
+                next[transfer.getKey().ordinal()] = transfer.getValue().ordinal();
+            }
+        }
+        for (int start = 0; start < next.length; start++) {
+            int steps = 0;
+            for (int at = next[start]; at >= 0; at = next[at]) {
+                if (++steps > SectionId.COUNT) {
+                    throw new IllegalArgumentException("Damage transfers form a cycle through " + SectionId.ofOrdinal(start));
+                }
+            }
+        }
+    }
+
+    private static Map<SectionId, SectionId> defaultTransfers() {
+        Map<SectionId, SectionId> transfers = new EnumMap<>(SectionId.class);
+        transfers.put(SectionId.LEFT_ARM, SectionId.LEFT_TORSO);
+        transfers.put(SectionId.RIGHT_ARM, SectionId.RIGHT_TORSO);
+        transfers.put(SectionId.LEFT_LEG, SectionId.LEFT_TORSO);
+        transfers.put(SectionId.RIGHT_LEG, SectionId.RIGHT_TORSO);
+        transfers.put(SectionId.LEFT_TORSO, SectionId.CENTER_TORSO);
+        transfers.put(SectionId.RIGHT_TORSO, SectionId.CENTER_TORSO);
+        return transfers;
+    }
+
+    /**
+     * Ordinal of the section the given section passes overflow to, or -1
+     */
+    public int nextOrdinal(int ordinal) {
+        return next[ordinal];
+    }
+
+    /**
+     * Section the given section passes overflow to, or null
+     */
+    public SectionId next(SectionId section) {
+        int ordinal = next[section.ordinal()];
+        return ordinal < 0 ? null : SectionId.ofOrdinal(ordinal);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mechbuilder.model;
+
+/**
+ * Weapon family a hardpoint is built for.
+ *
+ * Each type owns one bit, so a set of types is an int mask and checking a
+ * weapon against a section is a single AND of the two masks.
+ */
+public enum HardpointType {
+    ENERGY('E'),
+    BALLISTIC('B'),
+    MISSILE('M');
+
+    /** Mask of every type, e.g. for universal hardpoints */
+    public static final int ALL_MASK = (1 << values().length) - 1;
+
+    private static final HardpointType[] VALUES = values();
+
+    private final char code;
+
+    HardpointType(char code) {
+        this.code = code;
+    }
+
+    /**
+     * Letter used for this type in the chassis data, e.g. "2E1M"
+     */
+    public char getCode() {
+        return code;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Type with the given letter, case-insensitive; null when unknown
+     */
+    public static HardpointType fromCode(char code) {
+        char upper = Character.toUpperCase(code);
+        for (HardpointType type : VALUES) {
+            if (type.code == upper) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Type of a weapon's catalog type column ("Energy", "Ballistic", "Missile"); null when unknown
+     */
+    public static HardpointType fromWeaponType(String weaponType) {
+        if (weaponType == null) {
+            return null;
+        }
+        for (HardpointType type : VALUES) {
+            if (type.name().equalsIgnoreCase(weaponType.trim())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mask bit of a weapon's catalog type, or 0 when no hardpoint takes it
+     */
+    public static int maskOf(String weaponType) {
+        HardpointType type = fromWeaponType(weaponType);
+        return type != null ? type.bit() : 0;
+    }
+}
@@ -0,0 +1,166 @@
+package com.mechbuilder.model;
+
+import java.util.Arrays;
+
+/**
+ * Hardpoints of one section, by type.
+ *
+ * Chassis data gives each section either a plain count, read as universal
+ * hardpoints that take any weapon type, or typed groups such as "2E1M" (two
+ * energy, one missile). A group without a letter adds universal hardpoints,
+ * so "1B2" is one ballistic and two universal. Instances are immutable.
+ */
+public final class Hardpoints {
+    public static final Hardpoints NONE = new Hardpoints(new int[HardpointType.values().length], 0);
+
+    private final int[] typed; // Indexed by HardpointType ordinal
+    private final int universal;
+    private final int typeMask;
+
+    private Hardpoints(int[] typed, int universal) {
+        this.typed = typed;
+        this.universal = universal;
+        int mask = universal > 0 ? HardpointType.ALL_MASK : 0;
+        for (HardpointType type : HardpointType.values()) {
+            if (typed[type.ordinal()] > 0) {
+                mask |= type.bit();
+            }
+        }
+        this.typeMask = mask;
+    }
+
+    public static Hardpoints universal(int count) {
+        return count == 0 ? NONE : new Hardpoints(new int[HardpointType.values().length], checkCount(count));
+    }
+
+    public static Hardpoints of(int energy, int ballistic, int missile) {
+        int[] typed = new int[HardpointType.values().length];
+        typed[HardpointType.ENERGY.ordinal()] = checkCount(energy);
+        typed[HardpointType.BALLISTIC.ordinal()] = checkCount(ballistic);
+        typed[HardpointType.MISSILE.ordinal()] = checkCount(missile);
+        return new Hardpoints(typed, 0);
+    }
+
+    /**
+     * Parses a hardpoint cell: a plain count, or count-and-letter groups with optional spaces or slashes
+     */
+    public static Hardpoints parse(String cell) {
+        String text = cell == null ? "" : cell.trim();
+        if (text.isEmpty()) {
+            return NONE;
+        }
+        int[] typed = new int[HardpointType.values().length];
+        int universal = 0;
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '/') {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && Character.isDigit(text.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                throw new IllegalArgumentException("Expected a hardpoint count in \"" + cell + "\"");
+            }
+            int count = Integer.parseInt(text.substring(start, i));
+            if (i < text.length() && Character.isLetter(text.charAt(i))) {
+                HardpointType type = HardpointType.fromCode(text.charAt(i));
+                if (type == null) {
+                    throw new IllegalArgumentException("Unknown hardpoint type '" + text.charAt(i) + "' in \"" + cell + "\"");
+                }
+                typed[type.ordinal()] += count;
+                i++;
+            } else {
+                universal += count;
+            }
+        }
+        Hardpoints parsed = new Hardpoints(typed, universal);
+        return parsed.equals(NONE) ? NONE : parsed;
+    }
+
+    private static int checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Hardpoint counts must not be negative: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Hardpoints built for exactly this type, not counting universal ones
+     */
+    public int getCount(HardpointType type) {
+        return typed[type.ordinal()];
+    }
+
+    public int getUniversal() {
+        return universal;
+    }
+
+    public int getTotal() {
+        int total = universal;
+        for (int count : typed) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Bits of every HardpointType at least one of these hardpoints takes
+     */
+    public int getTypeMask() {
+        return typeMask;
+    }
+
+    public boolean accepts(HardpointType type) {
+        return (typeMask & type.bit()) != 0;
+    }
+
+    /**
+     * Whether a weapon of the given type still fits once the listed weapons are mounted.
+     * Weapons fill hardpoints of their own type first and universal ones after that.
+     * @param mountedByType Mounted weapons per HardpointType ordinal
+     */
+    public boolean hasRoomFor(HardpointType type, int[] mountedByType) {
+        if ((typeMask & type.bit()) == 0) {
+            return false;
+        }
+        int universalUsed = 0;
+        for (int t = 0; t < typed.length; t++) {
+            universalUsed += Math.max(0, mountedByType[t] - typed[t]);
+        }
+        return mountedByType[type.ordinal()] < typed[type.ordinal()] || universalUsed < universal;
+    }
+
+    /**
+     * Same notation {@link #parse} reads
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (HardpointType type : HardpointType.values()) {
+            if (typed[type.ordinal()] > 0) {
+                text.append(typed[type.ordinal()]).append(type.getCode());
+            }
+        }
+        if (universal > 0 || text.length() == 0) {
+            text.append(universal);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Hardpoints other = (Hardpoints) obj;
+        return universal == other.universal && Arrays.equals(typed, other.typed);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(typed) + universal;
+    }
+}
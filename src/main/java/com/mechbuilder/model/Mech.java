@@ -4,37 +4,71 @@ import com.mechbuilder.data.MechSectionFactory;
 import com.opencsv.exceptions.CsvValidationException;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class Mech {
     private String name;
     private MechChassis chassis;
-    private HashMap<String, MechSection> sections;
+    private final EnumMap<SectionId, MechSection> sectionsById = new EnumMap<>(SectionId.class);
+    private final Map<String, MechSection> sectionsByName = new SectionNameMap<>(sectionsById);
+    private ShieldState shieldState;
+    private DamageTransferGraph transferGraph = DamageTransferGraph.DEFAULT;
+    private DamageRouter damageRouter; // built on first use, once the sections are in place
 
     public Mech(String name, MechChassis chassis) throws IOException, CsvValidationException {
+        this(name, chassis, MechSectionFactory.getDefault());
+    }
+    
+    /**
+     * Builds the mech's sections with the given factory, e.g. one backed by a preloaded catalog
+     */
+    public Mech(String name, MechChassis chassis, MechSectionFactory factory) throws IOException, CsvValidationException {
         this.name = name;
         this.chassis = chassis;
-        this.sections = new HashMap<>();
         
         // Create sections using factory that combines hardpoint + slot data
-        MechSectionFactory factory = new MechSectionFactory();
-        this.sections.putAll(factory.createSectionsForChassis(chassis));
+        this.sectionsById.putAll(factory.createSections(chassis));
     }
     
     // Legacy constructor for backward compatibility (uses default slots)
     public Mech(String name) {
         this.name = name;
-        this.sections = new HashMap<>();
 
         // Example section setup with default slot counts
-        sections.put("Cockpit",        new MechSection("Cockpit", 1, 5, 0, 0, 0, 2));
-        sections.put("Center Torso",   new MechSection("Center Torso", 6, 15, 1, 1, 1, 3));
-        sections.put("Left Torso",     new MechSection("Left Torso", 4, 10, 2, 0, 2, 9));
-        sections.put("Right Torso",    new MechSection("Right Torso", 4, 10, 1, 2, 1, 9));
-        sections.put("Left Arm",       new MechSection("Left Arm", 3, 8, 2, 0, 1, 6));
-        sections.put("Right Arm",      new MechSection("Right Arm", 3, 8, 0, 3, 0, 6));
-        sections.put("Left Leg",       new MechSection("Left Leg", 5, 12, 0, 0, 0, 3));
-        sections.put("Right Leg",      new MechSection("Right Leg", 5, 12, 0, 0, 0, 3));
+        addSection(new MechSection(SectionId.HEAD,         1, 5, 0, 0, 0, 2));
+        addSection(new MechSection(SectionId.CENTER_TORSO, 6, 15, 1, 1, 1, 3));
+        addSection(new MechSection(SectionId.LEFT_TORSO,   4, 10, 2, 0, 2, 9));
+        addSection(new MechSection(SectionId.RIGHT_TORSO,  4, 10, 1, 2, 1, 9));
+        addSection(new MechSection(SectionId.LEFT_ARM,     3, 8, 2, 0, 1, 6));
+        addSection(new MechSection(SectionId.RIGHT_ARM,    3, 8, 0, 3, 0, 6));
+        addSection(new MechSection(SectionId.LEFT_LEG,     5, 12, 0, 0, 0, 3));
+        addSection(new MechSection(SectionId.RIGHT_LEG,    5, 12, 0, 0, 0, 3));
+    }
+
+    /**
+     * Undamaged copy with the same chassis and section layout
+     */
+    public Mech copy() {
+        Mech copy = new Mech(name, chassis, sectionsById);
+        if (shieldState != null) {
+            copy.shieldState = new ShieldState(shieldState.getShield());
+        }
+        copy.transferGraph = transferGraph;
+        return copy;
+    }
+    
+    private Mech(String name, MechChassis chassis, Map<SectionId, MechSection> sections) {
+        this.name = name;
+        this.chassis = chassis;
+        for (MechSection section : sections.values()) {
+            addSection(section.copy());
+        }
+    }
+
+    private void addSection(MechSection section) {
+        sectionsById.put(section.getSectionId(), section);
     }
 
     public String getName() {
@@ -53,12 +87,98 @@ public class Mech {
         this.chassis = chassis;
     }
 
-    public HashMap<String, MechSection> getSections() {
-        return sections;
+    /**
+     * Read-only view of the sections keyed by display name
+     */
+    public Map<String, MechSection> getSections() {
+        return sectionsByName;
     }
     
     public MechSection getSection(String sectionName) {
-        return sections.get(sectionName);
+        return sectionsByName.get(sectionName);
+    }
+    
+    /**
+     * Section by identity; null when this mech has no such section
+     */
+    public MechSection getSection(SectionId sectionId) {
+        return sectionsById.get(sectionId);
+    }
+    
+    /**
+     * Sections keyed by identity, in SectionId order
+     */
+    public Map<SectionId, MechSection> getSectionsById() {
+        return Collections.unmodifiableMap(sectionsById);
+    }
+    
+    /**
+     * Fit a shield at full charge; null or the "None" shield removes it
+     */
+    public void setShield(Shield shield) {
+        this.shieldState = shield == null || shield.isNoneShield() ? null : new ShieldState(shield);
+    }
+    
+    /**
+     * Live shield state; null when no shield is fitted
+     */
+    public ShieldState getShieldState() {
+        return shieldState;
+    }
+    
+    /**
+     * Where overflow from destroyed sections goes
+     */
+    public void setDamageTransferGraph(DamageTransferGraph transferGraph) {
+        this.transferGraph = transferGraph;
+        this.damageRouter = null;
+    }
+    
+    public DamageTransferGraph getDamageTransferGraph() {
+        return transferGraph;
+    }
+    
+    /**
+     * Router over this mech's sections using its transfer graph
+     */
+    public DamageRouter getDamageRouter() {
+        if (damageRouter == null) {
+            damageRouter = new DamageRouter(sectionsById, transferGraph);
+        }
+        return damageRouter;
+    }
+    
+    /**
+     * Apply a hit to a section, letting the shield absorb what it can first and
+     * passing overflow on along the transfer graph
+     * @param time Seconds on the caller's clock, used for shield recharge
+     * @return Damage left over once the shield and the transfer chain are exhausted
+     */
+    public int applyDamage(SectionId sectionId, int damage, double time) {
+        return applyDamage(sectionId, damage, time, null);
+    }
+    
+    /**
+     * Apply a hit to a section, shield first, recording what each section absorbed
+     * @param absorbedBySection Receives the damage each section absorbed, by ordinal; may be null
+     * @return Damage left over once the shield and the transfer chain are exhausted
+     */
+    public int applyDamage(SectionId sectionId, int damage, double time, long[] absorbedBySection) {
+        int remaining = shieldState != null ? shieldState.absorb(damage, time) : damage;
+        if (remaining <= 0) {
+            return remaining;
+        }
+        return getDamageRouter().route(sectionId.ordinal(), remaining, absorbedBySection);
+    }
+    
+    /**
+     * Undamaged sections and a fully charged shield
+     */
+    public void resetDamage() {
+        getDamageRouter().resetDamage();
+        if (shieldState != null) {
+            shieldState.reset();
+        }
     }
     
     public String getMechSummary() {
@@ -70,7 +190,7 @@ public class Mech {
         }
         summary.append("Sections:\n");
         
-        for (MechSection section : sections.values()) {
+        for (MechSection section : sectionsById.values()) {
             summary.append("  ").append(section.getSectionSummary()).append("\n");
         }
         
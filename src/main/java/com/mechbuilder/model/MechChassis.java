@@ -1,5 +1,6 @@
 package com.mechbuilder.model;
 
+import java.util.EnumMap;
 import java.util.Map;
 
 public class MechChassis {
@@ -8,15 +9,72 @@ public class MechChassis {
     private final int tonnage;
     private final int maxArmorTonnage;
     private final int hexSpeed;
-    private final Map<String, Integer> weaponHardpoints;
+    private final Map<String, Integer> weaponHardpoints; // Read-only view of the listed sections' totals by name
+    private final int[] hardpointsBySection; // Indexed by SectionId ordinal
+    private final Hardpoints[] hardpointLayout; // Indexed by SectionId ordinal
+    private final int[] sectionsByType;         // Indexed by HardpointType ordinal, bit per SectionId ordinal
 
+    /**
+     * Chassis with untyped hardpoint counts, each of which takes any weapon type
+     */
     public MechChassis(String name, String chassisSize, int tonnage, int maxArmorTonnage, int hexSpeed, Map<String, Integer> weaponHardpoints) {
+        this(name, chassisSize, tonnage, maxArmorTonnage, hexSpeed, universalLayout(weaponHardpoints));
+    }
+
+    /**
+     * @param hardpoints Layout of the sections the chassis lists; sections left out have none
+     */
+    private MechChassis(String name, String chassisSize, int tonnage, int maxArmorTonnage, int hexSpeed,
+                        EnumMap<SectionId, Hardpoints> hardpoints) {
         this.name = name;
         this.chassisSize = chassisSize;
         this.tonnage = tonnage;
         this.maxArmorTonnage = maxArmorTonnage;
         this.hexSpeed = hexSpeed;
-        this.weaponHardpoints = weaponHardpoints;
+        Map<SectionId, Integer> counts = new EnumMap<>(SectionId.class);
+        this.weaponHardpoints = new SectionNameMap<>(counts);
+        this.hardpointLayout = new Hardpoints[SectionId.COUNT];
+        this.hardpointsBySection = new int[SectionId.COUNT];
+        this.sectionsByType = new int[HardpointType.values().length];
+        for (SectionId section : SectionId.values()) {
+            Hardpoints layout = hardpoints.getOrDefault(section, Hardpoints.NONE);
+            if (hardpoints.containsKey(section)) {
+                counts.put(section, layout.getTotal());
+            }
+            hardpointLayout[section.ordinal()] = layout;
+            hardpointsBySection[section.ordinal()] = layout.getTotal();
+            for (HardpointType type : HardpointType.values()) {
+                if (layout.accepts(type)) {
+                    sectionsByType[type.ordinal()] |= 1 << section.ordinal();
+                }
+            }
+        }
+    }
+
+    /**
+     * Chassis with typed hardpoints; sections left out have none
+     */
+    public static MechChassis withHardpoints(String name, String chassisSize, int tonnage, int maxArmorTonnage,
+                                             int hexSpeed, Map<SectionId, Hardpoints> hardpoints) {
+        EnumMap<SectionId, Hardpoints> layout = new EnumMap<>(SectionId.class);
+        for (SectionId section : SectionId.values()) {
+            if (hardpoints.containsKey(section)) {
+                layout.put(section, hardpoints.get(section));
+            }
+        }
+        return new MechChassis(name, chassisSize, tonnage, maxArmorTonnage, hexSpeed, layout);
+    }
+
+    // Names that are not a SectionId have nowhere to go and are dropped
+    private static EnumMap<SectionId, Hardpoints> universalLayout(Map<String, Integer> weaponHardpoints) {
+        EnumMap<SectionId, Hardpoints> layout = new EnumMap<>(SectionId.class);
+        for (Map.Entry<String, Integer> entry : weaponHardpoints.entrySet()) {
+            SectionId section = SectionId.fromName(entry.getKey());
+            if (section != null && entry.getValue() != null) {
+                layout.put(section, Hardpoints.universal(entry.getValue()));
+            }
+        }
+        return layout;
     }
 
     public String getName() { return name; }
@@ -26,13 +84,39 @@ public class MechChassis {
     public int getHexSpeed() { return hexSpeed; }
 
     public int getHardpointCount(String section) {
-        return weaponHardpoints.getOrDefault(section, 0);
+        SectionId id = SectionId.fromName(section);
+        return id != null ? hardpointsBySection[id.ordinal()] : 0;
+    }
+
+    public int getHardpointCount(SectionId section) {
+        return hardpointsBySection[section.ordinal()];
     }
 
+    /**
+     * Read-only view of the listed sections' hardpoint totals, keyed by section name
+     */
     public Map<String, Integer> getHardpoints() {
         return weaponHardpoints;
     }
 
+    /**
+     * Typed hardpoints of a section; Hardpoints.NONE for sections without any
+     */
+    public Hardpoints getHardpoints(SectionId section) {
+        return hardpointLayout[section.ordinal()];
+    }
+
+    /**
+     * Sections with a hardpoint that takes the given type, one bit per SectionId ordinal
+     */
+    public int getCompatibleSections(HardpointType type) {
+        return sectionsByType[type.ordinal()];
+    }
+
+    public boolean accepts(SectionId section, HardpointType type) {
+        return (sectionsByType[type.ordinal()] & 1 << section.ordinal()) != 0;
+    }
+
     @Override
     public String toString() {
         return String.format("%s (%s) - %dT, %d Armor, %d Speed", name, chassisSize, tonnage, maxArmorTonnage, hexSpeed);
@@ -2,7 +2,26 @@
 package com.mechbuilder.model;
 
 public class MechSection {
+    /** Occupant value of a slot with nothing in it */
+    public static final int EMPTY_SLOT = -1;
+    
+    /** Most slots a section can have; free slots are tracked in one long */
+    public static final int MAX_SLOTS = Long.SIZE;
+    
+    /** Occupant of slots taken through setUsedSlots rather than by a specific item */
+    public static final int RESERVED_SLOT = Integer.MAX_VALUE;
+    
+    /**
+     * Told when a slot's structure is shot away while something occupies it
+     */
+    @FunctionalInterface
+    public interface CriticalHitListener {
+        void slotDestroyed(MechSection section, int slotIndex, int occupant);
+    }
+    
 	private String name;
+    private final SectionId sectionId; // null for sections outside the standard eight
+    private final int baseSlotHP;      // Resolved once from the section id
     private int maxHitPoints;
     private int currentHitPoints;
     private int armorTons;
@@ -10,27 +29,65 @@ public class MechSection {
     private int energyHardpoints;
     private int ballisticHardpoints;
     private int missileHardpoints;
+    private final Hardpoints hardpoints;
+    private final int hardpointTypeMask; // HardpointType bits any hardpoint here takes
     
     // Slot information from Slot Count CSV
     private int totalSlots;
-    private int usedSlots;
     
     // Damage tracking system
     private int armorDamage;
     private int[] slotDamage; // HP damage per slot (varies by section type)
     private int fieldRepairArmor; // Temporary armor HP from field repairs
+    
+    // Running totals so HP queries stay O(1) under repeated hits
+    private int slotHPRemaining;   // Sum of getSlotHP over all slots
+    private int lowestIntactSlot;  // Slots fail bottom to top, so every slot below this one is destroyed; setDamageState may leave dead ones above it
+    
+    // Slot occupancy: caller-chosen occupant ids (e.g. weapon indices) per slot, EMPTY_SLOT when free
+    private int[] slotOccupants;
+    private long freeSlots; // Bit i set while slot i is free
+    private CriticalHitListener criticalHitListener;
 
     public MechSection(String name, int armorTons, int internalStructure,
                        int energyHardpoints, int ballisticHardpoints, int missileHardpoints,
                        int totalSlots) {
+        this(name, armorTons, internalStructure,
+             Hardpoints.of(energyHardpoints, ballisticHardpoints, missileHardpoints), totalSlots);
+    }
+
+    public MechSection(SectionId sectionId, int armorTons, int internalStructure,
+                       int energyHardpoints, int ballisticHardpoints, int missileHardpoints,
+                       int totalSlots) {
+        this(sectionId.getDisplayName(), armorTons, internalStructure,
+             energyHardpoints, ballisticHardpoints, missileHardpoints, totalSlots);
+    }
+
+    /**
+     * Section with a typed hardpoint layout. Universal hardpoints are reported
+     * as energy by getEnergyHardpoints, as untyped hardpoints always were.
+     */
+    public MechSection(SectionId sectionId, int armorTons, int internalStructure,
+                       Hardpoints hardpoints, int totalSlots) {
+        this(sectionId.getDisplayName(), armorTons, internalStructure, hardpoints, totalSlots);
+    }
+
+    private MechSection(String name, int armorTons, int internalStructure,
+                        Hardpoints hardpoints, int totalSlots) {
+        if (totalSlots < 0 || totalSlots > MAX_SLOTS) {
+            throw new IllegalArgumentException(name + " must have between 0 and " + MAX_SLOTS + " slots: " + totalSlots);
+        }
         this.name = name;
+        this.sectionId = SectionId.fromName(name);
+        this.baseSlotHP = sectionId != null ? sectionId.getBaseSlotHp() : SectionId.DEFAULT_SLOT_HP;
         this.armorTons = armorTons;
         this.internalStructure = internalStructure;
-        this.energyHardpoints = energyHardpoints;
-        this.ballisticHardpoints = ballisticHardpoints;
-        this.missileHardpoints = missileHardpoints;
+        this.hardpoints = hardpoints;
+        this.hardpointTypeMask = hardpoints.getTypeMask();
+        this.energyHardpoints = hardpoints.getCount(HardpointType.ENERGY) + hardpoints.getUniversal();
+        this.ballisticHardpoints = hardpoints.getCount(HardpointType.BALLISTIC);
+        this.missileHardpoints = hardpoints.getCount(HardpointType.MISSILE);
         this.totalSlots = totalSlots;
-        this.usedSlots = 0; // Initially no slots are used
 
         this.maxHitPoints = (armorTons * 8) + internalStructure;
         this.currentHitPoints = maxHitPoints;
@@ -39,12 +96,65 @@ public class MechSection {
         this.armorDamage = 0;
         this.slotDamage = new int[totalSlots];
         this.fieldRepairArmor = 0;
+        this.slotHPRemaining = totalSlots * baseSlotHP;
+        this.lowestIntactSlot = totalSlots - 1;
+        this.slotOccupants = emptyOccupants(totalSlots);
+        this.freeSlots = allSlots(totalSlots);
+    }
+
+    /**
+     * Copies the layout of a template section with fresh damage state
+     */
+    private MechSection(MechSection template) {
+        this.name = template.name;
+        this.sectionId = template.sectionId;
+        this.baseSlotHP = template.baseSlotHP;
+        this.armorTons = template.armorTons;
+        this.internalStructure = template.internalStructure;
+        this.energyHardpoints = template.energyHardpoints;
+        this.ballisticHardpoints = template.ballisticHardpoints;
+        this.missileHardpoints = template.missileHardpoints;
+        this.hardpoints = template.hardpoints;
+        this.hardpointTypeMask = template.hardpointTypeMask;
+        this.totalSlots = template.totalSlots;
+        this.maxHitPoints = template.maxHitPoints;
+        this.currentHitPoints = template.maxHitPoints;
+        this.slotDamage = new int[template.totalSlots];
+        this.slotHPRemaining = template.totalSlots * template.baseSlotHP;
+        this.lowestIntactSlot = template.totalSlots - 1;
+        this.slotOccupants = emptyOccupants(template.totalSlots);
+        this.freeSlots = allSlots(template.totalSlots);
+    }
+    
+    private static int[] emptyOccupants(int slots) {
+        int[] occupants = new int[slots];
+        java.util.Arrays.fill(occupants, EMPTY_SLOT);
+        return occupants;
+    }
+    
+    private static long allSlots(int slots) {
+        return slots == MAX_SLOTS ? -1L : (1L << slots) - 1;
+    }
+
+    /**
+     * An undamaged copy of this section with no slots in use and no listener.
+     * Cheaper than the public constructors, which resolve the section id by name.
+     */
+    public MechSection copy() {
+        return new MechSection(this);
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Section identity, or null when the name is not one of the standard sections
+     */
+    public SectionId getSectionId() {
+        return sectionId;
+    }
+
     public int getMaxHitPoints() {
         return maxHitPoints;
     }
@@ -73,20 +183,189 @@ public class MechSection {
         return missileHardpoints;
     }
 
+    /**
+     * Hardpoints of this section by type
+     */
+    public Hardpoints getHardpoints() {
+        return hardpoints;
+    }
+    
+    /**
+     * HardpointType bits any hardpoint of this section takes; 0 when it has none
+     */
+    public int getHardpointTypeMask() {
+        return hardpointTypeMask;
+    }
+    
+    public boolean accepts(HardpointType type) {
+        return (hardpointTypeMask & type.bit()) != 0;
+    }
+    
     public int getTotalSlots() {
         return totalSlots;
     }
 
     public int getUsedSlots() {
-        return usedSlots;
+        return totalSlots - Long.bitCount(freeSlots);
     }
 
     public int getAvailableSlots() {
-        return totalSlots - usedSlots;
+        return Long.bitCount(freeSlots);
     }
 
+    /**
+     * Reserve or free anonymous slots through the allocator until the given
+     * number of slots is in use. Slots held by other occupants are never
+     * freed, so the count does not drop below them.
+     */
     public void setUsedSlots(int usedSlots) {
-        this.usedSlots = Math.max(0, Math.min(usedSlots, totalSlots));
+        int target = Math.max(0, Math.min(usedSlots, totalSlots));
+        while (getUsedSlots() < target) {
+            allocateSlots(1, RESERVED_SLOT);
+        }
+        for (int slot = totalSlots - 1; slot >= 0 && getUsedSlots() > target; slot--) {
+            if (slotOccupants[slot] == RESERVED_SLOT) {
+                vacateSlot(slot);
+            }
+        }
+    }
+    
+    // Slot occupancy methods
+    
+    /**
+     * What occupies a slot, or EMPTY_SLOT
+     */
+    public int getSlotOccupant(int slotIndex) {
+        return slotOccupants[slotIndex];
+    }
+    
+    /**
+     * First free slot, or -1 when every slot is taken
+     */
+    public int findFreeSlot() {
+        return freeSlots == 0 ? -1 : Long.numberOfTrailingZeros(freeSlots);
+    }
+    
+    /**
+     * First slot starting a run of the given number of free slots, or -1 when none fits
+     */
+    public int findFreeRun(int count) {
+        if (count <= 0 || count > totalSlots) {
+            return -1;
+        }
+        // A bit survives only where it and the count - 1 bits above it are all free
+        long starts = freeSlots;
+        for (int shift = 1; shift < count && starts != 0; shift++) {
+            starts &= freeSlots >>> shift;
+        }
+        return starts == 0 ? -1 : Long.numberOfTrailingZeros(starts);
+    }
+    
+    /**
+     * Bit i is set while slot i is free
+     */
+    public long getFreeSlotMask() {
+        return freeSlots;
+    }
+    
+    public int getFreeSlotCount() {
+        return Long.bitCount(freeSlots);
+    }
+    
+    /**
+     * Longest run of adjacent free slots
+     */
+    public int getLargestFreeRun() {
+        int longest = 0;
+        for (long run = freeSlots; run != 0; run &= run >>> 1) {
+            longest++;
+        }
+        return longest;
+    }
+    
+    /**
+     * Place an occupant in the first run of adjacent free slots that fits it
+     * @param count Slots the occupant takes up
+     * @return First slot of the run, or -1 when no run is long enough
+     */
+    public int allocateSlots(int count, int occupant) {
+        int first = findFreeRun(count);
+        if (first >= 0) {
+            for (int slot = first; slot < first + count; slot++) {
+                occupySlot(slot, occupant);
+            }
+        }
+        return first;
+    }
+    
+    /**
+     * Free every slot held by an occupant
+     * @return Number of slots freed
+     */
+    public int releaseSlots(int occupant) {
+        int freed = 0;
+        for (int i = 0; i < slotOccupants.length; i++) {
+            if (slotOccupants[i] == occupant && occupant != EMPTY_SLOT) {
+                vacateSlot(i);
+                freed++;
+            }
+        }
+        return freed;
+    }
+    
+    /**
+     * First slot holding the given occupant, or -1
+     */
+    public int findSlotOf(int occupant) {
+        for (int i = 0; i < slotOccupants.length; i++) {
+            if (slotOccupants[i] == occupant) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Put an occupant into a free slot
+     * @param occupant Caller-chosen non-negative id, e.g. a weapon index
+     */
+    public void occupySlot(int slotIndex, int occupant) {
+        if (occupant < 0) {
+            throw new IllegalArgumentException("Occupant ids must not be negative: " + occupant);
+        }
+        if (slotOccupants[slotIndex] != EMPTY_SLOT) {
+            throw new IllegalStateException("Slot " + slotIndex + " of " + name + " is already occupied");
+        }
+        slotOccupants[slotIndex] = occupant;
+        freeSlots &= ~(1L << slotIndex);
+    }
+    
+    /**
+     * Free a slot
+     * @return The occupant that was removed, or EMPTY_SLOT
+     */
+    public int vacateSlot(int slotIndex) {
+        int occupant = slotOccupants[slotIndex];
+        if (occupant != EMPTY_SLOT) {
+            slotOccupants[slotIndex] = EMPTY_SLOT;
+            freeSlots |= 1L << slotIndex;
+        }
+        return occupant;
+    }
+    
+    /**
+     * Free every slot
+     */
+    public void clearSlotOccupants() {
+        java.util.Arrays.fill(slotOccupants, EMPTY_SLOT);
+        freeSlots = allSlots(totalSlots);
+    }
+    
+    /**
+     * Listener told about each occupied slot destroyed by damage; null for none
+     */
+    public void setCriticalHitListener(CriticalHitListener criticalHitListener) {
+        this.criticalHitListener = criticalHitListener;
     }
     
     // Damage tracking methods
@@ -114,23 +393,7 @@ public class MechSection {
      * @return HP per slot based on section type
      */
     private int getBaseSlotHP() {
-        switch (name) {
-            case "Left Arm":
-            case "Right Arm":
-                return 24;
-            case "Left Torso":
-            case "Right Torso":
-                return 32;
-            case "Left Leg":
-            case "Right Leg":
-                return 36;
-            case "Center Torso":
-                return 60;
-            case "Head":
-                return 30;
-            default:
-                return 24; // Default fallback
-        }
+        return baseSlotHP;
     }
     
     public int getSlotHP(int slotIndex) {
@@ -141,17 +404,20 @@ public class MechSection {
     }
     
     public int getTotalSlotHP() {
-        int total = 0;
-        for (int i = 0; i < totalSlots; i++) {
-            total += getSlotHP(i);
-        }
-        return total;
+        return slotHPRemaining;
     }
     
     public int getCurrentTotalHP() {
         return getEffectiveArmorHP() + getTotalSlotHP();
     }
     
+    /**
+     * True once every slot's structure is gone
+     */
+    public boolean isDestroyed() {
+        return lowestIntactSlot < 0;
+    }
+    
     public int getMaxTotalHP() {
         return (armorTons * 8) + (totalSlots * getBaseSlotHP());
     }
@@ -162,6 +428,45 @@ public class MechSection {
      * @return Remaining damage if section is destroyed
      */
     public int applyDamage(int damage) {
+        int remainingDamage = absorbHit(damage);
+        
+        // Update current hit points
+        currentHitPoints = getCurrentTotalHP();
+        
+        return remainingDamage;
+    }
+    
+    /**
+     * Apply a whole volley in one pass, with the same per-hit rules as {@link #applyDamage(int)}.
+     * @param hits Damage of each hit, applied in order
+     * @param count Number of hits to take from the start of the array
+     * @param overflow Receives each hit's leftover damage at the same index; may be null
+     * @return Total damage that went through the destroyed section
+     */
+    public int applyVolley(int[] hits, int count, int[] overflow) {
+        int totalOverflow = 0;
+        for (int i = 0; i < count; i++) {
+            int remaining = absorbHit(hits[i]);
+            if (overflow != null) {
+                overflow[i] = remaining;
+            }
+            totalOverflow += remaining;
+        }
+        currentHitPoints = getCurrentTotalHP();
+        return totalOverflow;
+    }
+    
+    /**
+     * Apply every hit in the array; see {@link #applyVolley(int[], int, int[])}
+     */
+    public int applyVolley(int[] hits) {
+        return applyVolley(hits, hits.length, null);
+    }
+    
+    /**
+     * Absorb one hit into field repair armor, armor and then slots, keeping the running totals current
+     */
+    private int absorbHit(int damage) {
         int remainingDamage = damage;
         
         // First, damage goes to armor (including field repair armor)
@@ -180,30 +485,33 @@ public class MechSection {
                 remainingDamage = 0;
             } else {
                 // Armor destroyed, remaining damage goes to slots
-                if (fieldRepairArmor > 0) {
-                    remainingDamage -= fieldRepairArmor;
-                    fieldRepairArmor = 0;
-                }
+                remainingDamage -= effectiveArmor;
+                fieldRepairArmor = 0;
                 armorDamage = (armorTons * 8);
-                remainingDamage -= (armorTons * 8) - armorDamage;
             }
         }
         
         // Remaining damage goes to slots from bottom to top
-        if (remainingDamage > 0) {
-            for (int i = totalSlots - 1; i >= 0 && remainingDamage > 0; i--) {
-                int slotHP = getSlotHP(i);
-                if (slotHP > 0) {
-                    int damageToSlot = Math.min(remainingDamage, slotHP);
-                    slotDamage[i] += damageToSlot;
-                    remainingDamage -= damageToSlot;
+        while (remainingDamage > 0 && lowestIntactSlot >= 0) {
+            int slotHP = getSlotHP(lowestIntactSlot);
+            if (slotHP <= 0) {
+                // Already destroyed, e.g. a gap left by setDamageState; it was reported back then
+                lowestIntactSlot--;
+                continue;
+            }
+            int damageToSlot = Math.min(remainingDamage, slotHP);
+            slotDamage[lowestIntactSlot] += damageToSlot;
+            slotHPRemaining -= damageToSlot;
+            remainingDamage -= damageToSlot;
+            if (damageToSlot == slotHP) {
+                int occupant = slotOccupants[lowestIntactSlot];
+                if (occupant != EMPTY_SLOT && criticalHitListener != null) {
+                    criticalHitListener.slotDestroyed(this, lowestIntactSlot, occupant);
                 }
+                lowestIntactSlot--;
             }
         }
         
-        // Update current hit points
-        currentHitPoints = getCurrentTotalHP();
-        
         return remainingDamage;
     }
     
@@ -225,6 +533,44 @@ public class MechSection {
         for (int i = 0; i < slotDamage.length; i++) {
             slotDamage[i] = 0;
         }
+        slotHPRemaining = totalSlots * getBaseSlotHP();
+        lowestIntactSlot = totalSlots - 1;
+        currentHitPoints = getCurrentTotalHP();
+    }
+    
+    /**
+     * Overwrite the damage state, e.g. when copying it back from a simulation.
+     * Slots destroyed this way are not reported to the critical hit listener.
+     * @param slotDamage Damage per slot; must have getTotalSlots() entries, each between 0 and the slot's base HP
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    public void setDamageState(int armorDamage, int fieldRepairArmor, int[] slotDamage) {
+        if (slotDamage.length != totalSlots) {
+            throw new IllegalArgumentException("Expected " + totalSlots + " slots but got " + slotDamage.length);
+        }
+        if (armorDamage < 0 || armorDamage > armorTons * 8) {
+            throw new IllegalArgumentException(name + " armor damage must be between 0 and " + (armorTons * 8) + ": " + armorDamage);
+        }
+        if (fieldRepairArmor < 0) {
+            throw new IllegalArgumentException(name + " field repair armor must not be negative: " + fieldRepairArmor);
+        }
+        for (int i = 0; i < totalSlots; i++) {
+            if (slotDamage[i] < 0 || slotDamage[i] > getBaseSlotHP()) {
+                throw new IllegalArgumentException(name + " slot " + i + " damage must be between 0 and "
+                        + getBaseSlotHP() + ": " + slotDamage[i]);
+            }
+        }
+        this.armorDamage = armorDamage;
+        this.fieldRepairArmor = fieldRepairArmor;
+        slotHPRemaining = 0;
+        lowestIntactSlot = -1;
+        for (int i = 0; i < totalSlots; i++) {
+            this.slotDamage[i] = slotDamage[i];
+            slotHPRemaining += getSlotHP(i);
+            if (getSlotHP(i) > 0) {
+                lowestIntactSlot = i;
+            }
+        }
         currentHitPoints = getCurrentTotalHP();
     }
     
@@ -264,7 +610,7 @@ public class MechSection {
             "%s\nArmor Tons: %d\nStructure: %d\nHP: %d / %d\nHardpoints [E:%d | B:%d | M:%d]\nSlots: %d/%d (%d available)\nDamage: %s",
             name, armorTons, internalStructure, currentHitPoints, maxHitPoints,
             energyHardpoints, ballisticHardpoints, missileHardpoints,
-            usedSlots, totalSlots, getAvailableSlots(), getDamageStatus()
+            getUsedSlots(), totalSlots, getAvailableSlots(), getDamageStatus()
         );
     }
 }
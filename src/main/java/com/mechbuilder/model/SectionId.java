@@ -0,0 +1,91 @@
+package com.mechbuilder.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Identity of a mech section, with the per-section constants that used to be
+ * looked up by name.
+ *
+ * Use {@link java.util.EnumMap} or arrays indexed by {@link #ordinal()} to
+ * store per-section data. Constants are in hardpoint column order of
+ * Mech Loadout Data.csv, followed by the legs.
+ */
+public enum SectionId {
+    LEFT_ARM("Left Arm", 24, 0.05),
+    LEFT_TORSO("Left Torso", 32, 0.15),
+    HEAD("Head", 30, 0.05),
+    CENTER_TORSO("Center Torso", 60, 0.25),
+    RIGHT_TORSO("Right Torso", 32, 0.15),
+    RIGHT_ARM("Right Arm", 24, 0.05),
+    LEFT_LEG("Left Leg", 36, 0.15),
+    RIGHT_LEG("Right Leg", 36, 0.15);
+
+    /** Slot HP for sections that are not one of the standard eight */
+    public static final int DEFAULT_SLOT_HP = 24;
+
+    /** Number of sections, for sizing ordinal-indexed arrays */
+    public static final int COUNT = values().length;
+
+    private static final SectionId[] VALUES = values();
+    private static final Map<String, SectionId> BY_NAME = new HashMap<>();
+    static {
+        for (SectionId id : VALUES) {
+            BY_NAME.put(id.displayName, id);
+        }
+    }
+
+    private final String displayName;
+    private final int baseSlotHp;
+    private final double armorPercentCap;
+
+    SectionId(String displayName, int baseSlotHp, double armorPercentCap) {
+        this.displayName = displayName;
+        this.baseSlotHp = baseSlotHp;
+        this.armorPercentCap = armorPercentCap;
+    }
+
+    /**
+     * Section name as used in the CSV files and the UI, e.g. "Left Arm"
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Undamaged HP of each slot in this section
+     */
+    public int getBaseSlotHp() {
+        return baseSlotHp;
+    }
+
+    /**
+     * Largest share of the chassis' max armor tonnage this section may carry
+     */
+    public double getArmorPercentCap() {
+        return armorPercentCap;
+    }
+
+    public boolean isLeg() {
+        return this == LEFT_LEG || this == RIGHT_LEG;
+    }
+
+    /**
+     * The section with the given display name, or null when there is none
+     */
+    public static SectionId fromName(String name) {
+        return BY_NAME.get(name);
+    }
+
+    /**
+     * The section with the given ordinal, without cloning values()
+     */
+    public static SectionId ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mechbuilder.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of a section-keyed map under the sections' display names,
+ * for callers that still look sections up by name. Reads go straight to the
+ * backing map, so the view always matches it.
+ */
+final class SectionNameMap<V> extends AbstractMap<String, V> {
+    private final Map<SectionId, V> byId;
+
+    SectionNameMap(Map<SectionId, V> byId) {
+        this.byId = byId;
+    }
+
+    @Override
+    public V get(Object key) {
+        SectionId id = idOf(key);
+        return id != null ? byId.get(id) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        SectionId id = idOf(key);
+        return id != null && byId.containsKey(id);
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                Iterator<Entry<SectionId, V>> entries = byId.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        Entry<SectionId, V> entry = entries.next();
+                        return new SimpleImmutableEntry<>(entry.getKey().getDisplayName(), entry.getValue());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return byId.size();
+            }
+        };
+    }
+
+    private static SectionId idOf(Object key) {
+        return key instanceof String ? SectionId.fromName((String) key) : null;
+    }
+}
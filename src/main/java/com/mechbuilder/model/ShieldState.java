@@ -0,0 +1,83 @@
+package com.mechbuilder.model;
+
+/**
+ * Live state of a mech's shield, absorbing damage before section armor.
+ *
+ * Recharge is not ticked. The state keeps the HP left after the last hit and
+ * when that hit landed; the current HP is worked out from the elapsed time
+ * whenever it is read, so both a hit and a read are O(1). Every hit restarts
+ * the recharge delay. Times are in seconds on any clock the caller chooses, as
+ * long as it never runs backwards.
+ */
+public class ShieldState {
+    private final Shield shield;
+    private final int maxHp;
+    private int hpAfterLastHit;
+    private double lastHitTime;
+
+    public ShieldState(Shield shield) {
+        this.shield = shield;
+        this.maxHp = shield.isNoneShield() ? 0 : shield.getHp();
+        reset();
+    }
+
+    public Shield getShield() {
+        return shield;
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    /**
+     * Shield HP at the given time, including recharge since the last hit
+     */
+    public int getHp(double now) {
+        if (hpAfterLastHit >= maxHp) {
+            return maxHp;
+        }
+        double recharging = now - lastHitTime - shield.getRechargeDelay();
+        if (recharging <= 0) {
+            return hpAfterLastHit;
+        }
+        double recharged = hpAfterLastHit + shield.getRechargeRate() * recharging;
+        return recharged >= maxHp ? maxHp : (int) recharged;
+    }
+
+    /**
+     * True while the shield is below full and past its recharge delay
+     */
+    public boolean isRecharging(double now) {
+        return getHp(now) < maxHp && now - lastHitTime >= shield.getRechargeDelay();
+    }
+
+    /**
+     * Absorb as much of a hit as the shield holds at the given time
+     * @return Damage that passes through to the section
+     */
+    public int absorb(int damage, double now) {
+        if (damage <= 0) {
+            return damage;
+        }
+        int hp = getHp(now);
+        int absorbed = Math.min(hp, damage);
+        hpAfterLastHit = hp - absorbed;
+        lastHitTime = now;
+        return damage - absorbed;
+    }
+
+    /**
+     * Back to full charge
+     */
+    public void reset() {
+        hpAfterLastHit = maxHp;
+        lastHitTime = Double.NEGATIVE_INFINITY;
+    }
+
+    public String getStatus(double now) {
+        if (maxHp == 0) {
+            return "No Shield";
+        }
+        return String.format("Shield: %d/%d HP%s", getHp(now), maxHp, isRecharging(now) ? " (recharging)" : "");
+    }
+}
@@ -0,0 +1,32 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.SectionId;
+
+/**
+ * Side of the target an attack comes from, with the default hit-location
+ * weights for it.
+ *
+ * Weights follow the classic 2d6 hit-location tables and are given in 36ths,
+ * indexed by SectionId ordinal. Rear armor is not modeled, so rear attacks use
+ * the front distribution.
+ */
+public enum AttackDirection {
+    //      LA LT  H CT RT RA LL RL
+    FRONT(  5, 5, 1, 7, 5, 5, 4, 4),
+    LEFT(   7, 7, 1, 5, 4, 3, 7, 2),
+    RIGHT(  3, 4, 1, 5, 7, 7, 2, 7),
+    REAR(   5, 5, 1, 7, 5, 5, 4, 4);
+
+    private final int[] weights;
+
+    AttackDirection(int... weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Relative chance, in 36ths, that a hit from this direction lands on the section
+     */
+    public int getWeight(SectionId section) {
+        return weights[section.ordinal()];
+    }
+}
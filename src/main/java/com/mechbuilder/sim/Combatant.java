@@ -0,0 +1,177 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One side of a duel: a mech, the weapons it fires and where its shots land.
+ *
+ * Shots land on the aim section unless an attack direction is given, in which
+ * case randomized duels spread them over the opponent's sections with that
+ * direction's {@link HitLocationTable}.
+ *
+ * Weapons given per section are placed into free slots of those sections with
+ * their weapon index as the slot occupant, replacing whatever occupied the
+ * mech's slots before; a weapon whose slot is destroyed stops firing. Weapons
+ * given as a plain list are not placed and fire until the duel ends.
+ *
+ * The mech's sections carry the damage taken during a duel, so a combatant
+ * belongs to one engine and one thread at a time.
+ */
+public final class Combatant {
+    private final String name;
+    private final Mech mech;
+    private final List<WeaponComponent> weapons;
+    private final SectionId aimSection;
+    private final HeatModel heatModel; // null when heat is not simulated
+    private final AttackDirection attackDirection; // null for aimed shots
+    private final SectionId[] weaponSections; // [weapon index] section it is placed in; null when unplaced
+    private final WeaponRangeTable rangeTable; // one row per weapon index, shared by copies
+
+    public Combatant(Mech mech, List<WeaponComponent> weapons) {
+        this(mech, weapons, SectionId.CENTER_TORSO);
+    }
+
+    public Combatant(Mech mech, List<WeaponComponent> weapons, SectionId aimSection) {
+        this(mech, weapons, aimSection, null);
+    }
+
+    public Combatant(Mech mech, List<WeaponComponent> weapons, SectionId aimSection, HeatModel heatModel) {
+        this(mech, weapons, aimSection, heatModel, null);
+    }
+
+    public Combatant(Mech mech, List<WeaponComponent> weapons, SectionId aimSection, HeatModel heatModel,
+                     AttackDirection attackDirection) {
+        this(mech, weapons, null, aimSection, heatModel, attackDirection, null);
+    }
+
+    public Combatant(Mech mech, Map<SectionId, List<WeaponComponent>> loadout) {
+        this(mech, loadout, SectionId.CENTER_TORSO, null, null);
+    }
+
+    /**
+     * @param loadout Weapons by the section they are mounted in; weapon indices follow the map's iteration order
+     */
+    public Combatant(Mech mech, Map<SectionId, List<WeaponComponent>> loadout, SectionId aimSection,
+                     HeatModel heatModel, AttackDirection attackDirection) {
+        this(mech, flatten(loadout), sectionsOf(loadout), aimSection, heatModel, attackDirection, null);
+    }
+
+    private Combatant(Mech mech, List<WeaponComponent> weapons, SectionId[] weaponSections, SectionId aimSection,
+                      HeatModel heatModel, AttackDirection attackDirection, WeaponRangeTable rangeTable) {
+        this.name = mech.getName();
+        this.mech = mech;
+        this.weapons = List.copyOf(weapons);
+        this.weaponSections = weaponSections;
+        this.rangeTable = rangeTable != null ? rangeTable : new WeaponRangeTable(this.weapons);
+        this.aimSection = aimSection;
+        this.heatModel = heatModel;
+        this.attackDirection = attackDirection;
+        if (weaponSections != null) {
+            placeWeapons();
+        }
+    }
+
+    private static List<WeaponComponent> flatten(Map<SectionId, List<WeaponComponent>> loadout) {
+        List<WeaponComponent> weapons = new ArrayList<>();
+        for (List<WeaponComponent> sectionWeapons : loadout.values()) {
+            weapons.addAll(sectionWeapons);
+        }
+        return weapons;
+    }
+
+    private static SectionId[] sectionsOf(Map<SectionId, List<WeaponComponent>> loadout) {
+        List<SectionId> sections = new ArrayList<>();
+        for (Map.Entry<SectionId, List<WeaponComponent>> entry : loadout.entrySet()) {
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                sections.add(entry.getKey());
+            }
+        }
+        return sections.toArray(new SectionId[0]);
+    }
+
+    private void placeWeapons() {
+        for (MechSection section : mech.getSectionsById().values()) {
+            section.clearSlotOccupants();
+        }
+        for (int w = 0; w < weaponSections.length; w++) {
+            MechSection section = mech.getSection(weaponSections[w]);
+            if (section == null || section.allocateSlots(1, w) < 0) {
+                throw new IllegalArgumentException("No free slot for " + weapons.get(w).getName()
+                        + " in " + weaponSections[w]);
+            }
+        }
+    }
+
+    /**
+     * Same build on an undamaged copy of the mech, for running duels on another thread
+     */
+    public Combatant copy() {
+        return new Combatant(mech.copy(), weapons, weaponSections, aimSection, heatModel, attackDirection, rangeTable);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Mech getMech() {
+        return mech;
+    }
+
+    public List<WeaponComponent> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * Damage and hit chance of each weapon by range; row {@code i} is weapon index {@code i}
+     */
+    public WeaponRangeTable getRangeTable() {
+        return rangeTable;
+    }
+
+    /**
+     * Section of the opposing mech this combatant's shots land on
+     */
+    public SectionId getAimSection() {
+        return aimSection;
+    }
+
+    /**
+     * Heat rules this combatant fires under, or null to ignore heat
+     */
+    public HeatModel getHeatModel() {
+        return heatModel;
+    }
+
+    /**
+     * Section a weapon is mounted in, by weapon index; null when the weapons were not placed
+     */
+    public SectionId getWeaponSection(int weaponIndex) {
+        return weaponSections != null ? weaponSections[weaponIndex] : null;
+    }
+
+    /**
+     * Direction this combatant attacks from, or null when every shot goes to the aim section
+     */
+    public AttackDirection getAttackDirection() {
+        return attackDirection;
+    }
+
+    /**
+     * True once the mech can no longer fight: head or center torso destroyed, or both legs
+     */
+    public boolean isDefeated() {
+        return isDestroyed(SectionId.HEAD) || isDestroyed(SectionId.CENTER_TORSO)
+                || (isDestroyed(SectionId.LEFT_LEG) && isDestroyed(SectionId.RIGHT_LEG));
+    }
+
+    private boolean isDestroyed(SectionId id) {
+        return mech.getSection(id) != null && mech.getSection(id).isDestroyed();
+    }
+}
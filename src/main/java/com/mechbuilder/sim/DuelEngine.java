@@ -0,0 +1,295 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.DamageRouter;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.ShieldState;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Headless, fixed-timestep duel between two combatants at a fixed range.
+ *
+ * Each weapon fires a full salvo on the first tick and again every time its
+ * recycle timer runs out; every shot of the salvo is routed through the
+ * opponent mech's {@link DamageRouter}, starting at the aimed section and
+ * passing overflow along the mech's transfer graph. Both
+ * sides fire within the same tick before either is checked for defeat, so
+ * mutual kills are draws. Everything the tick loop touches is prepared up
+ * front in primitive arrays, so the loop itself allocates nothing and the same
+ * inputs always produce the same result.
+ *
+ * Shot damage and hit chance come from each combatant's
+ * {@link WeaponRangeTable}, the same figures the analytics read. Damage is
+ * dealt in whole points: each weapon carries the fraction it could not deal
+ * yet over to its next hit, so over a duel it deals what the table says.
+ *
+ * {@link #run()} lands every shot. {@link #run(SplittableRandom)} rolls each
+ * shot against the table's hit chance and staggers each weapon's
+ * first salvo by a random part of its recycle time; the same seed still gives
+ * the same duel. In randomized duels a combatant with an attack direction
+ * samples each hit's section from a {@link HitLocationTable} built for the
+ * opponent's sections; otherwise every hit lands on the aim section.
+ *
+ * A combatant with a {@link HeatModel} sheds heat every tick, holds fire on
+ * weapons whose salvo would pass the throttle threshold, and stops firing
+ * altogether while shut down.
+ *
+ * Weapons placed in their mech's slots stop firing the moment their slot is
+ * destroyed: each side listens for critical hits on its own sections and
+ * clears the weapon's bit in a live-weapon bitmask, which the firing loop
+ * checks before every salvo.
+ *
+ * A mech with a shield has every hit offered to its {@link ShieldState} first,
+ * at the tick's time in seconds; the shield recharges lazily between hits, so
+ * it costs nothing on ticks where it is not hit. With a heat model the shield
+ * also adds its heat, plus its recharging heat while it recharges.
+ *
+ * An engine mutates its combatants' mechs and is not thread-safe; {@link #run()}
+ * resets their damage first, so one engine can run many duels.
+ */
+public final class DuelEngine {
+    public static final double DEFAULT_TICK_SECONDS = 0.05;
+    public static final double DEFAULT_MAX_SECONDS = 600.0;
+
+    private final double tickSeconds;
+    private final int maxTicks;
+    private final Side[] sides;
+
+    public DuelEngine(Combatant first, Combatant second, double range) {
+        this(first, second, range, DEFAULT_TICK_SECONDS, DEFAULT_MAX_SECONDS);
+    }
+
+    public DuelEngine(Combatant first, Combatant second, double range, double tickSeconds, double maxSeconds) {
+        this.tickSeconds = tickSeconds;
+        this.maxTicks = maxTicks(tickSeconds, maxSeconds);
+        this.sides = new Side[] {
+            new Side(first, second, range, tickSeconds),
+            new Side(second, first, range, tickSeconds)
+        };
+    }
+
+    public double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    /**
+     * Longest duel this engine plays, in ticks
+     */
+    public int getMaxTicks() {
+        return maxTicks;
+    }
+
+    /**
+     * Ticks a duel of the given length lasts at most, without building an engine
+     */
+    static int maxTicks(double tickSeconds, double maxSeconds) {
+        if (tickSeconds <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickSeconds);
+        }
+        return (int) Math.ceil(maxSeconds / tickSeconds);
+    }
+
+    /**
+     * Combatant on the given side, 0 or 1
+     */
+    public Combatant getCombatant(int side) {
+        return sides[side].combatant;
+    }
+
+    /**
+     * Plays one duel from undamaged mechs until one side is defeated or time runs out
+     */
+    public DuelResult run() {
+        return run(null);
+    }
+
+    /**
+     * Plays one randomized duel, drawing every roll from the given generator
+     * @param random Source of accuracy rolls and salvo offsets; null lands every shot
+     */
+    public DuelResult run(SplittableRandom random) {
+        Side first = sides[0];
+        Side second = sides[1];
+        first.reset(random);
+        second.reset(random);
+
+        int tick = 0;
+        boolean firstDown = false;
+        boolean secondDown = false;
+        while (tick < maxTicks && !firstDown && !secondDown) {
+            fire(first, second, tick, random);
+            fire(second, first, tick, random);
+            tick++;
+            firstDown = first.combatant.isDefeated();
+            secondDown = second.combatant.isDefeated();
+        }
+
+        int winner = DuelResult.DRAW;
+        if (firstDown != secondDown) {
+            winner = firstDown ? 1 : 0;
+        }
+        return new DuelResult(winner, tick, tickSeconds,
+                new long[][] {first.damageByWeapon.clone(), second.damageByWeapon.clone()},
+                new long[][] {first.damageTaken.clone(), second.damageTaken.clone()},
+                new long[] {first.shieldDamage, second.shieldDamage},
+                new int[] {first.shotsFired, second.shotsFired});
+    }
+
+    private void fire(Side attacker, Side defender, int tick, SplittableRandom random) {
+        double now = tick * tickSeconds;
+        HeatModel heatModel = attacker.heatModel;
+        // Heat moves every tick, whether or not there is anything to shoot at
+        if (heatModel != null) {
+            attacker.heat = Math.max(0.0, attacker.heat - attacker.coolingPerTick);
+            if (attacker.shield != null && attacker.shield.isRecharging(now)) {
+                attacker.heat += attacker.rechargingHeatPerTick;
+            }
+            if (attacker.shutDown) {
+                if (!heatModel.mayRestart(attacker.heat)) return;
+                attacker.shutDown = false;
+            }
+        }
+
+        int aim = attacker.combatant.getAimSection().ordinal();
+        HitLocationTable hitLocations = random != null ? attacker.hitLocations : null;
+        if (hitLocations == null && defender.sections[aim] == null) return;
+        ShieldState shield = defender.shield;
+
+        for (int w = 0; w < attacker.weaponCount; w++) {
+            if (attacker.nextFireTick[w] > tick || attacker.shotDamage[w] <= 0) continue;
+            if ((attacker.liveWeapons[w >>> 6] & 1L << w) == 0) continue;
+            if (heatModel != null) {
+                if (!heatModel.mayFire(attacker.heat, attacker.salvoHeat[w])) continue;
+                attacker.heat += attacker.salvoHeat[w];
+                if (attacker.heat > heatModel.getCapacity()) {
+                    attacker.shutDown = true;
+                }
+            }
+
+            for (int shot = 0; shot < attacker.shotsPerSalvo[w]; shot++) {
+                attacker.shotsFired++;
+                if (random != null && random.nextDouble() >= attacker.hitChance[w]) continue;
+                double owed = attacker.damageCarry[w] + attacker.shotDamage[w];
+                int damage = (int) owed;
+                attacker.damageCarry[w] = owed - damage;
+                int location = hitLocations != null ? hitLocations.sampleOrdinal(random) : aim;
+                int passed = shield != null ? shield.absorb(damage, now) : damage;
+                int lost = passed > 0 ? defender.router.route(location, passed, defender.damageTaken) : 0;
+                attacker.damageByWeapon[w] += damage - lost;
+                defender.shieldDamage += damage - passed;
+            }
+            attacker.nextFireTick[w] = tick + attacker.recycleTicks[w];
+            if (attacker.shutDown) return;
+        }
+    }
+
+    /**
+     * Per-combatant weapon columns and counters, laid out once per engine
+     */
+    private static final class Side implements MechSection.CriticalHitListener {
+        private final Combatant combatant;
+        private final MechSection[] sections = new MechSection[SectionId.COUNT];
+        private final DamageRouter router;
+        private final int weaponCount;
+        private final double[] shotDamage;
+        private final double[] damageCarry; // [weapon] fraction of a point owed to the next hit
+        private final double[] hitChance;
+        private final int[] shotsPerSalvo;
+        private final int[] recycleTicks;
+        private final int[] nextFireTick;
+        private final long[] damageByWeapon;
+        private final long[] liveWeapons; // bit w set while weapon w can fire
+        private final long[] damageTaken = new long[SectionId.COUNT];
+        private long shieldDamage;
+        private int shotsFired;
+
+        // Null when the mech has no shield
+        private final ShieldState shield;
+        // Where this side's hits land on the opponent; null for aimed shots
+        private final HitLocationTable hitLocations;
+
+        // Heat state, only used when the combatant has a heat model
+        private final HeatModel heatModel;
+        private final double[] salvoHeat;
+        private final double coolingPerTick;
+        private final double rechargingHeatPerTick;
+        private double heat;
+        private boolean shutDown;
+
+        Side(Combatant combatant, Combatant opponent, double range, double tickSeconds) {
+            this.combatant = combatant;
+            AttackDirection direction = combatant.getAttackDirection();
+            this.hitLocations = direction != null ? HitLocationTable.forMech(opponent.getMech(), direction) : null;
+            for (SectionId id : SectionId.values()) {
+                sections[id.ordinal()] = combatant.getMech().getSection(id);
+            }
+            this.router = combatant.getMech().getDamageRouter();
+
+            List<WeaponComponent> weapons = combatant.getWeapons();
+            this.weaponCount = weapons.size();
+            this.shotDamage = new double[weaponCount];
+            this.damageCarry = new double[weaponCount];
+            this.hitChance = new double[weaponCount];
+            this.shotsPerSalvo = new int[weaponCount];
+            this.recycleTicks = new int[weaponCount];
+            this.nextFireTick = new int[weaponCount];
+            this.damageByWeapon = new long[weaponCount];
+            this.liveWeapons = new long[(weaponCount + 63) >>> 6];
+            // Slot occupants are weapon indices only when the combatant placed its weapons
+            boolean placed = weaponCount > 0 && combatant.getWeaponSection(0) != null;
+            for (MechSection section : sections) {
+                if (section != null) {
+                    section.setCriticalHitListener(placed ? this : null);
+                }
+            }
+            ShieldState shieldState = combatant.getMech().getShieldState();
+            this.shield = shieldState != null && shieldState.getMaxHp() > 0 ? shieldState : null;
+            this.heatModel = combatant.getHeatModel();
+            this.salvoHeat = new double[weaponCount];
+            this.coolingPerTick = heatModel == null ? 0.0
+                    : heatModel.netDissipation(shield != null ? shield.getShield() : null) * tickSeconds;
+            this.rechargingHeatPerTick = shield != null ? shield.getShield().getRechargingHeat() * tickSeconds : 0.0;
+            WeaponRangeTable rangeTable = combatant.getRangeTable();
+            for (int w = 0; w < weaponCount; w++) {
+                WeaponComponent weapon = weapons.get(w);
+                shotDamage[w] = rangeTable.getShotDamage(w, range);
+                hitChance[w] = rangeTable.getHitChance(w, range);
+                shotsPerSalvo[w] = Math.max(1, weapon.getShotsperSalvo());
+                recycleTicks[w] = Math.max(1, (int) Math.round(weapon.getRecycleTime() / tickSeconds));
+                salvoHeat[w] = weapon.getHeatGeneration();
+            }
+        }
+
+        void reset(SplittableRandom random) {
+            router.resetDamage();
+            Arrays.fill(liveWeapons, 0L);
+            for (int w = 0; w < weaponCount; w++) {
+                liveWeapons[w >>> 6] |= 1L << w;
+                nextFireTick[w] = random != null ? random.nextInt(recycleTicks[w]) : 0;
+                damageByWeapon[w] = 0;
+                damageCarry[w] = 0.0;
+            }
+            for (int i = 0; i < damageTaken.length; i++) {
+                damageTaken[i] = 0;
+            }
+            if (shield != null) {
+                shield.reset();
+            }
+            shieldDamage = 0;
+            shotsFired = 0;
+            heat = 0.0;
+            shutDown = false;
+        }
+
+        @Override
+        public void slotDestroyed(MechSection section, int slotIndex, int occupant) {
+            if (occupant < weaponCount) {
+                liveWeapons[occupant >>> 6] &= ~(1L << occupant);
+            }
+        }
+    }
+}
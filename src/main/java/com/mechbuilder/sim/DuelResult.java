@@ -0,0 +1,106 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.SectionId;
+
+/**
+ * Outcome of one duel: who won, when, and where the damage came from and went.
+ *
+ * Sides are numbered 0 and 1 in the order the combatants were given to the
+ * engine. Damage figures count only damage that was absorbed, by a shield or
+ * a section, not damage lost at the end of a transfer chain.
+ */
+public final class DuelResult {
+    /** Winner value when both mechs fell on the same tick or time ran out */
+    public static final int DRAW = -1;
+
+    private final int winner;
+    private final int ticks;
+    private final double tickSeconds;
+    private final long[][] damageByWeapon;   // [side][weapon index] damage dealt
+    private final long[][] damageBySection;  // [side][section ordinal] damage taken
+    private final long[] shieldDamage;       // [side] damage taken by the shield
+    private final int[] shotsFired;
+
+    DuelResult(int winner, int ticks, double tickSeconds,
+               long[][] damageByWeapon, long[][] damageBySection, long[] shieldDamage, int[] shotsFired) {
+        this.winner = winner;
+        this.ticks = ticks;
+        this.tickSeconds = tickSeconds;
+        this.damageByWeapon = damageByWeapon;
+        this.damageBySection = damageBySection;
+        this.shieldDamage = shieldDamage;
+        this.shotsFired = shotsFired;
+    }
+
+    /**
+     * Side that won, or DRAW
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    public boolean isDraw() {
+        return winner == DRAW;
+    }
+
+    /**
+     * Ticks simulated until the duel ended
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Seconds until the loser was defeated; the whole duel length for a draw
+     */
+    public double getTimeToKill() {
+        return ticks * tickSeconds;
+    }
+
+    /**
+     * Damage the given side dealt with one of its weapons, by weapon list index
+     */
+    public long getWeaponDamage(int side, int weaponIndex) {
+        return damageByWeapon[side][weaponIndex];
+    }
+
+    public int getWeaponCount(int side) {
+        return damageByWeapon[side].length;
+    }
+
+    /**
+     * Damage the given side took in one section
+     */
+    public long getDamageTaken(int side, SectionId section) {
+        return damageBySection[side][section.ordinal()];
+    }
+
+    /**
+     * Damage the given side's shield absorbed before it reached a section
+     */
+    public long getShieldDamageTaken(int side) {
+        return shieldDamage[side];
+    }
+
+    /**
+     * Damage the given side dealt over the whole duel, shields included
+     */
+    public long getTotalDamageDealt(int side) {
+        long total = 0;
+        for (long damage : damageByWeapon[side]) {
+            total += damage;
+        }
+        return total;
+    }
+
+    public int getShotsFired(int side) {
+        return shotsFired[side];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s after %.2fs (%d vs %d damage)",
+                isDraw() ? "Draw" : "Side " + winner + " wins",
+                getTimeToKill(), getTotalDamageDealt(0), getTotalDamageDealt(1));
+    }
+}
@@ -0,0 +1,453 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Shield;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A running Pareto frontier search for one chassis, started by
+ * {@link ParetoExplorer}.
+ *
+ * Weapons are added one per stage: every kept loadout is extended with zero
+ * or more copies of the stage's weapon, and only the skyline of the results
+ * is kept. A partial loadout is dropped when another one is at least as good
+ * on every metric and has at least as many free hardpoints of every type,
+ * since whatever is added to the dropped one fits the other as well and
+ * keeps it ahead. So the search never walks the whole combination space.
+ * Each stage expands and filters chunks of loadouts as fork/join tasks and
+ * merges their skylines pairwise.
+ *
+ * Metrics are compared in boxes of the explorer's resolution: loadouts whose
+ * metrics fall in the same relative steps count as equal, and only the first
+ * of them is kept. That bounds how many loadouts a stage keeps, at the price
+ * of frontier points that may be a step apart from the exact ones. With a
+ * resolution of 0 values are compared exactly.
+ *
+ * After each stage the new loadouts are merged into the frontier of finished
+ * loadouts, and the listener hears about every point added to or removed
+ * from it. {@link #cancel} stops after the current stage; the frontier then
+ * covers the weapons searched so far.
+ */
+public final class FrontierSearch {
+    // Loadouts a single task extends before skylines are merged
+    private static final int CHUNK_SIZE = 256;
+
+    // Loadouts in an order no loadout can be dominated by a later one; within a box, best damage first
+    private static final Comparator<State> SKYLINE_ORDER = Comparator
+            .comparingDouble((State state) -> -state.dpsKey)
+            .thenComparingDouble(state -> state.tonsKey)
+            .thenComparingDouble(state -> state.heatKey)
+            .thenComparingDouble(state -> -state.rangeKey)
+            .thenComparingInt(state -> state.mounted)
+            .thenComparingDouble(state -> -state.dps)
+            .thenComparingDouble(state -> state.tons);
+
+    private final LoadoutSpace space;
+    private final HeatModel heatModel;
+    private final Shield shield;
+    private final ParetoExplorer.FrontierListener listener;
+    private final int[] order; // Candidate of each stage
+    private final double logStep; // Width of a box in log space, 0 for exact comparison
+
+    private final RecursiveAction root;
+    private volatile boolean cancelled;
+    private volatile int stagesDone;
+    private final List<Point> frontier = new ArrayList<>(); // Guarded by this
+
+    FrontierSearch(LoadoutSpace space, HeatModel heatModel, Shield shield, double resolution,
+                   ParetoExplorer.FrontierListener listener, ForkJoinPool pool) {
+        this.space = space;
+        this.heatModel = heatModel;
+        this.shield = shield;
+        this.listener = listener;
+        this.logStep = Math.log1p(resolution);
+
+        // Weapons beaten by another weapon of their type on every metric never reach the frontier
+        List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < space.size(); i++) {
+            if (space.dps[i] > 0 && !isDominated(i)) {
+                kept.add(i);
+            }
+        }
+        kept.sort(Comparator.comparingDouble((Integer i) -> space.tonnage[i] > 0
+                ? space.dps[i] / space.tonnage[i] : Double.POSITIVE_INFINITY).reversed());
+        this.order = new int[kept.size()];
+        for (int stage = 0; stage < order.length; stage++) {
+            order[stage] = kept.get(stage);
+        }
+
+        this.root = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                run();
+            }
+        };
+        pool.execute(root);
+    }
+
+    private boolean isDominated(int i) {
+        for (int j = 0; j < space.size(); j++) {
+            if (j == i || space.type[j] != space.type[i] || space.tonnage[j] > space.tonnage[i]
+                    || space.dps[j] < space.dps[i] || space.hps[j] > space.hps[i]
+                    || range(j) < range(i)) {
+                continue;
+            }
+            boolean better = space.tonnage[j] < space.tonnage[i] || space.dps[j] > space.dps[i]
+                    || space.hps[j] < space.hps[i] || range(j) > range(i);
+            if (better || j < i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int range(int candidate) {
+        return space.weapons[candidate].getOptimalRange();
+    }
+
+    /**
+     * Stops the search after the stage in progress
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return root.isDone();
+    }
+
+    /**
+     * Whether every weapon was searched, so the frontier is complete
+     */
+    public boolean isComplete() {
+        return stagesDone == order.length;
+    }
+
+    /**
+     * Weapons searched so far; each stage adds one to every kept loadout
+     */
+    public int getStagesDone() {
+        return stagesDone;
+    }
+
+    public int getStageCount() {
+        return order.length;
+    }
+
+    /**
+     * Waits for the search to finish or stop after {@link #cancel}, then returns the frontier
+     */
+    public List<Loadout> join() {
+        root.join();
+        return getFrontier();
+    }
+
+    /**
+     * The frontier as far as the search has got, highest damage first
+     */
+    public List<Loadout> getFrontier() {
+        List<Point> points;
+        synchronized (this) {
+            points = new ArrayList<>(frontier);
+        }
+        List<Loadout> loadouts = new ArrayList<>(points.size());
+        for (Point point : points) {
+            loadouts.add(point.loadout());
+        }
+        loadouts.sort(Comparator.comparingDouble(LoadoutMetric.DAMAGE::value).reversed());
+        return Collections.unmodifiableList(loadouts);
+    }
+
+    private void run() {
+        State empty = state(null, -1, 0, new int[LoadoutSpace.TYPES], 0.0, 0.0, 0.0, Integer.MAX_VALUE);
+        publish(List.of(empty));
+        List<State> states = List.of(empty);
+        for (int stage = 0; stage < order.length && !cancelled; stage++) {
+            int candidate = order[stage];
+            List<State> next = new Expand(states, 0, states.size(), candidate).invoke();
+            if (cancelled) {
+                break;
+            }
+            List<State> created = new ArrayList<>();
+            for (State state : next) {
+                if (state.candidate == candidate) {
+                    created.add(state);
+                }
+            }
+            publish(created);
+            states = next;
+            stagesDone = stage + 1;
+        }
+    }
+
+    /**
+     * Merges finished loadouts into the frontier and tells the listener what changed
+     */
+    private void publish(List<State> states) {
+        List<State> batch = skyline(new ArrayList<>(states), true);
+        List<Point> added = new ArrayList<>();
+        List<Point> removed = new ArrayList<>();
+        synchronized (this) {
+            for (State state : batch) {
+                boolean covered = false;
+                for (Point point : frontier) {
+                    if (covers(point.state, state, true, true)) {
+                        covered = true;
+                        break;
+                    }
+                }
+                if (!covered) {
+                    added.add(new Point(state));
+                }
+            }
+            for (Point point : frontier) {
+                for (Point newer : added) {
+                    if (covers(newer.state, point.state, false, true)) {
+                        removed.add(point);
+                        break;
+                    }
+                }
+            }
+            frontier.removeAll(removed);
+            frontier.addAll(added);
+        }
+        if (listener != null) {
+            for (Point point : removed) {
+                listener.pointRemoved(point.loadout());
+            }
+            for (Point point : added) {
+                listener.pointAdded(point.loadout());
+            }
+        }
+    }
+
+    private State state(State parent, int candidate, int copies, int[] byType, double tons, double dps,
+                        double heat, int minRange) {
+        int band = minRange == Integer.MAX_VALUE ? 0 : minRange;
+        return new State(parent, candidate, copies, byType, tons, dps, heat, minRange,
+                key(tons), key(dps), key(heat),
+                minRange == Integer.MAX_VALUE ? Double.POSITIVE_INFINITY : key(minRange), key(band));
+    }
+
+    /**
+     * Box of a metric value: values within the resolution of each other share a box
+     */
+    private double key(double value) {
+        if (logStep == 0) {
+            return value;
+        }
+        return value <= 0 ? Double.NEGATIVE_INFINITY : Math.floor(Math.log(value) / logStep);
+    }
+
+    /**
+     * Whether {@code a}'s boxes are at least as good as {@code b}'s everywhere, and,
+     * unless equal is enough, better somewhere. Partial loadouts also compare free hardpoints.
+     */
+    private static boolean covers(State a, State b, boolean equalIsEnough, boolean finished) {
+        double rangeA = finished ? a.bandKey : a.rangeKey;
+        double rangeB = finished ? b.bandKey : b.rangeKey;
+        if (a.dpsKey < b.dpsKey || a.tonsKey > b.tonsKey || a.heatKey > b.heatKey || rangeA < rangeB) {
+            return false;
+        }
+        boolean better = a.dpsKey > b.dpsKey || a.tonsKey < b.tonsKey || a.heatKey < b.heatKey
+                || rangeA > rangeB;
+        if (!finished) {
+            for (int t = 0; t < LoadoutSpace.TYPES; t++) {
+                if (a.byType[t] > b.byType[t]) {
+                    return false;
+                }
+                better |= a.byType[t] < b.byType[t];
+            }
+        }
+        return better || equalIsEnough;
+    }
+
+    /**
+     * Keeps the states no other state covers; of equal states only the first survives
+     */
+    private static List<State> skyline(List<State> states, boolean finished) {
+        states.sort(SKYLINE_ORDER);
+        List<State> kept = new ArrayList<>();
+        for (State state : states) {
+            boolean covered = false;
+            for (State other : kept) {
+                if (covers(other, state, true, finished)) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                kept.add(state);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Extends a range of the kept loadouts with the stage's weapon and returns the skyline of the results
+     */
+    private final class Expand extends RecursiveTask<List<State>> {
+        private final List<State> states;
+        private final int from;
+        private final int to;
+        private final int candidate;
+
+        Expand(List<State> states, int from, int to, int candidate) {
+            this.states = states;
+            this.from = from;
+            this.to = to;
+            this.candidate = candidate;
+        }
+
+        @Override
+        protected List<State> compute() {
+            if (cancelled) {
+                return Collections.emptyList();
+            }
+            if (to - from <= CHUNK_SIZE) {
+                List<State> extended = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    extend(states.get(i), extended);
+                }
+                return skyline(extended, false);
+            }
+            int middle = (from + to) >>> 1;
+            Expand left = new Expand(states, from, middle, candidate);
+            left.fork();
+            List<State> right = new Expand(states, middle, to, candidate).compute();
+            List<State> leftSkyline = left.join();
+
+            // Each side is a skyline already; only the other side can knock a state out.
+            // The result stays in skyline order, so coveredBy can stop early on the next merge.
+            List<State> merged = new ArrayList<>(leftSkyline.size() + right.size());
+            int l = 0;
+            int r = 0;
+            while (l < leftSkyline.size() || r < right.size()) {
+                boolean takeLeft = r == right.size()
+                        || (l < leftSkyline.size() && SKYLINE_ORDER.compare(leftSkyline.get(l), right.get(r)) <= 0);
+                if (takeLeft) {
+                    State state = leftSkyline.get(l++);
+                    if (!coveredBy(right, state, false)) {
+                        merged.add(state);
+                    }
+                } else {
+                    State state = right.get(r++);
+                    if (!coveredBy(leftSkyline, state, true)) {
+                        merged.add(state);
+                    }
+                }
+            }
+            return merged;
+        }
+
+        private void extend(State state, List<State> extended) {
+            extended.add(state);
+            int type = space.type[candidate];
+            int[] byType = state.byType.clone();
+            double tonnage = space.tonnage[candidate];
+            int range = range(candidate);
+            for (int copies = 1; ; copies++) {
+                byType[type]++;
+                double tons = state.tons + copies * tonnage;
+                if (tons > space.weaponBudget + LoadoutSpace.EPSILON || !space.fits(byType)) {
+                    break;
+                }
+                extended.add(state(state, candidate, copies, byType.clone(), tons,
+                        state.dps + copies * space.dps[candidate], state.heat + copies * space.hps[candidate],
+                        Math.min(state.minRange, range)));
+            }
+        }
+    }
+
+    /**
+     * Whether a state in a list in skyline order covers the given one
+     */
+    private static boolean coveredBy(List<State> states, State state, boolean equalIsEnough) {
+        for (State other : states) {
+            if (other.dpsKey < state.dpsKey) {
+                return false; // Everything from here on deals less damage
+            }
+            if (covers(other, state, equalIsEnough, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A loadout of the first stages, stored as copies of one weapon on top of a parent loadout
+     */
+    private static final class State {
+        final State parent;
+        final int candidate;
+        final int copies;
+        final int[] byType;
+        final int mounted;
+        final double tons;
+        final double dps;
+        final double heat;
+        final int minRange; // Integer.MAX_VALUE without weapons
+        final double tonsKey;
+        final double dpsKey;
+        final double heatKey;
+        final double rangeKey;  // Box of minRange, for partial loadouts
+        final double bandKey;   // Box of the range band, for finished loadouts
+
+        State(State parent, int candidate, int copies, int[] byType, double tons, double dps, double heat,
+              int minRange, double tonsKey, double dpsKey, double heatKey, double rangeKey, double bandKey) {
+            this.parent = parent;
+            this.candidate = candidate;
+            this.copies = copies;
+            this.byType = byType;
+            int total = 0;
+            for (int count : byType) {
+                total += count;
+            }
+            this.mounted = total;
+            this.tons = tons;
+            this.dps = dps;
+            this.heat = heat;
+            this.minRange = minRange;
+            this.tonsKey = tonsKey;
+            this.dpsKey = dpsKey;
+            this.heatKey = heatKey;
+            this.rangeKey = rangeKey;
+            this.bandKey = bandKey;
+        }
+    }
+
+    /**
+     * A frontier entry; its loadout is built on first use
+     */
+    private final class Point {
+        final State state;
+        private Loadout loadout;
+
+        Point(State state) {
+            this.state = state;
+        }
+
+        synchronized Loadout loadout() {
+            if (loadout == null) {
+                int[] counts = new int[space.size()];
+                for (State s = state; s != null && s.candidate >= 0; s = s.parent) {
+                    counts[s.candidate] += s.copies;
+                }
+                double armor = Math.max(0.0, Math.min(space.chassis.getMaxArmorTonnage(),
+                        space.weaponBudget - state.tons));
+                loadout = new Loadout(space.chassis, space.place(counts), armor, shield, heatModel);
+            }
+            return loadout;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Heat capacity and dissipation of a mech, and the firing rules they impose.
+ *
+ * Each salvo adds the weapon's heat generation; an active shield adds its heat
+ * every second; the mech sheds {@code dissipationPerSecond}. A weapon holds
+ * fire while its salvo would push heat above the throttle threshold, unless
+ * the mech is completely cold. Heat above capacity shuts the mech down until
+ * it has cooled to the restart threshold.
+ *
+ * Two ways to read a loadout are offered: {@link #analyze} is a closed-form
+ * estimate for UI readouts and ranking many builds, and {@link #simulate}
+ * plays the firing schedule event by event.
+ */
+public final class HeatModel {
+    public static final HeatModel DEFAULT = new HeatModel(100.0, 10.0, 0.9, 0.5);
+
+    // Slack for floating point when a wait was computed to end exactly on a threshold
+    private static final double EPSILON = 1e-9;
+
+    private final double capacity;
+    private final double dissipationPerSecond;
+    private final double throttleFraction;
+    private final double restartFraction;
+
+    /**
+     * @param capacity Heat at which the mech shuts down
+     * @param dissipationPerSecond Heat shed every second
+     * @param throttleFraction Share of capacity weapons will not fire past
+     * @param restartFraction Share of capacity a shut down mech has to cool to
+     */
+    public HeatModel(double capacity, double dissipationPerSecond, double throttleFraction, double restartFraction) {
+        if (capacity <= 0 || dissipationPerSecond < 0) {
+            throw new IllegalArgumentException("Capacity must be positive and dissipation non-negative");
+        }
+        this.capacity = capacity;
+        this.dissipationPerSecond = dissipationPerSecond;
+        this.throttleFraction = throttleFraction;
+        this.restartFraction = restartFraction;
+    }
+
+    public double getCapacity() { return capacity; }
+    public double getDissipationPerSecond() { return dissipationPerSecond; }
+    public double getThrottleThreshold() { return capacity * throttleFraction; }
+    public double getRestartThreshold() { return capacity * restartFraction; }
+
+    /**
+     * Whether a salvo of the given heat may fire at the current heat level
+     */
+    public boolean mayFire(double heat, double salvoHeat) {
+        return heat <= EPSILON || heat + salvoHeat <= getThrottleThreshold() + EPSILON;
+    }
+
+    /**
+     * Whether a shut down mech has cooled enough to start again
+     */
+    public boolean mayRestart(double heat) {
+        return heat <= getRestartThreshold() + EPSILON;
+    }
+
+    /**
+     * Heat shed per second once an active shield's own heat is accounted for
+     */
+    public double netDissipation(Shield shield) {
+        return dissipationPerSecond - shieldHeat(shield);
+    }
+
+    /**
+     * Closed-form sustained fire estimate.
+     *
+     * Sustained output fills the heat budget with the weapons of best damage per
+     * heat first, the best any firing order can do once heat has built up.
+     */
+    public HeatReport analyze(List<WeaponComponent> weapons, Shield shield) {
+        int count = weapons.size();
+        double alphaDamage = 0;
+        double alphaHeat = 0;
+        double burstDps = 0;
+        double heatPerSecond = shieldHeat(shield);
+        double[] dps = new double[count];
+        double[] hps = new double[count];
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            WeaponComponent weapon = weapons.get(i);
+            double salvo = salvoDamage(weapon);
+            double recycle = recycleSeconds(weapon);
+            alphaDamage += salvo;
+            alphaHeat += weapon.getHeatGeneration();
+            dps[i] = salvo / recycle;
+            hps[i] = weapon.getHeatGeneration() / recycle;
+            burstDps += dps[i];
+            heatPerSecond += hps[i];
+            order[i] = i;
+        }
+
+        // Fractional knapsack over the heat budget, best damage per heat first
+        double budget = netDissipation(shield);
+        Arrays.sort(order, (a, b) -> Double.compare(ratio(dps[b], hps[b]), ratio(dps[a], hps[a])));
+        double sustainedDps = 0;
+        for (int i : order) {
+            if (hps[i] <= 0) {
+                sustainedDps += dps[i];
+            } else if (budget > 0) {
+                double share = Math.min(1.0, budget / hps[i]);
+                sustainedDps += dps[i] * share;
+                budget -= hps[i] * share;
+            }
+        }
+
+        double surplus = heatPerSecond - dissipationPerSecond;
+        double secondsToThrottle = surplus > 0 ? getThrottleThreshold() / surplus : Double.POSITIVE_INFINITY;
+        return new HeatReport(alphaDamage, alphaHeat, burstDps, sustainedDps, heatPerSecond,
+                secondsToThrottle, Double.NaN, 0);
+    }
+
+    /**
+     * Event-driven firing schedule: every weapon fires as soon as it has
+     * recycled and the heat rules allow, starting cold with all weapons ready.
+     * Time jumps from one firing to the next instead of ticking.
+     */
+    public HeatReport simulate(List<WeaponComponent> weapons, Shield shield, double seconds) {
+        int count = weapons.size();
+        double[] readyAt = new double[count];
+        double[] salvoHeat = new double[count];
+        for (int i = 0; i < count; i++) {
+            salvoHeat[i] = weapons.get(i).getHeatGeneration();
+        }
+        HeatReport analytic = analyze(weapons, shield);
+        double coolRate = netDissipation(shield);
+
+        double now = 0;
+        double heat = 0;
+        double peakHeat = 0;
+        double damage = 0;
+        int shutdowns = 0;
+        boolean shutDown = false;
+        while (true) {
+            int next = -1;
+            for (int i = 0; i < count; i++) {
+                if (next < 0 || readyAt[i] < readyAt[next]) {
+                    next = i;
+                }
+            }
+            if (next < 0 || readyAt[next] > seconds) break;
+
+            double at = readyAt[next];
+            heat = Math.max(0, heat - coolRate * (at - now));
+            now = at;
+
+            if (shutDown) {
+                if (!mayRestart(heat)) {
+                    if (coolRate <= 0) break;
+                    delayAll(readyAt, now + (heat - getRestartThreshold()) / coolRate);
+                    continue;
+                }
+                shutDown = false;
+            }
+            if (!mayFire(heat, salvoHeat[next])) {
+                if (coolRate <= 0) break;
+                readyAt[next] = now + (heat + salvoHeat[next] - getThrottleThreshold()) / coolRate;
+                continue;
+            }
+
+            WeaponComponent weapon = weapons.get(next);
+            damage += salvoDamage(weapon);
+            heat += salvoHeat[next];
+            peakHeat = Math.max(peakHeat, heat);
+            if (heat > capacity) {
+                shutDown = true;
+                shutdowns++;
+            }
+            readyAt[next] = now + recycleSeconds(weapon);
+        }
+
+        return new HeatReport(analytic.getAlphaDamage(), analytic.getAlphaHeat(), analytic.getBurstDps(),
+                seconds > 0 ? damage / seconds : 0, analytic.getHeatPerSecond(),
+                analytic.getSecondsToThrottle(), peakHeat, shutdowns);
+    }
+
+    private static void delayAll(double[] readyAt, double until) {
+        for (int i = 0; i < readyAt.length; i++) {
+            readyAt[i] = Math.max(readyAt[i], until);
+        }
+    }
+
+    private static double ratio(double dps, double hps) {
+        return hps <= 0 ? Double.POSITIVE_INFINITY : dps / hps;
+    }
+
+    static double salvoDamage(WeaponComponent weapon) {
+        return (double) weapon.getDamage() * Math.max(1, weapon.getShotsperSalvo());
+    }
+
+    static double recycleSeconds(WeaponComponent weapon) {
+        return Math.max(weapon.getRecycleTime(), 1e-3);
+    }
+
+    private static double shieldHeat(Shield shield) {
+        return shield == null || shield.isNoneShield() ? 0.0 : shield.getHeatGenerated();
+    }
+}
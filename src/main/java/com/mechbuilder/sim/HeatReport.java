@@ -0,0 +1,67 @@
+package com.mechbuilder.sim;
+
+/**
+ * Heat-limited output of a loadout, from {@link HeatModel#analyze} or
+ * {@link HeatModel#simulate}.
+ *
+ * Alpha and burst figures ignore heat; sustained DPS is what the heat budget
+ * allows. Peak heat and shutdowns are only known from a simulation and are NaN
+ * and 0 in an analytic report.
+ */
+public final class HeatReport {
+    private final double alphaDamage;
+    private final double alphaHeat;
+    private final double burstDps;
+    private final double sustainedDps;
+    private final double heatPerSecond;
+    private final double secondsToThrottle;
+    private final double peakHeat;
+    private final int shutdowns;
+
+    HeatReport(double alphaDamage, double alphaHeat, double burstDps, double sustainedDps,
+               double heatPerSecond, double secondsToThrottle, double peakHeat, int shutdowns) {
+        this.alphaDamage = alphaDamage;
+        this.alphaHeat = alphaHeat;
+        this.burstDps = burstDps;
+        this.sustainedDps = sustainedDps;
+        this.heatPerSecond = heatPerSecond;
+        this.secondsToThrottle = secondsToThrottle;
+        this.peakHeat = peakHeat;
+        this.shutdowns = shutdowns;
+    }
+
+    /** Damage of every weapon firing one salvo at once */
+    public double getAlphaDamage() { return alphaDamage; }
+
+    /** Heat of that alpha strike */
+    public double getAlphaHeat() { return alphaHeat; }
+
+    /** Damage per second with every weapon on cooldown, ignoring heat */
+    public double getBurstDps() { return burstDps; }
+
+    /** Damage per second the heat budget allows over time */
+    public double getSustainedDps() { return sustainedDps; }
+
+    /** Heat generated per second at burst rate, shield included */
+    public double getHeatPerSecond() { return heatPerSecond; }
+
+    /** Seconds of burst fire from cold before throttling, infinite when heat never builds */
+    public double getSecondsToThrottle() { return secondsToThrottle; }
+
+    public double getPeakHeat() { return peakHeat; }
+
+    public int getShutdowns() { return shutdowns; }
+
+    /**
+     * Sustained output as a share of burst output
+     */
+    public double getSustainedRatio() {
+        return burstDps <= 0 ? 1.0 : sustainedDps / burstDps;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Alpha %.0f (%.0f heat), burst %.1f DPS, sustained %.1f DPS",
+                alphaDamage, alphaHeat, burstDps, sustainedDps);
+    }
+}
@@ -0,0 +1,157 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.MechSectionFactory;
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distribution of hit locations over a mech's sections, sampled in constant
+ * time with Walker's alias method (Vose's construction).
+ *
+ * Every section ordinal owns one column holding a cut-off probability and an
+ * alias. A sample draws one uniform number, uses its integer part to pick a
+ * column and its fraction to choose between the column's own section and its
+ * alias, so sampling is O(1) and allocates nothing. Sections outside the
+ * distribution have weight 0 and are never returned. Tables are immutable
+ * and safe to share between threads.
+ */
+public final class HitLocationTable {
+    // Shared tables for the default weights, keyed by direction and section set
+    private static final Map<Integer, HitLocationTable> DEFAULTS = new ConcurrentHashMap<>();
+
+    private final double[] probabilities = new double[SectionId.COUNT];
+    private final double[] cutoffs = new double[SectionId.COUNT];
+    private final int[] aliases = new int[SectionId.COUNT];
+
+    /**
+     * @param weights Non-negative relative weights indexed by SectionId ordinal
+     */
+    public HitLocationTable(double[] weights) {
+        if (weights.length != SectionId.COUNT) {
+            throw new IllegalArgumentException("Expected " + SectionId.COUNT + " weights, got " + weights.length);
+        }
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Hit location weights must not be negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one section must be hittable");
+        }
+
+        // Vose: split columns into under- and over-full, then top up each under-full one from an over-full one
+        int n = SectionId.COUNT;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            probabilities[i] = weights[i] / total;
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            cutoffs[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            cutoffs[column] = 1.0;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            cutoffs[column] = probabilities[column] > 0 ? 1.0 : 0.0;
+            aliases[column] = probabilities[column] > 0 ? column : largestColumn();
+        }
+    }
+
+    /**
+     * Default distribution for a direction, restricted to the given sections
+     */
+    public static HitLocationTable of(AttackDirection direction, Collection<SectionId> sections) {
+        int mask = 0;
+        for (SectionId id : sections) {
+            mask |= 1 << id.ordinal();
+        }
+        int sectionMask = mask;
+        return DEFAULTS.computeIfAbsent(direction.ordinal() << SectionId.COUNT | sectionMask, key -> {
+            double[] weights = new double[SectionId.COUNT];
+            for (SectionId id : SectionId.values()) {
+                if ((sectionMask & 1 << id.ordinal()) != 0) {
+                    weights[id.ordinal()] = direction.getWeight(id);
+                }
+            }
+            return new HitLocationTable(weights);
+        });
+    }
+
+    /**
+     * Default distribution for a direction over the sections of a mech
+     */
+    public static HitLocationTable forMech(Mech mech, AttackDirection direction) {
+        return of(direction, mech.getSectionsById().keySet());
+    }
+
+    /**
+     * Default distribution for a direction over the sections the factory builds for a chassis
+     */
+    public static HitLocationTable forChassis(MechSectionFactory factory, MechChassis chassis,
+                                              AttackDirection direction) throws IOException, CsvValidationException {
+        return of(direction, factory.getSectionIds(chassis));
+    }
+
+    /**
+     * Draws a section ordinal
+     */
+    public int sampleOrdinal(SplittableRandom random) {
+        double u = random.nextDouble() * SectionId.COUNT;
+        int column = (int) u;
+        return u - column < cutoffs[column] ? column : aliases[column];
+    }
+
+    public SectionId sample(SplittableRandom random) {
+        return SectionId.ofOrdinal(sampleOrdinal(random));
+    }
+
+    /**
+     * Chance that one sample is the given section
+     */
+    public double getProbability(SectionId section) {
+        return probabilities[section.ordinal()];
+    }
+
+    private int largestColumn() {
+        int best = 0;
+        for (int i = 1; i < probabilities.length; i++) {
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
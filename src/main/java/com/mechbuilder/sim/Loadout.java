@@ -0,0 +1,130 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A weapon placement for a chassis, with the armor and shield it was built
+ * around, as produced by {@link LoadoutOptimizer}.
+ *
+ * The per-section map has the shape the loadout constructors of
+ * {@link Combatant} take. Instances are immutable.
+ */
+public final class Loadout {
+    private final MechChassis chassis;
+    private final Map<SectionId, List<WeaponComponent>> weaponsBySection;
+    private final List<WeaponComponent> weapons;
+    private final double weaponTonnage;
+    private final double armorTons;
+    private final Shield shield;
+    private final HeatReport heatReport;
+
+    Loadout(MechChassis chassis, Map<SectionId, List<WeaponComponent>> weaponsBySection,
+            double armorTons, Shield shield, HeatModel heatModel) {
+        this.chassis = chassis;
+        EnumMap<SectionId, List<WeaponComponent>> sections = new EnumMap<>(SectionId.class);
+        List<WeaponComponent> all = new ArrayList<>();
+        double tonnage = 0;
+        for (Map.Entry<SectionId, List<WeaponComponent>> entry : weaponsBySection.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                sections.put(entry.getKey(), List.copyOf(entry.getValue()));
+                for (WeaponComponent weapon : entry.getValue()) {
+                    all.add(weapon);
+                    tonnage += weapon.getTonnage();
+                }
+            }
+        }
+        this.weaponsBySection = Collections.unmodifiableMap(sections);
+        this.weapons = Collections.unmodifiableList(all);
+        this.weaponTonnage = tonnage;
+        this.armorTons = armorTons;
+        this.shield = shield;
+        this.heatReport = heatModel.analyze(all, shield);
+    }
+
+    public MechChassis getChassis() {
+        return chassis;
+    }
+
+    /**
+     * Weapons by the section they are mounted in; sections without weapons are absent
+     */
+    public Map<SectionId, List<WeaponComponent>> getWeaponsBySection() {
+        return weaponsBySection;
+    }
+
+    public List<WeaponComponent> getWeapons() {
+        return weapons;
+    }
+
+    public double getWeaponTonnage() {
+        return weaponTonnage;
+    }
+
+    public double getArmorTons() {
+        return armorTons;
+    }
+
+    /**
+     * Shield the loadout was built around, or null
+     */
+    public Shield getShield() {
+        return shield;
+    }
+
+    /**
+     * Weapons, armor and shield together, to compare against the chassis tonnage
+     */
+    public double getTotalTonnage() {
+        return weaponTonnage + armorTons + (shield != null ? shield.getTonnage() : 0.0);
+    }
+
+    public HeatReport getHeatReport() {
+        return heatReport;
+    }
+
+    public double getScore(LoadoutObjective objective) {
+        return objective.score(heatReport);
+    }
+
+    /**
+     * Shortest optimal range among the weapons: out to it, every weapon deals full damage.
+     * 0 without weapons.
+     */
+    public int getRangeBand() {
+        int band = Integer.MAX_VALUE;
+        for (WeaponComponent weapon : weapons) {
+            band = Math.min(band, weapon.getOptimalRange());
+        }
+        return weapons.isEmpty() ? 0 : band;
+    }
+
+    /**
+     * Whether this loadout is at least as good on every {@link LoadoutMetric} and better on one
+     */
+    public boolean dominates(Loadout other) {
+        boolean better = false;
+        for (LoadoutMetric metric : LoadoutMetric.values()) {
+            int comparison = metric.compare(this, other);
+            if (comparison < 0) {
+                return false;
+            }
+            better |= comparison > 0;
+        }
+        return better;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Loadout[%s, %d weapons, %.2f/%d tons]",
+                chassis.getName(), weapons.size(), getTotalTonnage(), chassis.getTonnage());
+    }
+}
@@ -0,0 +1,65 @@
+package com.mechbuilder.sim;
+
+/**
+ * The criteria {@link ParetoExplorer} trades off against each other.
+ */
+public enum LoadoutMetric {
+    /** Damage per second with every weapon firing on cooldown */
+    DAMAGE(true) {
+        @Override
+        public double value(Loadout loadout) {
+            return loadout.getHeatReport().getBurstDps();
+        }
+    },
+    /** Heat per second with every weapon firing on cooldown, shield heat included */
+    HEAT(false) {
+        @Override
+        public double value(Loadout loadout) {
+            return loadout.getHeatReport().getHeatPerSecond();
+        }
+    },
+    /** Tonnage of the weapons */
+    TONNAGE(false) {
+        @Override
+        public double value(Loadout loadout) {
+            return loadout.getWeaponTonnage();
+        }
+    },
+    /** See {@link Loadout#getRangeBand()} */
+    RANGE_BAND(true) {
+        @Override
+        public double value(Loadout loadout) {
+            return loadout.getRangeBand();
+        }
+    },
+    /** Armor tonnage that still fits next to the weapons and shield */
+    ARMOR_LEFT(true) {
+        @Override
+        public double value(Loadout loadout) {
+            return loadout.getArmorTons();
+        }
+    };
+
+    private final boolean maximized;
+
+    LoadoutMetric(boolean maximized) {
+        this.maximized = maximized;
+    }
+
+    public abstract double value(Loadout loadout);
+
+    /**
+     * Whether higher values are better
+     */
+    public boolean isMaximized() {
+        return maximized;
+    }
+
+    /**
+     * Positive when the first loadout is better on this metric, negative when worse
+     */
+    public int compare(Loadout first, Loadout second) {
+        int comparison = Double.compare(value(first), value(second));
+        return maximized ? comparison : -comparison;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mechbuilder.sim;
+
+/**
+ * What {@link LoadoutOptimizer} maximizes, read from a loadout's analytic
+ * {@link HeatReport}.
+ */
+public enum LoadoutObjective {
+    /** Damage of one salvo from every weapon */
+    ALPHA_DAMAGE {
+        @Override
+        public double score(HeatReport report) {
+            return report.getAlphaDamage();
+        }
+    },
+    /** Damage per second the heat budget allows once heat has built up */
+    SUSTAINED_DPS {
+        @Override
+        public double score(HeatReport report) {
+            return report.getSustainedDps();
+        }
+    },
+    /**
+     * Burst damage per second over heat per second, shield heat included.
+     * A loadout that deals damage without generating heat scores infinity.
+     */
+    DPS_PER_HEAT {
+        @Override
+        public double score(HeatReport report) {
+            return ratio(report.getBurstDps(), report.getHeatPerSecond());
+        }
+    };
+
+    public abstract double score(HeatReport report);
+
+    static double ratio(double dps, double heatPerSecond) {
+        if (heatPerSecond > 0) {
+            return dps / heatPerSecond;
+        }
+        return dps > 0 ? Double.POSITIVE_INFINITY : 0.0;
+    }
+}
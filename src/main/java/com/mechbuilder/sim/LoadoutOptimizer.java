@@ -0,0 +1,81 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.MechSectionFactory;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Finds the weapon loadout that maximizes a {@link LoadoutObjective} on a chassis.
+ *
+ * Armor and shield are chosen by the caller and their tonnage is set aside
+ * first; weapons then fill the rest of the chassis tonnage, limited by the
+ * section hardpoints and slots {@link MechSectionFactory} builds. Each weapon
+ * takes one hardpoint and one slot. See {@link LoadoutSearch} for how the
+ * search runs.
+ */
+public final class LoadoutOptimizer {
+    private final List<WeaponComponent> weapons;
+    private final MechSectionFactory sectionFactory;
+    private final HeatModel heatModel;
+
+    public LoadoutOptimizer(Catalog catalog) {
+        this(catalog.getWeapons(), new MechSectionFactory(catalog), HeatModel.DEFAULT);
+    }
+
+    public LoadoutOptimizer(List<WeaponComponent> weapons, MechSectionFactory sectionFactory, HeatModel heatModel) {
+        this.weapons = List.copyOf(weapons);
+        this.sectionFactory = sectionFactory;
+        this.heatModel = heatModel;
+    }
+
+    /**
+     * Best loadout with full armor and no shield, searched on the common fork/join pool
+     */
+    public Loadout optimize(MechChassis chassis, LoadoutObjective objective)
+            throws IOException, CsvValidationException {
+        return start(chassis, objective, chassis.getMaxArmorTonnage(), null).join();
+    }
+
+    public LoadoutSearch start(MechChassis chassis, LoadoutObjective objective, double armorTons, Shield shield)
+            throws IOException, CsvValidationException {
+        return start(chassis, objective, armorTons, shield, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts a search in the background and returns at once
+     * @param armorTons Armor tonnage to set aside, at most the chassis maximum
+     * @param shield Shield to fit, or null
+     */
+    public LoadoutSearch start(MechChassis chassis, LoadoutObjective objective, double armorTons, Shield shield,
+                               ForkJoinPool pool) throws IOException, CsvValidationException {
+        return new LoadoutSearch(space(chassis, armorTons, shield), objective, heatModel, armorTons, shield, pool);
+    }
+
+    /**
+     * Candidates and hardpoint capacity for a chassis once armor and shield are fitted
+     */
+    LoadoutSpace space(MechChassis chassis, double armorTons, Shield shield)
+            throws IOException, CsvValidationException {
+        if (armorTons < 0 || armorTons > chassis.getMaxArmorTonnage()) {
+            throw new IllegalArgumentException("Armor must be between 0 and " + chassis.getMaxArmorTonnage()
+                    + " tons: " + armorTons);
+        }
+        double weaponBudget = chassis.getTonnage() - armorTons - (shield != null ? shield.getTonnage() : 0.0);
+        if (weaponBudget < -LoadoutSpace.EPSILON) {
+            throw new IllegalArgumentException("Armor and shield exceed the " + chassis.getTonnage()
+                    + " tons of " + chassis.getName());
+        }
+        return new LoadoutSpace(chassis, sectionFactory.createSections(chassis), weapons, Math.max(0.0, weaponBudget));
+    }
+
+    public HeatModel getHeatModel() {
+        return heatModel;
+    }
+}
@@ -0,0 +1,371 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Shield;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A running branch-and-bound search for the best loadout of one chassis,
+ * started by {@link LoadoutOptimizer}.
+ *
+ * The search decides, weapon by weapon, how many copies to mount, trying the
+ * most copies first. A branch is dropped once an optimistic bound on its
+ * score cannot beat the best loadout found so far. Before searching, weapons
+ * dominated by another weapon of the same hardpoint type (no heavier, and at
+ * least as good on every stat the objective reads) are removed: swapping
+ * one in for the other never hurts, so some optimum avoids them.
+ *
+ * The top levels of the tree run as fork/join tasks that share the best score
+ * found so far. {@link #cancel} stops the search early; the best loadout found
+ * until then stays available. Among loadouts of equal score, which one is
+ * returned may vary from run to run.
+ */
+public final class LoadoutSearch {
+    // Levels of the search tree whose branches are forked as separate tasks
+    private static final int PARALLEL_DEPTH = 3;
+
+    private final LoadoutSpace space;
+    private final LoadoutObjective objective;
+    private final HeatModel heatModel;
+    private final double armorTons;
+    private final Shield shield;
+
+    // Search levels, one per undominated candidate, best value per ton first
+    private final int levels;
+    private final int[] candidate;      // [level] candidate index in the space
+    private final double[] value;       // [level] additive score part: alpha damage or DPS
+    private final int[] ratioOrder;     // Levels by DPS per heat, best first, for sustained DPS
+    private final double[][] maxValueByType; // [level][type] best value from this level on
+    private final double[] maxValue;     // [level] best value from this level on
+    private final double[] maxDensity;   // [level] best value per ton from this level on
+    private final double[] maxRatio;     // [level] best DPS per heat from this level on
+    private final double sustainedCap;   // Most sustained DPS any loadout reaches
+    private final double netDissipation;
+    private final double shieldHeat;
+
+    private final RecursiveAction root;
+    private final LongAdder nodes = new LongAdder();
+    private volatile boolean cancelled;
+    private volatile double bestScore = Double.NEGATIVE_INFINITY;
+    private int[] bestCounts; // [level], guarded by this
+
+    LoadoutSearch(LoadoutSpace space, LoadoutObjective objective, HeatModel heatModel,
+                  double armorTons, Shield shield, ForkJoinPool pool) {
+        this.space = space;
+        this.objective = objective;
+        this.heatModel = heatModel;
+        this.armorTons = armorTons;
+        this.shield = shield;
+        this.netDissipation = heatModel.netDissipation(shield);
+        this.shieldHeat = heatModel.getDissipationPerSecond() - netDissipation;
+
+        double[] candidateValue = objective == LoadoutObjective.ALPHA_DAMAGE ? space.alpha : space.dps;
+        List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < space.size(); i++) {
+            if (!isDominated(i, candidateValue)) {
+                kept.add(i);
+            }
+        }
+        Comparator<Integer> order = objective == LoadoutObjective.DPS_PER_HEAT
+                ? Comparator.comparingDouble(i -> LoadoutObjective.ratio(space.dps[i], space.hps[i]))
+                : Comparator.comparingDouble(i -> density(candidateValue[i], space.tonnage[i]));
+        kept.sort(order.reversed());
+
+        this.levels = kept.size();
+        this.candidate = new int[levels];
+        this.value = new double[levels];
+        for (int level = 0; level < levels; level++) {
+            candidate[level] = kept.get(level);
+            value[level] = candidateValue[candidate[level]];
+        }
+        Integer[] byRatio = new Integer[levels];
+        for (int level = 0; level < levels; level++) {
+            byRatio[level] = level;
+        }
+        Arrays.sort(byRatio, Comparator.comparingDouble(
+                (Integer level) -> LoadoutObjective.ratio(dps(level), hps(level))).reversed());
+        this.ratioOrder = new int[levels];
+        for (int i = 0; i < levels; i++) {
+            ratioOrder[i] = byRatio[i];
+        }
+
+        this.maxValueByType = new double[levels + 1][LoadoutSpace.TYPES];
+        this.maxValue = new double[levels + 1];
+        this.maxDensity = new double[levels + 1];
+        this.maxRatio = new double[levels + 1];
+        double bestRatio = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            int c = candidate[level];
+            maxValueByType[level] = maxValueByType[level + 1].clone();
+            maxValueByType[level][space.type[c]] = Math.max(maxValueByType[level][space.type[c]], value[level]);
+            maxValue[level] = Math.max(maxValue[level + 1], value[level]);
+            maxDensity[level] = Math.max(maxDensity[level + 1], density(value[level], space.tonnage[c]));
+            maxRatio[level] = Math.max(maxRatio[level + 1], LoadoutObjective.ratio(dps(level), hps(level)));
+            bestRatio = Math.max(bestRatio, LoadoutObjective.ratio(dps(level), hps(level)));
+        }
+        // Sustained output never exceeds the heat budget spent at the best damage per heat
+        this.sustainedCap = Double.isInfinite(bestRatio) ? Double.POSITIVE_INFINITY
+                : Math.max(0.0, netDissipation) * bestRatio;
+
+        this.root = new Branch(0, new int[levels], new int[LoadoutSpace.TYPES], 0.0, 0.0, 0.0);
+        pool.execute(root);
+    }
+
+    /**
+     * Whether another candidate of the same type is no heavier and no worse on what the objective reads.
+     * Of identical candidates only the first in catalog order is kept.
+     */
+    private boolean isDominated(int i, double[] candidateValue) {
+        boolean heatMatters = objective != LoadoutObjective.ALPHA_DAMAGE;
+        for (int j = 0; j < space.size(); j++) {
+            if (j == i || space.type[j] != space.type[i]
+                    || space.tonnage[j] > space.tonnage[i] || candidateValue[j] < candidateValue[i]
+                    || (heatMatters && space.hps[j] > space.hps[i])) {
+                continue;
+            }
+            boolean better = space.tonnage[j] < space.tonnage[i] || candidateValue[j] > candidateValue[i]
+                    || (heatMatters && space.hps[j] < space.hps[i]);
+            if (better || j < i) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double density(double value, double tonnage) {
+        if (tonnage > 0) {
+            return value / tonnage;
+        }
+        return value > 0 ? Double.POSITIVE_INFINITY : 0.0;
+    }
+
+    private double dps(int level) {
+        return space.dps[candidate[level]];
+    }
+
+    private double hps(int level) {
+        return space.hps[candidate[level]];
+    }
+
+    /**
+     * Stops the search; tasks still running return at their next node
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return root.isDone();
+    }
+
+    /**
+     * Whether the search ran to completion, so the best loadout is optimal
+     */
+    public boolean isOptimal() {
+        return root.isDone() && !cancelled;
+    }
+
+    /**
+     * Search tree nodes visited so far
+     */
+    public long getNodesExplored() {
+        return nodes.sum();
+    }
+
+    /**
+     * Waits for the search to finish or stop after {@link #cancel}, then returns the best loadout it found
+     */
+    public Loadout join() {
+        root.join();
+        return getBest();
+    }
+
+    /**
+     * Best loadout found so far, or null before the first one
+     */
+    public Loadout getBest() {
+        int[] counts;
+        synchronized (this) {
+            if (bestCounts == null) {
+                return null;
+            }
+            counts = bestCounts.clone();
+        }
+        int[] byCandidate = new int[space.size()];
+        for (int level = 0; level < levels; level++) {
+            byCandidate[candidate[level]] = counts[level];
+        }
+        return new Loadout(space.chassis, space.place(byCandidate), armorTons, shield, heatModel);
+    }
+
+    private synchronized void offer(int[] counts, double score) {
+        if (score > bestScore) {
+            bestCounts = counts.clone();
+            bestScore = score;
+        }
+    }
+
+    private double score(int[] counts, double valueSum, double heatSum) {
+        switch (objective) {
+            case ALPHA_DAMAGE:
+                return valueSum;
+            case DPS_PER_HEAT:
+                return LoadoutObjective.ratio(valueSum, heatSum + shieldHeat);
+            default:
+                // Fractional knapsack over the heat budget, as HeatModel.analyze does
+                double budget = netDissipation;
+                double sustained = 0;
+                for (int level : ratioOrder) {
+                    if (counts[level] == 0) {
+                        continue;
+                    }
+                    double levelDps = counts[level] * dps(level);
+                    double levelHps = counts[level] * hps(level);
+                    if (levelHps <= 0) {
+                        sustained += levelDps;
+                    } else if (budget > 0) {
+                        double share = Math.min(1.0, budget / levelHps);
+                        sustained += levelDps * share;
+                        budget -= levelHps * share;
+                    }
+                }
+                return sustained;
+        }
+    }
+
+    /**
+     * Highest score any completion of a partial loadout could reach
+     */
+    private double bound(int level, int[] byType, double tons, double valueSum, double heatSum) {
+        if (objective == LoadoutObjective.DPS_PER_HEAT) {
+            // Adding weapons moves the ratio toward theirs, so it cannot pass the best of them
+            return Math.max(LoadoutObjective.ratio(valueSum, heatSum + shieldHeat), maxRatio[level]);
+        }
+        int mounted = 0;
+        for (int count : byType) {
+            mounted += count;
+        }
+        int free = space.totalMounts - mounted;
+        double byMounts = 0;
+        for (int t = 0; t < LoadoutSpace.TYPES; t++) {
+            byMounts += Math.min(free, space.maxPerType[t] - byType[t]) * maxValueByType[level][t];
+        }
+        byMounts = Math.min(byMounts, free * maxValue[level]);
+        double freeTons = space.weaponBudget - tons;
+        double byTonnage = freeTons <= LoadoutSpace.EPSILON ? 0.0 : freeTons * maxDensity[level];
+        double bound = valueSum + Math.min(byMounts, byTonnage);
+        return objective == LoadoutObjective.SUSTAINED_DPS ? Math.min(bound, sustainedCap) : bound;
+    }
+
+    /**
+     * The subtree below a partial loadout: copies of each level before {@code level} are decided
+     */
+    private final class Branch extends RecursiveAction {
+        private final int level;
+        private final int[] counts;
+        private final int[] byType;
+        private final double tons;
+        private final double valueSum;
+        private final double heatSum;
+
+        Branch(int level, int[] counts, int[] byType, double tons, double valueSum, double heatSum) {
+            this.level = level;
+            this.counts = counts;
+            this.byType = byType;
+            this.tons = tons;
+            this.valueSum = valueSum;
+            this.heatSum = heatSum;
+        }
+
+        @Override
+        protected void compute() {
+            if (level >= PARALLEL_DEPTH || level == levels) {
+                search(level, counts, byType, tons, valueSum, heatSum);
+                return;
+            }
+            if (cancelled || !visit(level, counts, byType, tons, valueSum, heatSum)) {
+                return;
+            }
+            List<Branch> children = new ArrayList<>();
+            int c = candidate[level];
+            int type = space.type[c];
+            for (int copies = maxCopies(level, byType, tons); copies >= 0; copies--) {
+                int[] childCounts = counts.clone();
+                int[] childByType = byType.clone();
+                childCounts[level] = copies;
+                childByType[type] += copies;
+                children.add(new Branch(level + 1, childCounts, childByType, tons + copies * space.tonnage[c],
+                        valueSum + copies * value[level], heatSum + copies * space.hps[c]));
+            }
+            invokeAll(children);
+        }
+    }
+
+    /**
+     * Depth-first search below a node on the calling thread
+     */
+    private void search(int level, int[] counts, int[] byType, double tons, double valueSum, double heatSum) {
+        if (cancelled || !visit(level, counts, byType, tons, valueSum, heatSum)) {
+            return;
+        }
+        int c = candidate[level];
+        int type = space.type[c];
+        for (int copies = maxCopies(level, byType, tons); copies >= 0; copies--) {
+            counts[level] = copies;
+            byType[type] += copies;
+            search(level + 1, counts, byType, tons + copies * space.tonnage[c],
+                    valueSum + copies * value[level], heatSum + copies * space.hps[c]);
+            byType[type] -= copies;
+        }
+        counts[level] = 0;
+    }
+
+    /**
+     * Counts a node and scores it when it is a leaf.
+     * @return Whether the node's children are worth searching
+     */
+    private boolean visit(int level, int[] counts, int[] byType, double tons, double valueSum, double heatSum) {
+        nodes.increment();
+        int mounted = 0;
+        for (int count : byType) {
+            mounted += count;
+        }
+        if (level == levels || mounted == space.totalMounts) {
+            double score = score(counts, valueSum, heatSum);
+            if (score > bestScore) {
+                offer(counts, score);
+            }
+            return false;
+        }
+        return bound(level, byType, tons, valueSum, heatSum) > bestScore;
+    }
+
+    /**
+     * Most copies of a level's weapon that still fit the tonnage and hardpoints
+     */
+    private int maxCopies(int level, int[] byType, double tons) {
+        int c = candidate[level];
+        int type = space.type[c];
+        int copies = space.maxPerType[type] - byType[type];
+        if (space.tonnage[c] > 0) {
+            copies = Math.min(copies, (int) Math.floor((space.weaponBudget - tons + LoadoutSpace.EPSILON) / space.tonnage[c]));
+        }
+        byType[type] += copies;
+        while (copies > 0 && !space.fits(byType)) {
+            byType[type]--;
+            copies--;
+        }
+        byType[type] -= copies;
+        return Math.max(0, copies);
+    }
+}
@@ -0,0 +1,224 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.HardpointType;
+import com.mechbuilder.model.Hardpoints;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The weapons that can go on one chassis, and the hardpoints they compete for.
+ *
+ * Whether a set of weapons fits depends only on how many there are of each
+ * HardpointType: a section takes a weapon on a hardpoint of its type or on a
+ * universal one, and at most as many weapons as it has slots. That is a
+ * transportation problem, and by Hall's theorem it fits exactly when, for
+ * every non-empty set of types, the weapons of those types do not outnumber
+ * the hardpoints that can take them. The capacity of each of the seven sets
+ * is computed once, so {@link #fits} is seven comparisons. Read-only once
+ * built, so searches share it across threads.
+ */
+final class LoadoutSpace {
+    static final int TYPES = HardpointType.values().length;
+    static final double EPSILON = 1e-9;
+    private static final int SUBSETS = 1 << TYPES;
+
+    final MechChassis chassis;
+    final double weaponBudget;
+
+    // Candidates: mountable weapons within the tonnage budget, in catalog order
+    final WeaponComponent[] weapons;
+    final int[] type;       // HardpointType ordinal
+    final double[] tonnage;
+    final double[] alpha;   // Damage of one salvo
+    final double[] dps;     // Damage per second firing on cooldown
+    final double[] hps;     // Heat per second firing on cooldown
+
+    final int[] maxPerType; // Most weapons of each type the chassis can mount
+    final int totalMounts;  // Most weapons the chassis can mount
+
+    private final SectionId[] sectionIds;   // Sections with at least one usable hardpoint
+    private final int[][] sectionCapacity;  // [section][type set] weapons of those types the section takes
+    private final int[][] suffixCapacity;   // [first section][type set] the same, summed from that section on
+
+    LoadoutSpace(MechChassis chassis, Map<SectionId, MechSection> sections,
+                 List<WeaponComponent> catalog, double weaponBudget) {
+        this.chassis = chassis;
+        this.weaponBudget = weaponBudget;
+
+        List<SectionId> ids = new ArrayList<>();
+        List<int[]> capacities = new ArrayList<>();
+        for (Map.Entry<SectionId, MechSection> entry : sections.entrySet()) {
+            int[] capacity = capacityOf(entry.getValue());
+            if (capacity[SUBSETS - 1] > 0) {
+                ids.add(entry.getKey());
+                capacities.add(capacity);
+            }
+        }
+        this.sectionIds = ids.toArray(new SectionId[0]);
+        this.sectionCapacity = capacities.toArray(new int[0][]);
+        this.suffixCapacity = new int[sectionIds.length + 1][SUBSETS];
+        for (int s = sectionIds.length - 1; s >= 0; s--) {
+            for (int set = 1; set < SUBSETS; set++) {
+                suffixCapacity[s][set] = suffixCapacity[s + 1][set] + sectionCapacity[s][set];
+            }
+        }
+        this.maxPerType = new int[TYPES];
+        for (int t = 0; t < TYPES; t++) {
+            maxPerType[t] = suffixCapacity[0][1 << t];
+        }
+        this.totalMounts = suffixCapacity[0][SUBSETS - 1];
+
+        List<WeaponComponent> candidates = new ArrayList<>();
+        for (WeaponComponent weapon : catalog) {
+            HardpointType hardpointType = HardpointType.fromWeaponType(weapon.getType());
+            if (hardpointType != null && maxPerType[hardpointType.ordinal()] > 0
+                    && weapon.getTonnage() >= 0 && weapon.getTonnage() <= weaponBudget + EPSILON) {
+                candidates.add(weapon);
+            }
+        }
+        int count = candidates.size();
+        this.weapons = candidates.toArray(new WeaponComponent[0]);
+        this.type = new int[count];
+        this.tonnage = new double[count];
+        this.alpha = new double[count];
+        this.dps = new double[count];
+        this.hps = new double[count];
+        for (int i = 0; i < count; i++) {
+            WeaponComponent weapon = weapons[i];
+            double recycle = HeatModel.recycleSeconds(weapon);
+            type[i] = HardpointType.fromWeaponType(weapon.getType()).ordinal();
+            tonnage[i] = weapon.getTonnage();
+            alpha[i] = HeatModel.salvoDamage(weapon);
+            dps[i] = alpha[i] / recycle;
+            hps[i] = weapon.getHeatGeneration() / recycle;
+        }
+    }
+
+    /**
+     * Weapons of each type in the set a section takes: its slots, or fewer when
+     * its matching hardpoints run out first
+     */
+    private static int[] capacityOf(MechSection section) {
+        Hardpoints hardpoints = section.getHardpoints();
+        int slots = section.getTotalSlots();
+        int[] capacity = new int[SUBSETS];
+        for (int set = 1; set < SUBSETS; set++) {
+            int reachable = hardpoints.getUniversal();
+            for (HardpointType hardpointType : HardpointType.values()) {
+                if ((set & hardpointType.bit()) != 0) {
+                    reachable += hardpoints.getCount(hardpointType);
+                }
+            }
+            capacity[set] = Math.min(slots, reachable);
+        }
+        return capacity;
+    }
+
+    int size() {
+        return weapons.length;
+    }
+
+    /**
+     * Whether weapons in these numbers per HardpointType ordinal can all be mounted
+     */
+    boolean fits(int[] countsByType) {
+        return fitsFrom(0, countsByType);
+    }
+
+    private boolean fitsFrom(int firstSection, int[] countsByType) {
+        int[] capacity = suffixCapacity[firstSection];
+        for (int set = 1; set < SUBSETS; set++) {
+            if (countOf(set, countsByType) > capacity[set]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countOf(int set, int[] countsByType) {
+        int count = 0;
+        for (int t = 0; t < TYPES; t++) {
+            if ((set & (1 << t)) != 0) {
+                count += countsByType[t];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Spreads the given number of each candidate over the sections.
+     * Sections are filled in SectionId order, each taking as much as the sections after it cannot.
+     * @param counts Copies of each candidate, indexed like {@link #weapons}
+     * @throws IllegalArgumentException when the weapons do not fit
+     */
+    Map<SectionId, List<WeaponComponent>> place(int[] counts) {
+        int[] remaining = new int[TYPES];
+        List<ArrayDeque<WeaponComponent>> queues = new ArrayList<>();
+        for (int t = 0; t < TYPES; t++) {
+            queues.add(new ArrayDeque<>());
+        }
+        for (int i = 0; i < counts.length; i++) {
+            for (int c = 0; c < counts[i]; c++) {
+                queues.get(type[i]).add(weapons[i]);
+            }
+            remaining[type[i]] += counts[i];
+        }
+        if (!fits(remaining)) {
+            throw new IllegalArgumentException("Weapons do not fit the hardpoints of " + chassis.getName());
+        }
+
+        Map<SectionId, List<WeaponComponent>> placement = new EnumMap<>(SectionId.class);
+        int[] share = new int[TYPES];
+        for (int s = 0; s < sectionIds.length; s++) {
+            chooseShare(s, remaining, share);
+            List<WeaponComponent> mounted = new ArrayList<>();
+            for (int t = 0; t < TYPES; t++) {
+                for (int c = 0; c < share[t]; c++) {
+                    mounted.add(queues.get(t).poll());
+                }
+                remaining[t] -= share[t];
+            }
+            if (!mounted.isEmpty()) {
+                placement.put(sectionIds[s], mounted);
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Picks the weapons per type section s takes so that the rest still fit the later sections.
+     * One always exists while the remaining weapons fit from s on.
+     */
+    private void chooseShare(int s, int[] remaining, int[] share) {
+        int[] capacity = sectionCapacity[s];
+        int[] rest = new int[TYPES];
+        for (share[0] = Math.min(remaining[0], capacity[1]); share[0] >= 0; share[0]--) {
+            for (share[1] = Math.min(remaining[1], capacity[1 << 1]); share[1] >= 0; share[1]--) {
+                for (share[2] = Math.min(remaining[2], capacity[1 << 2]); share[2] >= 0; share[2]--) {
+                    boolean fitsSection = true;
+                    for (int set = 1; set < SUBSETS && fitsSection; set++) {
+                        fitsSection = countOf(set, share) <= capacity[set];
+                    }
+                    if (!fitsSection) {
+                        continue;
+                    }
+                    for (int t = 0; t < TYPES; t++) {
+                        rest[t] = remaining[t] - share[t];
+                    }
+                    if (fitsFrom(s + 1, rest)) {
+                        return;
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No placement for section " + sectionIds[s]);
+    }
+}
@@ -0,0 +1,239 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+
+/**
+ * Damage state of one mech packed into a single int array.
+ *
+ * The array starts with a fixed-size header per section (indexed by SectionId
+ * ordinal) followed by the slot damage of every section, so evaluating a mech
+ * touches one contiguous block instead of eight section objects and their slot
+ * arrays. Accessors and damage rules match {@link MechSection}; sections the
+ * source mech lacks are present with no armor and no slots.
+ */
+public final class MechState {
+    // Per-section header fields
+    private static final int ARMOR_MAX = 0;
+    private static final int ARMOR_DAMAGE = 1;
+    private static final int FIELD_REPAIR = 2;
+    private static final int SLOT_BASE_HP = 3;
+    private static final int SLOT_COUNT = 4;
+    private static final int SLOT_OFFSET = 5;     // Index of the section's first slot in the array
+    private static final int SLOT_HP_REMAINING = 6;
+    private static final int INTACT_SLOT = 7;     // Highest slot index with HP left, -1 when all are destroyed; lower slots may be destroyed too
+    private static final int SECTION_FIELDS = 8;
+
+    private static final int HEADER_SIZE = SectionId.COUNT * SECTION_FIELDS;
+
+    private final int[] data;
+
+    private MechState(int[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Packs the current damage state of a mech
+     */
+    public static MechState of(Mech mech) {
+        int slots = 0;
+        for (SectionId id : SectionId.values()) {
+            MechSection section = mech.getSection(id);
+            if (section != null) {
+                slots += section.getTotalSlots();
+            }
+        }
+
+        int[] data = new int[HEADER_SIZE + slots];
+        int offset = HEADER_SIZE;
+        for (SectionId id : SectionId.values()) {
+            int header = id.ordinal() * SECTION_FIELDS;
+            MechSection section = mech.getSection(id);
+            data[header + SLOT_OFFSET] = offset;
+            data[header + INTACT_SLOT] = -1;
+            if (section == null) continue;
+
+            data[header + ARMOR_MAX] = section.getArmorTons() * 8;
+            data[header + ARMOR_DAMAGE] = section.getArmorDamage();
+            data[header + FIELD_REPAIR] = section.getFieldRepairArmor();
+            data[header + SLOT_BASE_HP] = id.getBaseSlotHp();
+            data[header + SLOT_COUNT] = section.getTotalSlots();
+            for (int slot = 0; slot < section.getTotalSlots(); slot++) {
+                data[offset + slot] = section.getSlotDamage(slot);
+                data[header + SLOT_HP_REMAINING] += section.getSlotHP(slot);
+                if (section.getSlotHP(slot) > 0) {
+                    data[header + INTACT_SLOT] = slot;
+                }
+            }
+            offset += section.getTotalSlots();
+        }
+        return new MechState(data);
+    }
+
+    /**
+     * Writes this state's damage back into the mech's sections
+     * @throws IllegalArgumentException if the mech's slot layout differs from this state's
+     */
+    public void applyTo(Mech mech) {
+        for (SectionId id : SectionId.values()) {
+            MechSection section = mech.getSection(id);
+            if (section == null) continue;
+            int header = id.ordinal() * SECTION_FIELDS;
+            int count = data[header + SLOT_COUNT];
+            int[] slotDamage = new int[count];
+            System.arraycopy(data, data[header + SLOT_OFFSET], slotDamage, 0, count);
+            section.setDamageState(data[header + ARMOR_DAMAGE], data[header + FIELD_REPAIR], slotDamage);
+        }
+        mech.getDamageRouter().refresh();
+    }
+
+    /**
+     * Independent copy of this state
+     */
+    public MechState copy() {
+        return new MechState(data.clone());
+    }
+
+    /**
+     * Overwrites this state with another state of the same mech layout, without allocating
+     */
+    public void copyFrom(MechState other) {
+        if (other.data.length != data.length) {
+            throw new IllegalArgumentException("States have different slot layouts");
+        }
+        System.arraycopy(other.data, 0, data, 0, data.length);
+    }
+
+    /**
+     * Ints held by this state, for sizing batches
+     */
+    public int size() {
+        return data.length;
+    }
+
+    public int getArmorDamage(SectionId section) {
+        return data[header(section) + ARMOR_DAMAGE];
+    }
+
+    public int getFieldRepairArmor(SectionId section) {
+        return data[header(section) + FIELD_REPAIR];
+    }
+
+    public int getEffectiveArmorHP(SectionId section) {
+        int header = header(section);
+        return data[header + ARMOR_MAX] + data[header + FIELD_REPAIR] - data[header + ARMOR_DAMAGE];
+    }
+
+    public int getTotalSlots(SectionId section) {
+        return data[header(section) + SLOT_COUNT];
+    }
+
+    public int getSlotDamage(SectionId section, int slotIndex) {
+        int header = header(section);
+        if (slotIndex >= 0 && slotIndex < data[header + SLOT_COUNT]) {
+            return data[data[header + SLOT_OFFSET] + slotIndex];
+        }
+        return 0;
+    }
+
+    public int getSlotHP(SectionId section, int slotIndex) {
+        int header = header(section);
+        if (slotIndex >= 0 && slotIndex < data[header + SLOT_COUNT]) {
+            return data[header + SLOT_BASE_HP] - data[data[header + SLOT_OFFSET] + slotIndex];
+        }
+        return 0;
+    }
+
+    public int getTotalSlotHP(SectionId section) {
+        return data[header(section) + SLOT_HP_REMAINING];
+    }
+
+    public int getCurrentTotalHP(SectionId section) {
+        return getEffectiveArmorHP(section) + getTotalSlotHP(section);
+    }
+
+    public int getMaxTotalHP(SectionId section) {
+        int header = header(section);
+        return data[header + ARMOR_MAX] + data[header + SLOT_COUNT] * data[header + SLOT_BASE_HP];
+    }
+
+    /**
+     * True once every slot of the section is destroyed
+     */
+    public boolean isDestroyed(SectionId section) {
+        return data[header(section) + INTACT_SLOT] < 0;
+    }
+
+    /**
+     * Apply one hit with the same rules as {@link MechSection#applyDamage(int)}
+     * @return Remaining damage if the section is destroyed
+     */
+    public int applyDamage(SectionId section, int damage) {
+        int header = header(section);
+        int remainingDamage = damage;
+
+        // Field repair armor first, then armor
+        int effectiveArmor = data[header + ARMOR_MAX] + data[header + FIELD_REPAIR] - data[header + ARMOR_DAMAGE];
+        if (effectiveArmor > 0) {
+            if (remainingDamage <= effectiveArmor) {
+                int fieldRepairDamage = Math.min(remainingDamage, data[header + FIELD_REPAIR]);
+                data[header + FIELD_REPAIR] -= fieldRepairDamage;
+                data[header + ARMOR_DAMAGE] += remainingDamage - fieldRepairDamage;
+                return 0;
+            }
+            remainingDamage -= effectiveArmor;
+            data[header + FIELD_REPAIR] = 0;
+            data[header + ARMOR_DAMAGE] = data[header + ARMOR_MAX];
+        }
+
+        // Remaining damage goes to slots from bottom to top
+        int baseHP = data[header + SLOT_BASE_HP];
+        int slotOffset = data[header + SLOT_OFFSET];
+        int slot = data[header + INTACT_SLOT];
+        while (remainingDamage > 0 && slot >= 0) {
+            int slotHP = baseHP - data[slotOffset + slot];
+            if (slotHP <= 0) {
+                // Already destroyed, e.g. a gap packed from a section's damage state
+                slot--;
+                continue;
+            }
+            int damageToSlot = Math.min(remainingDamage, slotHP);
+            data[slotOffset + slot] += damageToSlot;
+            data[header + SLOT_HP_REMAINING] -= damageToSlot;
+            remainingDamage -= damageToSlot;
+            if (damageToSlot == slotHP) {
+                slot--;
+            }
+        }
+        data[header + INTACT_SLOT] = slot;
+
+        return remainingDamage;
+    }
+
+    public void applyFieldRepair(SectionId section, int repairAmount) {
+        data[header(section) + FIELD_REPAIR] += repairAmount;
+    }
+
+    /**
+     * Reset all damage and field repair armor to zero
+     */
+    public void resetDamage() {
+        for (SectionId id : SectionId.values()) {
+            int header = header(id);
+            int count = data[header + SLOT_COUNT];
+            int slotOffset = data[header + SLOT_OFFSET];
+            data[header + ARMOR_DAMAGE] = 0;
+            data[header + FIELD_REPAIR] = 0;
+            for (int slot = 0; slot < count; slot++) {
+                data[slotOffset + slot] = 0;
+            }
+            data[header + SLOT_HP_REMAINING] = count * data[header + SLOT_BASE_HP];
+            data[header + INTACT_SLOT] = count - 1;
+        }
+    }
+
+    private static int header(SectionId section) {
+        return section.ordinal() * SECTION_FIELDS;
+    }
+}
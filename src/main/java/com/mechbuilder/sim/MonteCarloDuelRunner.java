@@ -0,0 +1,158 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many randomized duels between two builds in parallel.
+ *
+ * Duels are cut into fixed-size chunks, and each chunk draws from its own
+ * SplittableRandom whose seed is derived from the run seed and the chunk
+ * number alone. Chunks are spread over a fork/join pool, each worker plays its
+ * chunk on private copies of the combatants, and tallies are merged by
+ * addition. The result is therefore the same bit for bit for a given seed
+ * whatever the pool size or scheduling.
+ *
+ * The combatants passed in are only copied, never played, and must not be
+ * modified while a run is in progress.
+ */
+public final class MonteCarloDuelRunner {
+    /** Duels played from one random stream; fixed so results do not depend on parallelism */
+    static final int CHUNK_SIZE = 1024;
+
+    private final Combatant first;
+    private final Combatant second;
+    private final double range;
+    private final double tickSeconds;
+    private final double maxSeconds;
+    private final int maxTicks;
+
+    public MonteCarloDuelRunner(Combatant first, Combatant second, double range) {
+        this(first, second, range, DuelEngine.DEFAULT_TICK_SECONDS, DuelEngine.DEFAULT_MAX_SECONDS);
+    }
+
+    public MonteCarloDuelRunner(Combatant first, Combatant second, double range,
+                                double tickSeconds, double maxSeconds) {
+        this.first = first;
+        this.second = second;
+        this.range = range;
+        this.tickSeconds = tickSeconds;
+        this.maxSeconds = maxSeconds;
+        this.maxTicks = DuelEngine.maxTicks(tickSeconds, maxSeconds);
+    }
+
+    /**
+     * Plays the given number of duels on the common fork/join pool
+     */
+    public MonteCarloResult run(int duels, long seed) {
+        return run(duels, seed, ForkJoinPool.commonPool());
+    }
+
+    public MonteCarloResult run(int duels, long seed, ForkJoinPool pool) {
+        if (duels < 0) {
+            throw new IllegalArgumentException("Duel count must not be negative: " + duels);
+        }
+        int chunks = (duels + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        long[] chunkSeeds = new long[chunks];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkSeeds[chunk] = root.nextLong();
+        }
+
+        Tally tally = chunks == 0 ? new Tally(maxTicks) : pool.invoke(new DuelTask(chunkSeeds, 0, chunks, duels, maxTicks));
+        return new MonteCarloResult(duels, tally.wins, tally.draws, tickSeconds, tally.ticksHistogram, tally.destroyed);
+    }
+
+    /**
+     * Splits the chunk range in halves down to single chunks
+     */
+    private final class DuelTask extends RecursiveTask<Tally> {
+        private final long[] chunkSeeds;
+        private final int fromChunk;
+        private final int toChunk;
+        private final int duels;
+        private final int maxTicks;
+
+        DuelTask(long[] chunkSeeds, int fromChunk, int toChunk, int duels, int maxTicks) {
+            this.chunkSeeds = chunkSeeds;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.duels = duels;
+            this.maxTicks = maxTicks;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (toChunk - fromChunk == 1) {
+                return playChunk(fromChunk);
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            DuelTask left = new DuelTask(chunkSeeds, fromChunk, middle, duels, maxTicks);
+            DuelTask right = new DuelTask(chunkSeeds, middle, toChunk, duels, maxTicks);
+            left.fork();
+            Tally tally = right.compute();
+            tally.add(left.join());
+            return tally;
+        }
+
+        private Tally playChunk(int chunk) {
+            Tally tally = new Tally(maxTicks);
+            DuelEngine engine = new DuelEngine(first.copy(), second.copy(), range, tickSeconds, maxSeconds);
+            SplittableRandom random = new SplittableRandom(chunkSeeds[chunk]);
+            int end = Math.min(duels, (chunk + 1) * CHUNK_SIZE);
+            for (int duel = chunk * CHUNK_SIZE; duel < end; duel++) {
+                tally.record(engine, engine.run(random));
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Running counts of one or more chunks
+     */
+    private static final class Tally {
+        private final int[] wins = new int[2];
+        private int draws;
+        private final long[] ticksHistogram;
+        private final long[][] destroyed = new long[2][SectionId.COUNT];
+
+        Tally(int maxTicks) {
+            this.ticksHistogram = new long[maxTicks + 1];
+        }
+
+        void record(DuelEngine engine, DuelResult result) {
+            if (result.isDraw()) {
+                draws++;
+            } else {
+                wins[result.getWinner()]++;
+                ticksHistogram[result.getTicks()]++;
+            }
+            for (int side = 0; side < 2; side++) {
+                for (int i = 0; i < SectionId.COUNT; i++) {
+                    MechSection section = engine.getCombatant(side).getMech().getSection(SectionId.ofOrdinal(i));
+                    if (section != null && section.isDestroyed()) {
+                        destroyed[side][i]++;
+                    }
+                }
+            }
+        }
+
+        void add(Tally other) {
+            wins[0] += other.wins[0];
+            wins[1] += other.wins[1];
+            draws += other.draws;
+            for (int i = 0; i < ticksHistogram.length; i++) {
+                ticksHistogram[i] += other.ticksHistogram[i];
+            }
+            for (int side = 0; side < 2; side++) {
+                for (int i = 0; i < SectionId.COUNT; i++) {
+                    destroyed[side][i] += other.destroyed[side][i];
+                }
+            }
+        }
+    }
+}
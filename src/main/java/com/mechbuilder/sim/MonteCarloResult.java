@@ -0,0 +1,99 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.SectionId;
+
+/**
+ * Aggregate of many randomized duels between the same two builds.
+ *
+ * Time-to-kill figures cover decided duels only. Section destruction counts
+ * how many duels ended with that section destroyed, per side.
+ */
+public final class MonteCarloResult {
+    private final int duels;
+    private final int[] wins;
+    private final int draws;
+    private final double tickSeconds;
+    private final long[] ticksHistogram;   // Decided duels by length in ticks
+    private final long[][] destroyed;      // [side][section ordinal] duels ending with the section destroyed
+
+    MonteCarloResult(int duels, int[] wins, int draws, double tickSeconds,
+                     long[] ticksHistogram, long[][] destroyed) {
+        this.duels = duels;
+        this.wins = wins;
+        this.draws = draws;
+        this.tickSeconds = tickSeconds;
+        this.ticksHistogram = ticksHistogram;
+        this.destroyed = destroyed;
+    }
+
+    public int getDuels() {
+        return duels;
+    }
+
+    public int getWins(int side) {
+        return wins[side];
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Share of all duels won by the given side
+     */
+    public double getWinRate(int side) {
+        return duels == 0 ? 0.0 : (double) wins[side] / duels;
+    }
+
+    /**
+     * Mean time-to-kill in seconds over decided duels, or NaN when none were decided
+     */
+    public double getMeanTimeToKill() {
+        long decided = 0;
+        long totalTicks = 0;
+        for (int ticks = 0; ticks < ticksHistogram.length; ticks++) {
+            decided += ticksHistogram[ticks];
+            totalTicks += ticksHistogram[ticks] * ticks;
+        }
+        return decided == 0 ? Double.NaN : (double) totalTicks / decided * tickSeconds;
+    }
+
+    /**
+     * Time-to-kill in seconds below which the given fraction of decided duels ended
+     * @param quantile Fraction in [0, 1], e.g. 0.5 for the median
+     */
+    public double getTimeToKillQuantile(double quantile) {
+        long decided = wins[0] + wins[1];
+        if (decided == 0) return Double.NaN;
+        long rank = Math.max(1, (long) Math.ceil(quantile * decided));
+        long seen = 0;
+        for (int ticks = 0; ticks < ticksHistogram.length; ticks++) {
+            seen += ticksHistogram[ticks];
+            if (seen >= rank) {
+                return ticks * tickSeconds;
+            }
+        }
+        return (ticksHistogram.length - 1) * tickSeconds;
+    }
+
+    /**
+     * Number of decided duels that lasted exactly the given number of ticks
+     */
+    public long getDuelsEndingAtTick(int ticks) {
+        return ticks >= 0 && ticks < ticksHistogram.length ? ticksHistogram[ticks] : 0;
+    }
+
+    /**
+     * Share of duels that ended with the given side's section destroyed
+     */
+    public double getDestructionFrequency(int side, SectionId section) {
+        return duels == 0 ? 0.0 : (double) destroyed[side][section.ordinal()] / duels;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d duels: %.1f%% / %.1f%% / %.1f%% draws, mean TTK %.2fs",
+                duels, getWinRate(0) * 100, getWinRate(1) * 100,
+                duels == 0 ? 0.0 : 100.0 * draws / duels, getMeanTimeToKill());
+    }
+}
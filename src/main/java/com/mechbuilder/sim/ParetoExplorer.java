@@ -0,0 +1,93 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.MechSectionFactory;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Finds every loadout of a chassis that no other loadout beats on all
+ * {@link LoadoutMetric}s at once, rather than a single optimum.
+ *
+ * Weapons and armor share the chassis tonnage left after the shield: each
+ * loadout keeps as much armor as still fits, up to the chassis maximum. Each
+ * weapon takes one hardpoint and one slot of the sections
+ * {@link MechSectionFactory} builds. See {@link FrontierSearch} for how the
+ * frontier is built and streamed.
+ */
+public final class ParetoExplorer {
+    /**
+     * Notified from a search thread as the frontier changes. Calls are not
+     * concurrent, and a loadout is only removed after it was added.
+     */
+    public interface FrontierListener {
+        void pointAdded(Loadout loadout);
+
+        /**
+         * A loadout left the frontier because a newer one dominates it
+         */
+        void pointRemoved(Loadout loadout);
+    }
+
+    /** Relative difference below which two loadouts count as equal on a metric */
+    public static final double DEFAULT_RESOLUTION = 0.05;
+
+    private final List<WeaponComponent> weapons;
+    private final MechSectionFactory sectionFactory;
+    private final HeatModel heatModel;
+    private final double resolution;
+
+    public ParetoExplorer(Catalog catalog) {
+        this(catalog.getWeapons(), new MechSectionFactory(catalog), HeatModel.DEFAULT, DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * @param resolution Relative difference below which two loadouts count as equal on a
+     *                   metric, or 0 for the exact frontier, which can take very long on large chassis
+     */
+    public ParetoExplorer(List<WeaponComponent> weapons, MechSectionFactory sectionFactory, HeatModel heatModel,
+                          double resolution) {
+        if (resolution < 0) {
+            throw new IllegalArgumentException("Resolution must not be negative: " + resolution);
+        }
+        this.weapons = List.copyOf(weapons);
+        this.sectionFactory = sectionFactory;
+        this.heatModel = heatModel;
+        this.resolution = resolution;
+    }
+
+    /**
+     * Frontier without a shield, searched on the common fork/join pool
+     */
+    public List<Loadout> explore(MechChassis chassis) throws IOException, CsvValidationException {
+        return start(chassis, null, null).join();
+    }
+
+    public FrontierSearch start(MechChassis chassis, Shield shield, FrontierListener listener)
+            throws IOException, CsvValidationException {
+        return start(chassis, shield, listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts a search in the background and returns at once
+     * @param shield Shield to fit, or null
+     * @param listener Receives frontier changes while the search runs, or null
+     */
+    public FrontierSearch start(MechChassis chassis, Shield shield, FrontierListener listener, ForkJoinPool pool)
+            throws IOException, CsvValidationException {
+        double budget = chassis.getTonnage() - (shield != null ? shield.getTonnage() : 0.0);
+        if (budget < -LoadoutSpace.EPSILON) {
+            throw new IllegalArgumentException("Shield exceeds the " + chassis.getTonnage()
+                    + " tons of " + chassis.getName());
+        }
+        LoadoutSpace space = new LoadoutSpace(chassis, sectionFactory.createSections(chassis), weapons,
+                Math.max(0.0, budget));
+        return new FrontierSearch(space, heatModel, shield, resolution, listener, pool);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.WeaponComponent;
+
+/**
+ * How the simulation reads a weapon's range stats.
+ *
+ * Every shot of a salvo deals {@code damage} up to the optimal range, then
+ * loses {@code DamageDrop} per range unit up to the maximum range, and nothing
+ * beyond it. Hit chance is certain up to the optimal range and falls linearly
+ * by {@code AccuracyPenalty} percent over the distance from optimal to maximum
+ * range. Ranges are in the same units as the weapon catalog.
+ */
+public final class WeaponBallistics {
+
+    private WeaponBallistics() {
+    }
+
+    /**
+     * Damage of one shot at the given range, before accuracy
+     */
+    public static double damageAt(WeaponComponent weapon, double range) {
+        if (range < 0 || range > weapon.getMaxRange()) {
+            return 0.0;
+        }
+        double beyondOptimal = Math.max(0.0, range - weapon.getOptimalRange());
+        return Math.max(0.0, weapon.getDamage() - weapon.getDamageDrop() * beyondOptimal);
+    }
+
+    /**
+     * Probability that one shot hits at the given range
+     */
+    public static double hitChance(WeaponComponent weapon, double range) {
+        if (range < 0 || range > weapon.getMaxRange()) {
+            return 0.0;
+        }
+        if (range <= weapon.getOptimalRange()) {
+            return 1.0;
+        }
+        double falloffSpan = weapon.getMaxRange() - weapon.getOptimalRange();
+        double falloff = falloffSpan > 0 ? (range - weapon.getOptimalRange()) / falloffSpan : 1.0;
+        return Math.max(0.0, Math.min(1.0, 1.0 - weapon.getAccuracyPenalty() / 100.0 * falloff));
+    }
+}
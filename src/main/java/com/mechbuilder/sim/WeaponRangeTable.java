@@ -0,0 +1,160 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.WeaponTable;
+import com.mechbuilder.model.WeaponComponent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * {@link WeaponBallistics} curves sampled at every integer range, one row per
+ * weapon of a {@link WeaponTable}.
+ *
+ * Each row covers ranges 0 through the weapon's maximum range; beyond it
+ * every value is 0. All rows share flat primitive columns addressed by a
+ * per-row offset, so a lookup is two array reads. Salvo figures treat each
+ * shot of a salvo as an independent hit roll: the mean is
+ * {@code shots * damage * p} and the variance {@code shots * damage^2 * p(1-p)}.
+ * The table is immutable.
+ */
+public final class WeaponRangeTable {
+    // One table per catalog, dropped together with the catalog's weapon table
+    private static final Map<WeaponTable, WeaponRangeTable> BY_CATALOG =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int rows;
+    private final int[] offsets;     // [row] start of the row in the columns below
+    private final int[] maxRanges;   // [row] last range the row covers
+    private final double[] shotDamage;
+    private final double[] hitChance;
+    private final double[] salvoMean;
+    private final double[] salvoVariance;
+
+    public WeaponRangeTable(List<WeaponComponent> weapons) {
+        this(new WeaponTable(weapons));
+    }
+
+    public WeaponRangeTable(WeaponTable weapons) {
+        this.rows = weapons.size();
+        this.offsets = new int[rows];
+        this.maxRanges = new int[rows];
+        int cells = 0;
+        for (int row = 0; row < rows; row++) {
+            offsets[row] = cells;
+            maxRanges[row] = Math.max(0, weapons.getMaxRange(row));
+            cells += maxRanges[row] + 1;
+        }
+
+        this.shotDamage = new double[cells];
+        this.hitChance = new double[cells];
+        this.salvoMean = new double[cells];
+        this.salvoVariance = new double[cells];
+        for (int row = 0; row < rows; row++) {
+            WeaponComponent weapon = weapons.getWeapon(row);
+            int shots = Math.max(1, weapons.getShotsPerSalvo(row));
+            for (int range = 0; range <= maxRanges[row]; range++) {
+                int cell = offsets[row] + range;
+                double damage = WeaponBallistics.damageAt(weapon, range);
+                double chance = WeaponBallistics.hitChance(weapon, range);
+                shotDamage[cell] = damage;
+                hitChance[cell] = chance;
+                salvoMean[cell] = shots * damage * chance;
+                salvoVariance[cell] = shots * damage * damage * chance * (1.0 - chance);
+            }
+        }
+    }
+
+    /**
+     * Shared table for a catalog's weapons, built on first request
+     */
+    public static WeaponRangeTable forCatalog(Catalog catalog) {
+        WeaponTable weapons = catalog.getWeaponTable();
+        synchronized (BY_CATALOG) {
+            return BY_CATALOG.computeIfAbsent(weapons, WeaponRangeTable::new);
+        }
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public int getMaxRange(int row) {
+        return maxRanges[row];
+    }
+
+    /**
+     * Damage of one shot at the given range, before accuracy
+     */
+    public double getShotDamage(int row, int range) {
+        int cell = cell(row, range);
+        return cell < 0 ? 0.0 : shotDamage[cell];
+    }
+
+    /**
+     * Damage of one shot at a range between whole units, before accuracy
+     */
+    public double getShotDamage(int row, double range) {
+        return interpolate(shotDamage, row, range);
+    }
+
+    /**
+     * Probability that one shot hits at the given range
+     */
+    public double getHitChance(int row, int range) {
+        int cell = cell(row, range);
+        return cell < 0 ? 0.0 : hitChance[cell];
+    }
+
+    /**
+     * Probability that one shot hits at a range between whole units
+     */
+    public double getHitChance(int row, double range) {
+        return interpolate(hitChance, row, range);
+    }
+
+    /**
+     * Expected damage of one shot at the given range, accuracy included
+     */
+    public double getExpectedShotDamage(int row, int range) {
+        int cell = cell(row, range);
+        return cell < 0 ? 0.0 : shotDamage[cell] * hitChance[cell];
+    }
+
+    /**
+     * Expected damage of a full salvo at the given range
+     */
+    public double getExpectedSalvoDamage(int row, int range) {
+        int cell = cell(row, range);
+        return cell < 0 ? 0.0 : salvoMean[cell];
+    }
+
+    /**
+     * Variance of a full salvo's damage at the given range
+     */
+    public double getSalvoDamageVariance(int row, int range) {
+        int cell = cell(row, range);
+        return cell < 0 ? 0.0 : salvoVariance[cell];
+    }
+
+    // Optimal and maximum ranges are whole units, so the curves are straight
+    // between neighbouring cells and interpolating reproduces them exactly
+    private double interpolate(double[] column, int row, double range) {
+        if (!(range >= 0) || range > maxRanges[row]) {
+            return 0.0;
+        }
+        int lower = (int) range;
+        double fraction = range - lower;
+        int cell = offsets[row] + lower;
+        return fraction == 0.0 ? column[cell] : column[cell] + (column[cell + 1] - column[cell]) * fraction;
+    }
+
+    private int cell(int row, int range) {
+        if (range < 0 || range > maxRanges[row]) {
+            return -1;
+        }
+        return offsets[row] + range;
+    }
+}
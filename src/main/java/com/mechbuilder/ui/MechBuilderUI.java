@@ -1,11 +1,19 @@
 package com.mechbuilder.ui;
 
 import com.opencsv.exceptions.CsvValidationException;
-import com.mechbuilder.data.MechChassisRepository;
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.CatalogDiff;
+import com.mechbuilder.data.CatalogLoader;
+import com.mechbuilder.data.CatalogSource;
+import com.mechbuilder.data.CatalogWatcher;
 import com.mechbuilder.data.MechSectionFactory;
-import com.mechbuilder.data.WeaponRepository;
+import com.mechbuilder.model.Mech;
 import com.mechbuilder.model.MechChassis;
 import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.ShieldState;
+import com.mechbuilder.model.SlotConfiguration;
 import com.mechbuilder.model.WeaponComponent;
 import com.mechbuilder.ui.components.WeaponArsenalPanel;
 import com.mechbuilder.ui.components.EquippedWeaponsPanel;
@@ -16,6 +24,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,54 +36,208 @@ import java.util.Map;
  */
 public class MechBuilderUI extends JFrame {
     
-    // Data repositories and lists
-    private final MechChassisRepository chassisRepo;
-    private final WeaponRepository weaponRepo;
-    private final MechSectionFactory sectionFactory;
+    // Catalog data, published by the background loader
+    private Catalog catalog;
+    private MechSectionFactory sectionFactory;
+    private CatalogWatcher catalogWatcher; // Only when an external data directory is configured
     
     private List<MechChassis> chassisList;
     private List<WeaponComponent> weaponsList;
-    private Map<String, MechSection> currentSections;
+    private Map<SectionId, MechSection> currentSections;
+    private Mech currentMech; // Owns currentSections, the fitted shield and damage routing
     private Map<String, Integer> armorHpPerTon; // Armor type -> HP per ton
     
     // UI Components
     private JComboBox<String> chassisDropdown;
     private JComboBox<String> armorDropdown;
+    private JComboBox<String> shieldDropdown;
+    private JLabel shieldStatusLabel;
     private JPanel mechPanel;
-    private Map<String, JLabel> tonnageLabels;
-    private Map<String, List<JComboBox<String>>> sectionDropdowns;
+    private Map<SectionId, JLabel> tonnageLabels;
+    private Map<SectionId, JLabel> armorLabels;
+    private Map<SectionId, List<JComboBox<String>>> sectionDropdowns;
     private WeaponArsenalPanel weaponArsenalPanel;
     private EquippedWeaponsPanel equippedWeaponsPanel;
     private ArmorAllocationPanel armorAllocationPanel;
-    private Map<String, MechSectionDropHandler> sectionDropHandlers;
+    private Map<SectionId, MechSectionDropHandler> sectionDropHandlers;
     
-    public MechBuilderUI() throws IOException, CsvValidationException {
-        // Initialize repositories
-        chassisRepo = new MechChassisRepository();
-        weaponRepo = new WeaponRepository();
-        sectionFactory = new MechSectionFactory();
-        
-        // Load data
-        chassisList = chassisRepo.loadAll();
-        weaponsList = weaponRepo.loadAll();
+    // Startup progress, shown until the catalog is ready
+    private JPanel loadingPanel;
+    private JProgressBar loadingProgress;
+    
+    public MechBuilderUI() {
         loadArmorData();
         
-        tonnageLabels = new HashMap<>();
-        sectionDropdowns = new HashMap<>();
-        sectionDropHandlers = new HashMap<>();
+        tonnageLabels = new EnumMap<>(SectionId.class);
+        armorLabels = new EnumMap<>(SectionId.class);
+        sectionDropdowns = new EnumMap<>(SectionId.class);
+        sectionDropHandlers = new EnumMap<>(SectionId.class);
+        
+        // Show the window straight away and fill it in once every catalog has loaded
+        showLoadingFrame();
+        CatalogLoader.loadAsync((catalogName, completed, total) ->
+                SwingUtilities.invokeLater(() -> updateLoadingProgress(catalogName, completed, total)))
+            .whenComplete((loaded, error) -> SwingUtilities.invokeLater(() -> {
+                if (error != null) {
+                    showLoadingError(error.getCause() != null ? error.getCause() : error);
+                } else {
+                    onCatalogLoaded(loaded);
+                }
+            }));
+    }
+    
+    private void showLoadingFrame() {
+        setTitle("Mech Builder - Unified Edition with Drag & Drop");
+        setSize(1600, 900);  // Wider to accommodate arsenal panel
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+        
+        loadingProgress = new JProgressBar(0, CatalogLoader.CATALOG_COUNT);
+        loadingProgress.setStringPainted(true);
+        loadingProgress.setString("Loading catalog...");
+        loadingProgress.setPreferredSize(new Dimension(300, 24));
+        
+        loadingPanel = new JPanel(new GridBagLayout());
+        loadingPanel.add(loadingProgress);
+        add(loadingPanel, BorderLayout.CENTER);
+        
+        setVisible(true);
+    }
+    
+    private void updateLoadingProgress(String catalogName, int completed, int total) {
+        loadingProgress.setMaximum(total);
+        loadingProgress.setValue(completed);
+        loadingProgress.setString("Loaded " + catalogName + " (" + completed + "/" + total + ")");
+    }
+    
+    private void showLoadingError(Throwable error) {
+        loadingProgress.setString("Catalog failed to load");
+        JOptionPane.showMessageDialog(this, 
+            "Error loading catalog data: " + error.getMessage(), 
+            "Error", 
+            JOptionPane.ERROR_MESSAGE);
+    }
+    
+    /**
+     * Replaces the progress indicator with the builder once the catalog is ready
+     */
+    private void onCatalogLoaded(Catalog loaded) {
+        catalog = loaded;
+        chassisList = loaded.getChassis();
+        weaponsList = loaded.getWeapons();
+        sectionFactory = new MechSectionFactory(loaded);
+        
+        remove(loadingPanel);
+        loadingPanel = null;
+        loadingProgress = null;
         
         initializeUI();
         if (!chassisList.isEmpty()) {
             updateMechLayout();
         }
+        revalidate();
+        repaint();
+        
+        startCatalogWatcher(loaded);
     }
     
-    private void initializeUI() {
-        setTitle("Mech Builder - Unified Edition with Drag & Drop");
-        setSize(1600, 900);  // Wider to accommodate arsenal panel
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setLayout(new BorderLayout());
+    /**
+     * Hot-reloads catalog files edited in the external data directory
+     */
+    private void startCatalogWatcher(Catalog loaded) {
+        CatalogSource.getDataDirectory().ifPresent(directory -> {
+            catalogWatcher = new CatalogWatcher(directory, loaded);
+            catalogWatcher.addListener((updated, diff) ->
+                SwingUtilities.invokeLater(() -> applyCatalogUpdate(updated, diff)));
+            try {
+                catalogWatcher.start();
+            } catch (IOException e) {
+                System.err.println("Unable to watch data directory " + directory + ": " + e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Patches the open builder with a reloaded catalog instead of rebuilding it
+     */
+    private void applyCatalogUpdate(Catalog updated, CatalogDiff<?> diff) {
+        catalog = updated;
+        chassisList = updated.getChassis();
+        weaponsList = updated.getWeapons();
+        sectionFactory = new MechSectionFactory(updated);
+        System.out.println("Catalog reloaded - " + diff);
+        
+        diff.ofType(WeaponComponent.class).ifPresent(weaponDiff -> {
+            if (weaponArsenalPanel != null) {
+                weaponArsenalPanel.refreshWeapons();
+            }
+            for (MechSectionDropHandler handler : sectionDropHandlers.values()) {
+                handler.applyWeaponCatalogChanges(weaponDiff);
+            }
+            updateEquippedWeaponsPanel();
+        });
+        diff.ofType(MechChassis.class).ifPresent(this::applyChassisChanges);
+        diff.ofType(SlotConfiguration.class).ifPresent(this::applySlotChanges);
+    }
+    
+    private void applyChassisChanges(CatalogDiff<MechChassis> chassisDiff) {
+        for (MechChassis chassis : chassisDiff.getAdded()) {
+            chassisDropdown.addItem(chassis.getName());
+        }
+        // Removing the selected chassis moves the selection, which rebuilds the layout
+        for (MechChassis chassis : chassisDiff.getRemoved()) {
+            chassisDropdown.removeItem(chassis.getName());
+        }
         
+        MechChassis selected = getSelectedChassis();
+        if (selected != null && chassisDiff.getChanged().contains(selected)) {
+            // Hardpoints may have moved or changed type, so the sections are built again
+            rebuildMechLayout();
+        }
+    }
+    
+    /**
+     * Rebuilds the selected chassis when the slot counts of its size class change
+     */
+    private void applySlotChanges(CatalogDiff<SlotConfiguration> slotDiff) {
+        MechChassis selected = getSelectedChassis();
+        if (selected == null) return;
+        
+        List<SlotConfiguration> edited = new ArrayList<>(slotDiff.getChanged());
+        edited.addAll(slotDiff.getAdded());
+        edited.addAll(slotDiff.getRemoved());
+        for (SlotConfiguration config : edited) {
+            if (slotDiff.keyOf(config).equals(selected.getChassisSize())) {
+                rebuildMechLayout();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Builds the selected chassis' sections, damage routing and drop handlers
+     * again, moving the equipped weapons over where they still fit
+     */
+    private void rebuildMechLayout() {
+        Map<SectionId, List<WeaponComponent>> equipped = new EnumMap<>(SectionId.class);
+        for (Map.Entry<SectionId, MechSectionDropHandler> entry : sectionDropHandlers.entrySet()) {
+            equipped.put(entry.getKey(), entry.getValue().getEquippedWeapons());
+        }
+        
+        updateMechLayout();
+        
+        for (Map.Entry<SectionId, List<WeaponComponent>> entry : equipped.entrySet()) {
+            MechSectionDropHandler dropHandler = sectionDropHandlers.get(entry.getKey());
+            for (WeaponComponent weapon : entry.getValue()) {
+                if (dropHandler == null || !dropHandler.equipWeapon(weapon)) {
+                    System.out.println("Removed " + weapon.getName() + " from " + entry.getKey() + ": it no longer fits");
+                }
+            }
+        }
+        updateEquippedWeaponsPanel();
+    }
+    
+    private void initializeUI() {
         // Top panel with chassis and armor selection
         JPanel topPanel = new JPanel(new FlowLayout());
         
@@ -119,6 +282,20 @@ public class MechBuilderUI extends JFrame {
         // Add some spacing
         topPanel.add(Box.createHorizontalStrut(20));
         
+        // Shield selection
+        topPanel.add(new JLabel("Select Shield:"));
+        
+        shieldDropdown = new JComboBox<>();
+        for (Shield shield : catalog.getShields()) {
+            shieldDropdown.addItem(shield.getShield());
+        }
+        shieldDropdown.setSelectedItem("None");
+        shieldDropdown.addActionListener(e -> updateShield());
+        topPanel.add(shieldDropdown);
+        
+        // Add some spacing
+        topPanel.add(Box.createHorizontalStrut(20));
+        
         // Reset button to restore all HP to maximum
         JButton resetButton = new JButton("Reset All HP");
         resetButton.setFont(new Font("Arial", Font.BOLD, 11));
@@ -170,6 +347,8 @@ public class MechBuilderUI extends JFrame {
         centerSpacer.setBackground(new Color(240, 240, 240));
         centerSpacer.setBorder(BorderFactory.createTitledBorder("Damage Control"));
         centerSpacer.add(new JLabel("Damage control is now integrated into each mech section"));
+        shieldStatusLabel = new JLabel("No Shield");
+        centerSpacer.add(shieldStatusLabel);
         bottomPanel.add(centerSpacer, BorderLayout.CENTER);
         
         // Right side - armor allocation
@@ -188,13 +367,12 @@ public class MechBuilderUI extends JFrame {
         add(bottomPanel, BorderLayout.SOUTH);
         
         add(mainPanel, BorderLayout.CENTER);
-        
-        setVisible(true);
     }
     
     private void updateMechLayout() {
         mechPanel.removeAll();
         tonnageLabels.clear();
+        armorLabels.clear();
         sectionDropdowns.clear();
         sectionDropHandlers.clear();
         
@@ -202,10 +380,7 @@ public class MechBuilderUI extends JFrame {
         if (selectedName == null) return;
         
         // Find selected chassis
-        MechChassis selectedChassis = chassisList.stream()
-                .filter(chassis -> chassis.getName().equals(selectedName))
-                .findFirst()
-                .orElse(null);
+        MechChassis selectedChassis = catalog.findChassisByName(selectedName).orElse(null);
         
         if (selectedChassis == null) return;
         
@@ -216,39 +391,42 @@ public class MechBuilderUI extends JFrame {
             }
             
             // Create sections with both hardpoints and slots using our factory
-            currentSections = sectionFactory.createSectionsForChassis(selectedChassis);
+            currentMech = new Mech(selectedChassis.getName(), selectedChassis, sectionFactory);
+            currentMech.setShield(getSelectedShield());
+            currentSections = currentMech.getSectionsById();
+            updateShieldStatus();
             
             // Use V1's clean grid layout approach with dynamic slot counts
             // Head/Cockpit - top center
-            if (currentSections.containsKey("Head")) {
-                addSection("Head", 2, 0, 1, 1);
+            if (currentSections.containsKey(SectionId.HEAD)) {
+                addSection(SectionId.HEAD, 2, 0, 1, 1);
             }
             
             // Arms - outer sides  
-            if (currentSections.containsKey("Left Arm")) {
-                addSection("Left Arm", 0, 1, 1, 1);
+            if (currentSections.containsKey(SectionId.LEFT_ARM)) {
+                addSection(SectionId.LEFT_ARM, 0, 1, 1, 1);
             }
-            if (currentSections.containsKey("Right Arm")) {
-                addSection("Right Arm", 4, 1, 1, 1);
+            if (currentSections.containsKey(SectionId.RIGHT_ARM)) {
+                addSection(SectionId.RIGHT_ARM, 4, 1, 1, 1);
             }
             
             // Torsos - center area
-            if (currentSections.containsKey("Left Torso")) {
-                addSection("Left Torso", 1, 1, 1, 1);
+            if (currentSections.containsKey(SectionId.LEFT_TORSO)) {
+                addSection(SectionId.LEFT_TORSO, 1, 1, 1, 1);
             }
-            if (currentSections.containsKey("Center Torso")) {
-                addSection("Center Torso", 2, 1, 1, 1);
+            if (currentSections.containsKey(SectionId.CENTER_TORSO)) {
+                addSection(SectionId.CENTER_TORSO, 2, 1, 1, 1);
             }
-            if (currentSections.containsKey("Right Torso")) {
-                addSection("Right Torso", 3, 1, 1, 1);
+            if (currentSections.containsKey(SectionId.RIGHT_TORSO)) {
+                addSection(SectionId.RIGHT_TORSO, 3, 1, 1, 1);
             }
             
             // Legs - bottom
-            if (currentSections.containsKey("Left Leg")) {
-                addSection("Left Leg", 1, 2, 1, 1);
+            if (currentSections.containsKey(SectionId.LEFT_LEG)) {
+                addSection(SectionId.LEFT_LEG, 1, 2, 1, 1);
             }
-            if (currentSections.containsKey("Right Leg")) {
-                addSection("Right Leg", 3, 2, 1, 1);
+            if (currentSections.containsKey(SectionId.RIGHT_LEG)) {
+                addSection(SectionId.RIGHT_LEG, 3, 2, 1, 1);
             }
             
         } catch (IOException | CsvValidationException e) {
@@ -262,19 +440,19 @@ public class MechBuilderUI extends JFrame {
     /**
      * V1-style addSection method but with dynamic slot counts from real data
      */
-    private void addSection(String sectionName, int gridx, int gridy, int gridwidth, int gridheight) {
-        MechSection section = currentSections.get(sectionName);
+    private void addSection(SectionId sectionId, int gridx, int gridy, int gridwidth, int gridheight) {
+        MechSection section = currentSections.get(sectionId);
         if (section == null) return;
         
         JPanel sectionPanel = new JPanel();
         sectionPanel.setLayout(new BoxLayout(sectionPanel, BoxLayout.Y_AXIS));
-        sectionPanel.setBorder(BorderFactory.createTitledBorder(sectionName));
+        sectionPanel.setBorder(BorderFactory.createTitledBorder(sectionId.getDisplayName()));
         sectionPanel.setMaximumSize(new Dimension(220, 400));
         
         // Set up drag and drop for this section
         MechSectionDropHandler dropHandler = new MechSectionDropHandler(section, sectionPanel);
         sectionPanel.setTransferHandler(dropHandler);
-        sectionDropHandlers.put(sectionName, dropHandler);
+        sectionDropHandlers.put(sectionId, dropHandler);
         
         // Set callback to update equipped weapons panel when weapons change
         dropHandler.setOnWeaponsChangedCallback(this::updateEquippedWeaponsPanel);
@@ -289,7 +467,7 @@ public class MechBuilderUI extends JFrame {
         // Get allocated armor from armor allocation panel
         double allocatedArmorTons = 0.0;
         if (armorAllocationPanel != null) {
-            allocatedArmorTons = armorAllocationPanel.getSectionArmor(sectionName);
+            allocatedArmorTons = armorAllocationPanel.getSectionArmor(sectionId);
         }
         
         // Calculate armor HP based on allocated armor tons and selected armor type
@@ -312,17 +490,17 @@ public class MechBuilderUI extends JFrame {
         sectionPanel.add(infoLabel);
         
         // Store for tonnage updates
-        tonnageLabels.put(sectionName, infoLabel);
+        tonnageLabels.put(sectionId, infoLabel);
         
         // Add armor allocation controls directly in the section header
         if (armorAllocationPanel != null) {
-            JPanel armorHeaderPanel = createArmorHeaderPanel(sectionName);
+            JPanel armorHeaderPanel = createArmorHeaderPanel(sectionId);
             sectionPanel.add(armorHeaderPanel);
             sectionPanel.add(Box.createVerticalStrut(5));
         }
         
         // Add damage input box for this section
-        JPanel damagePanel = createDamageInputPanel(sectionName);
+        JPanel damagePanel = createDamageInputPanel(sectionId);
         sectionPanel.add(damagePanel);
         sectionPanel.add(Box.createVerticalStrut(5));
         
@@ -459,7 +637,7 @@ public class MechBuilderUI extends JFrame {
             }
         }
         
-        sectionDropdowns.put(sectionName, dropdowns);
+        sectionDropdowns.put(sectionId, dropdowns);
         
         // Add to grid using V1's clean positioning approach
         GridBagConstraints gbc = new GridBagConstraints();
@@ -480,8 +658,8 @@ public class MechBuilderUI extends JFrame {
      */
     private void updateArmorDisplay() {
         if (currentSections != null) {
-            for (String sectionName : currentSections.keySet()) {
-                updateSectionTonnage(sectionName);
+            for (SectionId sectionId : currentSections.keySet()) {
+                updateSectionTonnage(sectionId);
             }
         }
         // Force a complete UI update
@@ -533,8 +711,8 @@ public class MechBuilderUI extends JFrame {
      */
     public void updateArmorAllocation() {
         if (currentSections != null) {
-            for (String sectionName : currentSections.keySet()) {
-                updateSectionTonnage(sectionName);
+            for (SectionId sectionId : currentSections.keySet()) {
+                updateSectionTonnage(sectionId);
             }
         }
         updateTotalMechTonnage();
@@ -551,18 +729,19 @@ public class MechBuilderUI extends JFrame {
         double totalMechTonnage = 0.0;
         
         // Calculate totals from all sections
-        for (String sectionName : currentSections.keySet()) {
-            MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionName);
+        for (SectionId sectionId : currentSections.keySet()) {
+            MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionId);
             if (dropHandler != null) {
                 totalWeaponTonnage += dropHandler.getEquippedTonnage();
             }
             
             if (armorAllocationPanel != null) {
-                totalArmorTonnage += armorAllocationPanel.getSectionArmor(sectionName);
+                totalArmorTonnage += armorAllocationPanel.getSectionArmor(sectionId);
             }
         }
         
-        totalMechTonnage = totalWeaponTonnage + totalArmorTonnage;
+        Shield shield = getSelectedShield();
+        totalMechTonnage = totalWeaponTonnage + totalArmorTonnage + (shield != null ? shield.getTonnage() : 0.0);
         
         // Get chassis limits
         MechChassis selectedChassis = getSelectedChassis();
@@ -612,10 +791,47 @@ public class MechBuilderUI extends JFrame {
         String selectedName = (String) chassisDropdown.getSelectedItem();
         if (selectedName == null) return null;
         
-        return chassisList.stream()
-            .filter(chassis -> chassis.getName().equals(selectedName))
-            .findFirst()
-            .orElse(null);
+        return catalog.findChassisByName(selectedName).orElse(null);
+    }
+    
+    /**
+     * Get the currently selected shield; null when none is fitted
+     */
+    private Shield getSelectedShield() {
+        String selectedName = shieldDropdown != null ? (String) shieldDropdown.getSelectedItem() : null;
+        if (selectedName == null) return null;
+        
+        for (Shield shield : catalog.getShields()) {
+            if (shield.getShield().equals(selectedName) && !shield.isNoneShield()) {
+                return shield;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Fit the selected shield, fully charged, to the current mech
+     */
+    private void updateShield() {
+        if (currentMech != null) {
+            currentMech.setShield(getSelectedShield());
+            updateShieldStatus();
+        }
+        updateTotalMechTonnage();
+    }
+    
+    private void updateShieldStatus() {
+        if (shieldStatusLabel != null && currentMech != null) {
+            ShieldState shieldState = currentMech.getShieldState();
+            shieldStatusLabel.setText(shieldState != null ? shieldState.getStatus(getShieldClock()) : "No Shield");
+        }
+    }
+    
+    /**
+     * Seconds on a monotonic clock, for shield recharge
+     */
+    private double getShieldClock() {
+        return System.nanoTime() / 1e9;
     }
     
     /**
@@ -626,12 +842,12 @@ public class MechBuilderUI extends JFrame {
             Map<String, List<WeaponComponent>> weaponsBySection = new HashMap<>();
             
             // Collect weapons from all sections using drop handlers
-            for (String sectionName : sectionDropHandlers.keySet()) {
-                MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionName);
+            for (SectionId sectionId : sectionDropHandlers.keySet()) {
+                MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionId);
                 if (dropHandler != null) {
                     List<WeaponComponent> sectionWeapons = dropHandler.getEquippedWeapons();
                     if (sectionWeapons != null && !sectionWeapons.isEmpty()) {
-                        weaponsBySection.put(sectionName, sectionWeapons);
+                        weaponsBySection.put(sectionId.getDisplayName(), sectionWeapons);
                     }
                 }
             }
@@ -651,8 +867,8 @@ public class MechBuilderUI extends JFrame {
      */
     private void updateAllSectionDisplays() {
         if (currentSections != null) {
-            for (String sectionName : currentSections.keySet()) {
-                updateSectionTonnage(sectionName);
+            for (SectionId sectionId : currentSections.keySet()) {
+                updateSectionTonnage(sectionId);
             }
         }
     }
@@ -660,7 +876,7 @@ public class MechBuilderUI extends JFrame {
     /**
      * Select a section for damage control operations (no longer needed)
      */
-    private void selectSectionForDamageControl(String sectionName) {
+    private void selectSectionForDamageControl(SectionId sectionId) {
         // Damage control is now integrated into each section
         // This method is kept for compatibility but no longer needed
     }
@@ -668,7 +884,7 @@ public class MechBuilderUI extends JFrame {
     /**
      * Create damage input panel for a section
      */
-    private JPanel createDamageInputPanel(String sectionName) {
+    private JPanel createDamageInputPanel(SectionId sectionId) {
         JPanel damagePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 2, 0));
         damagePanel.setBackground(new Color(255, 240, 240));
         damagePanel.setBorder(BorderFactory.createCompoundBorder(
@@ -685,7 +901,7 @@ public class MechBuilderUI extends JFrame {
         JTextField damageField = new JTextField("0", 2);
         damageField.setFont(new Font("Arial", Font.PLAIN, 8));
         damageField.setHorizontalAlignment(JTextField.CENTER);
-        damageField.setName("damage_" + sectionName); // For easy identification
+        damageField.setName("damage_" + sectionId); // For easy identification
         damageField.setToolTipText("Enter damage amount and press Enter");
         
         // Add Enter key listener to apply damage
@@ -693,7 +909,7 @@ public class MechBuilderUI extends JFrame {
             @Override
             public void keyPressed(java.awt.event.KeyEvent e) {
                 if (e.getKeyCode() == java.awt.event.KeyEvent.VK_ENTER) {
-                    applyDamageToSection(sectionName, damageField);
+                    applyDamageToSection(sectionId, damageField);
                 }
             }
         });
@@ -707,7 +923,7 @@ public class MechBuilderUI extends JFrame {
     /**
      * Create armor allocation header panel for a section
      */
-    private JPanel createArmorHeaderPanel(String sectionName) {
+    private JPanel createArmorHeaderPanel(SectionId sectionId) {
         JPanel headerPanel = new JPanel(new BorderLayout());
         headerPanel.setBackground(new Color(245, 245, 245));
         headerPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -724,14 +940,10 @@ public class MechBuilderUI extends JFrame {
         JLabel currentArmorLabel = new JLabel("0.00t");
         currentArmorLabel.setFont(new Font("Arial", Font.BOLD, 10));
         currentArmorLabel.setForeground(Color.BLUE);
-        currentArmorLabel.setName("armor_" + sectionName); // For easy identification
+        currentArmorLabel.setName("armor_" + sectionId); // For easy identification
         
         // Store reference for updates
-        if (tonnageLabels.containsKey(sectionName + "_armor")) {
-            tonnageLabels.put(sectionName + "_armor", currentArmorLabel);
-        } else {
-            tonnageLabels.put(sectionName + "_armor", currentArmorLabel);
-        }
+        armorLabels.put(sectionId, currentArmorLabel);
         
         // Button panel
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 2, 0));
@@ -741,13 +953,13 @@ public class MechBuilderUI extends JFrame {
         JButton decreaseBtn = new JButton("-");
         decreaseBtn.setPreferredSize(new Dimension(25, 20));
         decreaseBtn.setFont(new Font("Arial", Font.BOLD, 12));
-        decreaseBtn.addActionListener(e -> adjustSectionArmor(sectionName, -0.25));
+        decreaseBtn.addActionListener(e -> adjustSectionArmor(sectionId, -0.25));
         
         // Increase button
         JButton increaseBtn = new JButton("+");
         increaseBtn.setPreferredSize(new Dimension(25, 20));
         increaseBtn.setFont(new Font("Arial", Font.BOLD, 12));
-        increaseBtn.addActionListener(e -> adjustSectionArmor(sectionName, 0.25));
+        increaseBtn.addActionListener(e -> adjustSectionArmor(sectionId, 0.25));
         
         buttonPanel.add(decreaseBtn);
         buttonPanel.add(increaseBtn);
@@ -762,7 +974,7 @@ public class MechBuilderUI extends JFrame {
     /**
      * Apply damage to a specific section
      */
-    private void applyDamageToSection(String sectionName, JTextField damageField) {
+    private void applyDamageToSection(SectionId sectionId, JTextField damageField) {
         try {
             int damage = Integer.parseInt(damageField.getText());
             if (damage < 0) {
@@ -770,18 +982,41 @@ public class MechBuilderUI extends JFrame {
                 return;
             }
             
-            MechSection section = currentSections.get(sectionName);
+            MechSection section = currentSections.get(sectionId);
             if (section != null) {
-                int remainingDamage = section.applyDamage(damage);
+                // The shield absorbs first, then overflow follows the transfer graph
+                long[] absorbed = new long[SectionId.COUNT];
+                int remainingDamage = Math.max(0, currentMech.applyDamage(sectionId, damage, getShieldClock(), absorbed));
+                long absorbedBySections = 0;
+                for (long sectionDamage : absorbed) {
+                    absorbedBySections += sectionDamage;
+                }
                 
-                // Log the damage application
-                System.out.println(String.format("Applied %d damage to %s", damage, sectionName));
+                // Log the damage application, including any overflow into neighbouring sections
+                System.out.println(String.format("Applied %d damage to %s", damage, sectionId));
+                if (damage - remainingDamage - absorbedBySections > 0) {
+                    System.out.println(String.format("  Shield absorbed %d damage", damage - remainingDamage - absorbedBySections));
+                }
+                for (SectionId id : SectionId.values()) {
+                    if (id != sectionId && absorbed[id.ordinal()] > 0) {
+                        System.out.println(String.format("  %d damage transferred to %s", absorbed[id.ordinal()], id));
+                    }
+                }
                 if (remainingDamage > 0) {
                     System.out.println(String.format("Section destroyed! %d damage overflow", remainingDamage));
                 }
                 
-                // Update the section display
-                updateSectionTonnage(sectionName);
+                // Update every section the damage reached
+                for (SectionId id : SectionId.values()) {
+                    if (absorbed[id.ordinal()] > 0 || id == sectionId) {
+                        updateSectionTonnage(id);
+                        MechSectionDropHandler dropHandler = sectionDropHandlers.get(id);
+                        if (dropHandler != null) {
+                            dropHandler.refreshDisplay();
+                        }
+                    }
+                }
+                updateShieldStatus();
                 
                 // Clear the damage field
                 damageField.setText("0");
@@ -794,7 +1029,7 @@ public class MechBuilderUI extends JFrame {
     /**
      * Apply field repair to a specific section
      */
-    private void applyFieldRepairToSection(String sectionName, JTextField repairField) {
+    private void applyFieldRepairToSection(SectionId sectionId, JTextField repairField) {
         try {
             int repairAmount = Integer.parseInt(repairField.getText());
             if (repairAmount < 0) {
@@ -802,15 +1037,15 @@ public class MechBuilderUI extends JFrame {
                 return;
             }
             
-            MechSection section = currentSections.get(sectionName);
+            MechSection section = currentSections.get(sectionId);
             if (section != null) {
                 section.applyFieldRepair(repairAmount);
                 
                 // Log the repair application
-                System.out.println(String.format("Applied %d field repair armor to %s", repairAmount, sectionName));
+                System.out.println(String.format("Applied %d field repair armor to %s", repairAmount, sectionId));
                 
                 // Update the section display
-                updateSectionTonnage(sectionName);
+                updateSectionTonnage(sectionId);
                 
                 // Clear the repair field
                 repairField.setText("0");
@@ -823,34 +1058,24 @@ public class MechBuilderUI extends JFrame {
     /**
      * Adjust armor for a specific section
      */
-    private void adjustSectionArmor(String sectionName, double adjustment) {
+    private void adjustSectionArmor(SectionId sectionId, double adjustment) {
         if (armorAllocationPanel != null) {
             // Get current value from armor allocation panel
-            double currentValue = armorAllocationPanel.getSectionArmor(sectionName);
+            double currentValue = armorAllocationPanel.getSectionArmor(sectionId);
             double newValue = currentValue + adjustment;
             
             // Get max allowed for this section
-            MechChassis selectedChassis = chassisList.stream()
-                .filter(chassis -> chassis.getName().equals(chassisDropdown.getSelectedItem()))
-                .findFirst()
-                .orElse(null);
+            MechChassis selectedChassis = getSelectedChassis();
             
             if (selectedChassis != null) {
                 double maxArmorTonnage = selectedChassis.getMaxArmorTonnage();
-                double maxAllowed = 0.0;
-                
-                // Calculate max based on section type
-                if (sectionName.equals("Head")) maxAllowed = maxArmorTonnage * 0.05;
-                else if (sectionName.equals("Left Arm") || sectionName.equals("Right Arm")) maxAllowed = maxArmorTonnage * 0.05;
-                else if (sectionName.equals("Left Torso") || sectionName.equals("Right Torso")) maxAllowed = maxArmorTonnage * 0.15;
-                else if (sectionName.equals("Center Torso")) maxAllowed = maxArmorTonnage * 0.25;
-                else if (sectionName.equals("Left Leg") || sectionName.equals("Right Leg")) maxAllowed = maxArmorTonnage * 0.15;
+                double maxAllowed = maxArmorTonnage * sectionId.getArmorPercentCap();
                 
                 // Clamp to valid range
                 newValue = Math.max(0.0, Math.min(newValue, maxAllowed));
                 
                 // Update the armor allocation panel (this will trigger the callback to update displays)
-                armorAllocationPanel.setSectionArmor(sectionName, newValue);
+                armorAllocationPanel.setSectionArmor(sectionId, newValue);
                 
                 // Update all section displays
                 updateArmorAllocation();
@@ -863,15 +1088,12 @@ public class MechBuilderUI extends JFrame {
      */
     private void resetAllSectionHP() {
         if (currentSections != null) {
-            for (String sectionName : currentSections.keySet()) {
-                MechSection section = currentSections.get(sectionName);
-                if (section != null) {
-                    section.resetDamage();
-                }
-            }
+            // Through the mech, so its router forgets destroyed sections and the shield recharges
+            currentMech.resetDamage();
             
             // Update all displays
             updateAllSectionDisplays();
+            updateShieldStatus();
             
             // Show confirmation
             JOptionPane.showMessageDialog(this, 
@@ -884,28 +1106,23 @@ public class MechBuilderUI extends JFrame {
     /**
      * Update section tonnage display with real-time equipped item data
      */
-    private void updateSectionTonnage(String sectionName) {
-        JLabel tonnageLabel = tonnageLabels.get(sectionName);
-        MechSection section = currentSections.get(sectionName);
-        MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionName);
+    private void updateSectionTonnage(SectionId sectionId) {
+        JLabel tonnageLabel = tonnageLabels.get(sectionId);
+        MechSection section = currentSections.get(sectionId);
+        MechSectionDropHandler dropHandler = sectionDropHandlers.get(sectionId);
         
         if (tonnageLabel == null || section == null) return;
         
-        // Get actual equipped weapon tonnage from drop handler
+        // Get actual equipped weapon tonnage from drop handler; it allocates the section's slots itself
         double weaponTonnage = 0.0;
-        int usedSlots = 0;
         if (dropHandler != null) {
             weaponTonnage = dropHandler.getEquippedTonnage();
-            usedSlots = dropHandler.getEquippedCount();
         }
         
-        // Update section's used slots
-        section.setUsedSlots(usedSlots);
-        
         // Get allocated armor from armor allocation panel
         double allocatedArmorTons = 0.0;
         if (armorAllocationPanel != null) {
-            allocatedArmorTons = armorAllocationPanel.getSectionArmor(sectionName);
+            allocatedArmorTons = armorAllocationPanel.getSectionArmor(sectionId);
         }
         
         // Calculate armor HP based on allocated armor tons and selected armor type
@@ -929,7 +1146,7 @@ public class MechBuilderUI extends JFrame {
         tonnageLabel.setText(infoHtml.toString());
         
         // Also update the armor header panel if it exists
-        JLabel armorLabel = tonnageLabels.get(sectionName + "_armor");
+        JLabel armorLabel = armorLabels.get(sectionId);
         if (armorLabel != null) {
             armorLabel.setText(String.format("%.2ft", allocatedArmorTons));
         }
@@ -942,13 +1159,7 @@ public class MechBuilderUI extends JFrame {
     }
     
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                new MechBuilderUI();
-            } catch (IOException | CsvValidationException e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(null, "Error starting Mech Builder: " + e.getMessage());
-            }
-        });
+        // Catalog load errors are reported by the window itself
+        SwingUtilities.invokeLater(MechBuilderUI::new);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.mechbuilder.ui.components;
 
 import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,10 +15,10 @@ import java.util.Map;
  */
 public class ArmorAllocationPanel extends JPanel {
     
-    private final Map<String, JPanel> armorControlPanels;
-    private final Map<String, JLabel> percentageLabels;
-    private final Map<String, JLabel> maxTonnageLabels;
-    private final Map<String, JLabel> currentValueLabels;
+    private final Map<SectionId, JPanel> armorControlPanels;
+    private final Map<SectionId, JLabel> percentageLabels;
+    private final Map<SectionId, JLabel> maxTonnageLabels;
+    private final Map<SectionId, JLabel> currentValueLabels;
     private JLabel totalAllocatedLabel;
     private JLabel remainingLabel;
     
@@ -24,18 +26,18 @@ public class ArmorAllocationPanel extends JPanel {
     private double maxArmorTonnage;
     private Runnable onArmorChangedCallback;
     
-    // Armor allocation percentages for each section
-    private static final double ARM_ARMOR_PERCENT = 0.05;      // 5% for arms
-    private static final double HEAD_ARMOR_PERCENT = 0.05;     // 5% for head
-    private static final double LEG_ARMOR_PERCENT = 0.15;      // 15% for legs
-    private static final double TORSO_ARMOR_PERCENT = 0.15;    // 15% for left/right torso
-    private static final double CENTER_TORSO_ARMOR_PERCENT = 0.25; // 25% for center torso
+    // Display order of the section controls; armor caps come from SectionId
+    private static final SectionId[] DISPLAY_ORDER = {
+        SectionId.HEAD, SectionId.LEFT_ARM, SectionId.RIGHT_ARM,
+        SectionId.LEFT_TORSO, SectionId.CENTER_TORSO, SectionId.RIGHT_TORSO,
+        SectionId.LEFT_LEG, SectionId.RIGHT_LEG
+    };
     
     public ArmorAllocationPanel() {
-        this.armorControlPanels = new HashMap<>();
-        this.percentageLabels = new HashMap<>();
-        this.maxTonnageLabels = new HashMap<>();
-        this.currentValueLabels = new HashMap<>();
+        this.armorControlPanels = new EnumMap<>(SectionId.class);
+        this.percentageLabels = new EnumMap<>(SectionId.class);
+        this.maxTonnageLabels = new EnumMap<>(SectionId.class);
+        this.currentValueLabels = new EnumMap<>(SectionId.class);
         
         setLayout(new BorderLayout());
         setBorder(BorderFactory.createTitledBorder(
@@ -60,14 +62,9 @@ public class ArmorAllocationPanel extends JPanel {
         contentPanel.add(Box.createVerticalStrut(10));
         
         // Add section allocation controls
-        addSectionControls(contentPanel, "Head", HEAD_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Left Arm", ARM_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Right Arm", ARM_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Left Torso", TORSO_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Center Torso", CENTER_TORSO_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Right Torso", TORSO_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Left Leg", LEG_ARMOR_PERCENT);
-        addSectionControls(contentPanel, "Right Leg", LEG_ARMOR_PERCENT);
+        for (SectionId section : DISPLAY_ORDER) {
+            addSectionControls(contentPanel, section);
+        }
         
         // Add flexible space at bottom
         contentPanel.add(Box.createVerticalGlue());
@@ -108,37 +105,38 @@ public class ArmorAllocationPanel extends JPanel {
     /**
      * Add controls for a specific mech section
      */
-    private void addSectionControls(JPanel parent, String sectionName, double percentage) {
+    private void addSectionControls(JPanel parent, SectionId section) {
+        double percentage = section.getArmorPercentCap();
         JPanel sectionPanel = new JPanel(new BorderLayout());
         sectionPanel.setBackground(Color.WHITE);
         sectionPanel.setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
         
         // Section name and percentage
-        JLabel nameLabel = new JLabel(sectionName + " (" + (int)(percentage * 100) + "%)");
+        JLabel nameLabel = new JLabel(section.getDisplayName() + " (" + (int)(percentage * 100) + "%)");
         nameLabel.setFont(new Font("Arial", Font.BOLD, 10));
         nameLabel.setPreferredSize(new Dimension(120, 20));
         
         // Max tonnage label
-        maxTonnageLabels.put(sectionName, new JLabel("Max: 0.00t"));
-        maxTonnageLabels.get(sectionName).setFont(new Font("Arial", Font.PLAIN, 9));
-        maxTonnageLabels.get(sectionName).setForeground(Color.DARK_GRAY);
-        maxTonnageLabels.get(sectionName).setPreferredSize(new Dimension(70, 20));
+        maxTonnageLabels.put(section, new JLabel("Max: 0.00t"));
+        maxTonnageLabels.get(section).setFont(new Font("Arial", Font.PLAIN, 9));
+        maxTonnageLabels.get(section).setForeground(Color.DARK_GRAY);
+        maxTonnageLabels.get(section).setPreferredSize(new Dimension(70, 20));
         
         // Current value label
-        currentValueLabels.put(sectionName, new JLabel("0.00t"));
-        currentValueLabels.get(sectionName).setFont(new Font("Arial", Font.BOLD, 10));
-        currentValueLabels.get(sectionName).setForeground(Color.BLUE);
-        currentValueLabels.get(sectionName).setPreferredSize(new Dimension(50, 20));
+        currentValueLabels.put(section, new JLabel("0.00t"));
+        currentValueLabels.get(section).setFont(new Font("Arial", Font.BOLD, 10));
+        currentValueLabels.get(section).setForeground(Color.BLUE);
+        currentValueLabels.get(section).setPreferredSize(new Dimension(50, 20));
         
         // Create armor control panel with +/- buttons
-        JPanel armorControlPanel = createArmorControlPanel(sectionName, percentage);
-        armorControlPanels.put(sectionName, armorControlPanel);
+        JPanel armorControlPanel = createArmorControlPanel(section);
+        armorControlPanels.put(section, armorControlPanel);
         
         // Add components to section panel
         JPanel leftPanel = new JPanel(new BorderLayout());
         leftPanel.setBackground(Color.WHITE);
         leftPanel.add(nameLabel, BorderLayout.WEST);
-        leftPanel.add(maxTonnageLabels.get(sectionName), BorderLayout.CENTER);
+        leftPanel.add(maxTonnageLabels.get(section), BorderLayout.CENTER);
         
         sectionPanel.add(leftPanel, BorderLayout.WEST);
         sectionPanel.add(armorControlPanel, BorderLayout.EAST);
@@ -150,12 +148,12 @@ public class ArmorAllocationPanel extends JPanel {
     /**
      * Create armor control panel with +/- buttons
      */
-    private JPanel createArmorControlPanel(String sectionName, double percentage) {
+    private JPanel createArmorControlPanel(SectionId section) {
         JPanel controlPanel = new JPanel(new BorderLayout());
         controlPanel.setBackground(Color.WHITE);
         
         // Current value display
-        JLabel valueLabel = currentValueLabels.get(sectionName);
+        JLabel valueLabel = currentValueLabels.get(section);
         controlPanel.add(valueLabel, BorderLayout.CENTER);
         
         // Button panel
@@ -166,13 +164,13 @@ public class ArmorAllocationPanel extends JPanel {
         JButton decreaseBtn = new JButton("-");
         decreaseBtn.setPreferredSize(new Dimension(25, 20));
         decreaseBtn.setFont(new Font("Arial", Font.BOLD, 12));
-        decreaseBtn.addActionListener(e -> adjustArmor(sectionName, -0.25));
+        decreaseBtn.addActionListener(e -> adjustArmor(section, -0.25));
         
         // Increase button
         JButton increaseBtn = new JButton("+");
         increaseBtn.setPreferredSize(new Dimension(25, 20));
         increaseBtn.setFont(new Font("Arial", Font.BOLD, 12));
-        increaseBtn.addActionListener(e -> adjustArmor(sectionName, 0.25));
+        increaseBtn.addActionListener(e -> adjustArmor(section, 0.25));
         
         buttonPanel.add(decreaseBtn);
         buttonPanel.add(increaseBtn);
@@ -185,25 +183,21 @@ public class ArmorAllocationPanel extends JPanel {
     /**
      * Adjust armor for a specific section
      */
-    private void adjustArmor(String sectionName, double adjustment) {
-        double currentValue = getSectionArmor(sectionName);
+    private void adjustArmor(SectionId section, double adjustment) {
+        double currentValue = getSectionArmor(section);
         double newValue = currentValue + adjustment;
         
         // Get max allowed for this section
         double maxAllowed = 0.0;
         if (currentChassis != null) {
-            if (sectionName.equals("Head")) maxAllowed = maxArmorTonnage * HEAD_ARMOR_PERCENT;
-            else if (sectionName.equals("Left Arm") || sectionName.equals("Right Arm")) maxAllowed = maxArmorTonnage * ARM_ARMOR_PERCENT;
-            else if (sectionName.equals("Left Torso") || sectionName.equals("Right Torso")) maxAllowed = maxArmorTonnage * TORSO_ARMOR_PERCENT;
-            else if (sectionName.equals("Center Torso")) maxAllowed = maxArmorTonnage * CENTER_TORSO_ARMOR_PERCENT;
-            else if (sectionName.equals("Left Leg") || sectionName.equals("Right Leg")) maxAllowed = maxArmorTonnage * LEG_ARMOR_PERCENT;
+            maxAllowed = maxArmorTonnage * section.getArmorPercentCap();
         }
         
         // Clamp to valid range
         newValue = Math.max(0.0, Math.min(newValue, maxAllowed));
         
         // Update the current value label
-        currentValueLabels.get(sectionName).setText(String.format("%.2ft", newValue));
+        currentValueLabels.get(section).setText(String.format("%.2ft", newValue));
         
         // Update totals and notify callback
         updateTotalAllocation();
@@ -235,27 +229,22 @@ public class ArmorAllocationPanel extends JPanel {
         if (currentChassis == null) return;
         
         // Update max tonnage labels for each section
-        updateSectionLimit("Head", HEAD_ARMOR_PERCENT);
-        updateSectionLimit("Left Arm", ARM_ARMOR_PERCENT);
-        updateSectionLimit("Right Arm", ARM_ARMOR_PERCENT);
-        updateSectionLimit("Left Torso", TORSO_ARMOR_PERCENT);
-        updateSectionLimit("Center Torso", CENTER_TORSO_ARMOR_PERCENT);
-        updateSectionLimit("Right Torso", TORSO_ARMOR_PERCENT);
-        updateSectionLimit("Left Leg", LEG_ARMOR_PERCENT);
-        updateSectionLimit("Right Leg", LEG_ARMOR_PERCENT);
+        for (SectionId section : DISPLAY_ORDER) {
+            updateSectionLimit(section);
+        }
     }
     
     /**
      * Update the limit for a specific section
      */
-    private void updateSectionLimit(String sectionName, double percentage) {
-        double maxTons = maxArmorTonnage * percentage;
-        maxTonnageLabels.get(sectionName).setText(String.format("Max: %.2ft", maxTons));
+    private void updateSectionLimit(SectionId section) {
+        double maxTons = maxArmorTonnage * section.getArmorPercentCap();
+        maxTonnageLabels.get(section).setText(String.format("Max: %.2ft", maxTons));
         
         // Reset to 0 if current value exceeds new maximum
-        double currentValue = getSectionArmor(sectionName);
+        double currentValue = getSectionArmor(section);
         if (currentValue > maxTons) {
-            currentValueLabels.get(sectionName).setText("0.00t");
+            currentValueLabels.get(section).setText("0.00t");
         }
     }
     
@@ -316,7 +305,15 @@ public class ArmorAllocationPanel extends JPanel {
      * Get the allocated armor for a specific section
      */
     public double getSectionArmor(String sectionName) {
-        JLabel valueLabel = currentValueLabels.get(sectionName);
+        SectionId section = SectionId.fromName(sectionName);
+        return section != null ? getSectionArmor(section) : 0.0;
+    }
+    
+    /**
+     * Get the allocated armor for a specific section
+     */
+    public double getSectionArmor(SectionId section) {
+        JLabel valueLabel = currentValueLabels.get(section);
         if (valueLabel != null) {
             String text = valueLabel.getText();
             if (text.endsWith("t")) {
@@ -335,8 +332,19 @@ public class ArmorAllocationPanel extends JPanel {
      */
     public Map<String, Double> getAllAllocatedArmor() {
         Map<String, Double> allocated = new HashMap<>();
-        for (String sectionName : currentValueLabels.keySet()) {
-            allocated.put(sectionName, getSectionArmor(sectionName));
+        for (SectionId section : currentValueLabels.keySet()) {
+            allocated.put(section.getDisplayName(), getSectionArmor(section));
+        }
+        return allocated;
+    }
+    
+    /**
+     * Get all allocated armor values keyed by section
+     */
+    public Map<SectionId, Double> getAllocatedArmorBySection() {
+        Map<SectionId, Double> allocated = new EnumMap<>(SectionId.class);
+        for (SectionId section : currentValueLabels.keySet()) {
+            allocated.put(section, getSectionArmor(section));
         }
         return allocated;
     }
@@ -357,8 +365,8 @@ public class ArmorAllocationPanel extends JPanel {
     public boolean isAllocationValid() {
         double totalAllocated = 0.0;
         
-        for (String sectionName : currentValueLabels.keySet()) {
-            totalAllocated += getSectionArmor(sectionName);
+        for (SectionId section : currentValueLabels.keySet()) {
+            totalAllocated += getSectionArmor(section);
         }
         
         return totalAllocated <= maxArmorTonnage;
@@ -375,7 +383,17 @@ public class ArmorAllocationPanel extends JPanel {
      * Set armor value for a specific section
      */
     public void setSectionArmor(String sectionName, double armorTons) {
-        JLabel valueLabel = currentValueLabels.get(sectionName);
+        SectionId section = SectionId.fromName(sectionName);
+        if (section != null) {
+            setSectionArmor(section, armorTons);
+        }
+    }
+    
+    /**
+     * Set armor value for a specific section
+     */
+    public void setSectionArmor(SectionId section, double armorTons) {
+        JLabel valueLabel = currentValueLabels.get(section);
         if (valueLabel != null) {
             valueLabel.setText(String.format("%.2ft", armorTons));
             updateTotalAllocation();
@@ -1,6 +1,9 @@
 package com.mechbuilder.ui.components;
 
+import com.mechbuilder.model.Mech;
 import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.ShieldState;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
@@ -19,6 +22,8 @@ public class DamageControlPanel extends JPanel {
     private final JLabel statusLabel;
     private final JTextArea damageLog;
     
+    private Mech mech;
+    private SectionId sectionId;
     private MechSection currentSection;
     
     public DamageControlPanel() {
@@ -110,16 +115,19 @@ public class DamageControlPanel extends JPanel {
         add(logScrollPane, BorderLayout.SOUTH);
         
         // Initially disable buttons
-        setSection(null);
+        setSection(null, null);
     }
     
     /**
-     * Set the current section for damage control
+     * Set the current section for damage control. Hits go through the mech,
+     * so its shield absorbs first and overflow follows its transfer graph.
      */
-    public void setSection(MechSection section) {
-        this.currentSection = section;
+    public void setSection(Mech mech, SectionId sectionId) {
+        this.mech = mech;
+        this.sectionId = sectionId;
+        this.currentSection = mech != null && sectionId != null ? mech.getSection(sectionId) : null;
         
-        boolean hasSection = section != null;
+        boolean hasSection = currentSection != null;
         applyDamageButton.setEnabled(hasSection);
         fieldRepairButton.setEnabled(hasSection);
         
@@ -136,8 +144,10 @@ public class DamageControlPanel extends JPanel {
      */
     public void updateStatus() {
         if (currentSection != null) {
+            ShieldState shieldState = mech.getShieldState();
+            String shieldLine = shieldState != null ? shieldState.getStatus(getShieldClock()) + "<br/>" : "";
             statusLabel.setText("<html><b>" + currentSection.getName() + "</b><br/>" + 
-                              currentSection.getDamageStatus() + "</html>");
+                              shieldLine + currentSection.getDamageStatus() + "</html>");
         }
     }
     
@@ -148,11 +158,24 @@ public class DamageControlPanel extends JPanel {
         if (currentSection == null) return;
         
         int damage = (Integer) damageSpinner.getValue();
-        int remainingDamage = currentSection.applyDamage(damage);
+        long[] absorbed = new long[SectionId.COUNT];
+        int remainingDamage = Math.max(0, mech.applyDamage(sectionId, damage, getShieldClock(), absorbed));
+        long absorbedBySections = 0;
+        for (long sectionDamage : absorbed) {
+            absorbedBySections += sectionDamage;
+        }
         
         // Log the damage
         String logEntry = String.format("[%s] Applied %d damage to %s\n", 
             getCurrentTime(), damage, currentSection.getName());
+        if (damage - remainingDamage - absorbedBySections > 0) {
+            logEntry += String.format("  Shield absorbed %d damage\n", damage - remainingDamage - absorbedBySections);
+        }
+        for (SectionId id : SectionId.values()) {
+            if (id != sectionId && absorbed[id.ordinal()] > 0) {
+                logEntry += String.format("  %d damage transferred to %s\n", absorbed[id.ordinal()], id);
+            }
+        }
         if (remainingDamage > 0) {
             logEntry += String.format("  Section destroyed! %d damage overflow\n", remainingDamage);
         }
@@ -201,6 +224,13 @@ public class DamageControlPanel extends JPanel {
         return java.time.LocalTime.now().toString().substring(0, 8);
     }
     
+    /**
+     * Seconds on a monotonic clock, for shield recharge
+     */
+    private double getShieldClock() {
+        return System.nanoTime() / 1e9;
+    }
+    
     /**
      * Clear the damage log
      */
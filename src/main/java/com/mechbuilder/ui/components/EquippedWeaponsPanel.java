@@ -1,6 +1,8 @@
 package com.mechbuilder.ui.components;
 
 import com.mechbuilder.model.WeaponComponent;
+import com.mechbuilder.sim.HeatModel;
+import com.mechbuilder.sim.HeatReport;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
@@ -17,6 +19,7 @@ public class EquippedWeaponsPanel extends JPanel {
     
     private final JPanel contentPanel;
     private final JLabel totalWeaponsLabel;
+    private final JLabel heatLabel;
     private final Map<String, List<WeaponComponent>> equippedWeaponsBySection;
     
     public EquippedWeaponsPanel() {
@@ -52,8 +55,14 @@ public class EquippedWeaponsPanel extends JPanel {
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 0, 0, 0));
         
+        // Heat-limited output readout, from the analytic heat model
+        heatLabel = new JLabel();
+        heatLabel.setFont(new Font("Arial", Font.PLAIN, 10));
+        heatLabel.setBorder(BorderFactory.createEmptyBorder(3, 5, 3, 5));
+        
         add(totalWeaponsLabel, BorderLayout.NORTH);
         add(scrollPane, BorderLayout.CENTER);
+        add(heatLabel, BorderLayout.SOUTH);
         
         // Initialize with empty state
         updateDisplay();
@@ -100,12 +109,14 @@ public class EquippedWeaponsPanel extends JPanel {
         contentPanel.removeAll();
         
         int totalWeapons = 0;
+        List<WeaponComponent> allWeapons = new ArrayList<>();
         
         // Add weapons by section
         for (String sectionName : equippedWeaponsBySection.keySet()) {
             List<WeaponComponent> weapons = equippedWeaponsBySection.get(sectionName);
             if (weapons != null && !weapons.isEmpty()) {
                 totalWeapons += weapons.size();
+                allWeapons.addAll(weapons);
                 
                 // Create section header
                 JPanel sectionHeader = createSectionHeader(sectionName, weapons.size());
@@ -124,6 +135,7 @@ public class EquippedWeaponsPanel extends JPanel {
         
         // Update total count
         totalWeaponsLabel.setText("Total Weapons: " + totalWeapons);
+        updateHeatReadout(allWeapons);
         
         // Add flexible space at bottom
         contentPanel.add(Box.createVerticalGlue());
@@ -162,6 +174,16 @@ public class EquippedWeaponsPanel extends JPanel {
         return header;
     }
     
+    /**
+     * Show alpha strike against heat-limited sustained output
+     */
+    private void updateHeatReadout(List<WeaponComponent> weapons) {
+        HeatReport report = HeatModel.DEFAULT.analyze(weapons, null);
+        heatLabel.setText(String.format("Alpha: %.0f (%.0f heat) | DPS: %.1f burst, %.1f sustained",
+            report.getAlphaDamage(), report.getAlphaHeat(), report.getBurstDps(), report.getSustainedDps()));
+        heatLabel.setForeground(report.getSustainedRatio() < 0.999 ? new Color(200, 80, 0) : Color.DARK_GRAY);
+    }
+    
     /**
      * Create a row displaying weapon information
      */
@@ -5,6 +5,8 @@ import com.mechbuilder.model.WeaponComponent;
 import com.opencsv.exceptions.CsvValidationException;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.io.IOException;
 import java.util.List;
@@ -22,6 +24,7 @@ public class WeaponArsenalPanel extends JPanel {
     private final JPanel mainPanel;
     private final JScrollPane scrollPane;
     private final Map<String, CollapsibleCategory> categoryPanels;
+    private final JTextField filterField;
     
     public WeaponArsenalPanel() throws IOException, CsvValidationException {
         this.weaponRepository = new WeaponRepository();
@@ -49,15 +52,47 @@ public class WeaponArsenalPanel extends JPanel {
         
         add(scrollPane, BorderLayout.CENTER);
         
+        // Name filter above the categories
+        filterField = new JTextField();
+        filterField.setToolTipText("Filter weapons by name");
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                refreshWeapons();
+            }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                refreshWeapons();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                refreshWeapons();
+            }
+        });
+        
+        JPanel filterPanel = new JPanel(new BorderLayout(4, 0));
+        filterPanel.setBorder(BorderFactory.createEmptyBorder(2, 2, 4, 2));
+        JLabel filterLabel = new JLabel("Filter:");
+        filterLabel.setFont(new Font("Arial", Font.PLAIN, 11));
+        filterPanel.add(filterLabel, BorderLayout.WEST);
+        filterPanel.add(filterField, BorderLayout.CENTER);
+        add(filterPanel, BorderLayout.NORTH);
+        
         // Load weapons organized by category
         loadWeaponsByCategory();
     }
     
     private void loadWeaponsByCategory() throws IOException, CsvValidationException {
         mainPanel.removeAll();
+        categoryPanels.clear();
         
-        // Get all weapons
-        List<WeaponComponent> allWeapons = weaponRepository.loadAll();
+        // Get all weapons, or the ranked matches when a filter is set
+        String filter = filterField.getText().trim();
+        List<WeaponComponent> allWeapons = filter.isEmpty()
+                ? weaponRepository.loadAll()
+                : weaponRepository.searchByName(filter);
         
         // Group weapons by type
         Map<String, List<WeaponComponent>> weaponsByType = new HashMap<>();
@@ -1,5 +1,8 @@
 package com.mechbuilder.ui.dnd;
 
+import com.mechbuilder.data.CatalogDiff;
+import com.mechbuilder.data.EntityRegistry;
+import com.mechbuilder.model.HardpointType;
 import com.mechbuilder.model.MechSection;
 import com.mechbuilder.model.WeaponComponent;
 import javax.swing.*;
@@ -17,12 +20,23 @@ import java.util.ArrayList;
 /**
  * TransferHandler for mech sections that can receive weapon drops.
  * Handles importing weapons into mech section slots.
+ *
+ * Equipped weapons are kept in an array indexed by hardpoint, next to a
+ * bitmask of the free hardpoints and a count of mounted weapons per hardpoint
+ * type, all three updated together on every equip and removal. Finding a free
+ * hardpoint is then one numberOfTrailingZeros, and checking for room during a
+ * drag reads the counts instead of walking the loadout. Each equipped weapon
+ * also occupies one of the section's slots, with its hardpoint index as the
+ * occupant, so damage to that slot shows up as a destroyed weapon.
  */
 public class MechSectionDropHandler extends TransferHandler {
     
     private final MechSection mechSection;
     private final JPanel sectionPanel;
-    private final java.util.Map<Integer, WeaponComponent> equippedWeapons = new java.util.HashMap<>();
+    private final WeaponComponent[] equippedWeapons; // by hardpoint index, null while the hardpoint is free
+    private final int[] mountedByType = new int[HardpointType.values().length];
+    private long freeHardpoints; // bit i set while hardpoint i is free
+    private int equippedCount;
     
     private final Color originalBackground;
     private Runnable onWeaponsChangedCallback;
@@ -31,6 +45,9 @@ public class MechSectionDropHandler extends TransferHandler {
         this.mechSection = mechSection;
         this.sectionPanel = sectionPanel;
         this.originalBackground = sectionPanel.getBackground();
+        int hardpoints = Math.min(getTotalHardpoints(), Long.SIZE);
+        this.equippedWeapons = new WeaponComponent[hardpoints];
+        this.freeHardpoints = hardpoints == Long.SIZE ? -1L : (1L << hardpoints) - 1;
         
         // Add mouse listener to reset background when drag exits
         sectionPanel.addMouseListener(new MouseAdapter() {
@@ -70,7 +87,7 @@ public class MechSectionDropHandler extends TransferHandler {
             }
             
             // Check if there are available hardpoints
-            if (!hasAvailableHardpoints()) {
+            if (!hasAvailableHardpoints(weapon)) {
                 // Add visual feedback for no available slots
                 sectionPanel.setBackground(new java.awt.Color(255, 240, 200)); // Light orange
                 return false;
@@ -115,62 +132,97 @@ public class MechSectionDropHandler extends TransferHandler {
     }
     
     /**
-     * Check if this section can accept the given weapon type
+     * Check if this section has a hardpoint for the given weapon type.
+     * Sections without hardpoints (legs) have an empty mask and take nothing.
      */
     private boolean canAcceptWeapon(WeaponComponent weapon) {
-        String weaponType = weapon.getType();
-        
-        // Legs can't have weapons
-        if (mechSection.getName().contains("Leg")) {
+        return (mechSection.getHardpointTypeMask() & HardpointType.maskOf(weapon.getType())) != 0;
+    }
+    
+    /**
+     * Check if a hardpoint that takes the weapon's type is still free in this section
+     */
+    private boolean hasAvailableHardpoints(WeaponComponent weapon) {
+        HardpointType type = HardpointType.fromWeaponType(weapon.getType());
+        if (type == null) {
             return false;
         }
-        
-        // For now, all non-leg sections can accept any weapon type
-        // TODO: Add hardpoint type restrictions (Energy/Ballistic/Missile)
-        return true;
+        return mechSection.getHardpoints().hasRoomFor(type, mountedByType);
     }
     
     /**
-     * Check if there are available hardpoints in this section
+     * Equip a weapon without a drag, e.g. to carry a loadout over to rebuilt sections
+     * @return false when the section has no free hardpoint or slot for it
      */
-    private boolean hasAvailableHardpoints() {
-        int totalHardpoints = mechSection.getEnergyHardpoints() + 
-                            mechSection.getBallisticHardpoints() + 
-                            mechSection.getMissileHardpoints();
-        
-        // Check against currently equipped weapons
-        return equippedWeapons.size() < totalHardpoints;
+    public boolean equipWeapon(WeaponComponent weapon) {
+        if (addWeaponToSection(weapon)) {
+            updateSectionDisplay();
+            return true;
+        }
+        return false;
     }
     
     /**
      * Add the weapon to this section
      */
     private boolean addWeaponToSection(WeaponComponent weapon) {
-        if (hasAvailableHardpoints()) {
-            // Find the first available slot
-            int slotIndex = findFirstAvailableSlot();
-            if (slotIndex >= 0) {
-                equippedWeapons.put(slotIndex, weapon);
-                System.out.println("Added " + weapon.getName() + " to " + mechSection.getName() + 
-                                 " (" + equippedWeapons.size() + "/" + getTotalHardpoints() + " slots used)");
-                notifyWeaponsChanged();
-                return true;
-            }
+        if (canAcceptWeapon(weapon) && hasAvailableHardpoints(weapon)
+                && mountWeapon(findFirstAvailableSlot(), weapon)) {
+            System.out.println("Added " + weapon.getName() + " to " + mechSection.getName() + 
+                             " (" + equippedCount + "/" + getTotalHardpoints() + " slots used)");
+            notifyWeaponsChanged();
+            return true;
         }
         return false;
     }
     
     /**
-     * Find the first available slot index
+     * Put a weapon on a free hardpoint and give it a section slot
+     * @return false when the hardpoint is taken or out of range, or the section has no free slot
      */
-    private int findFirstAvailableSlot() {
-        int totalHardpoints = getTotalHardpoints();
-        for (int i = 0; i < totalHardpoints; i++) {
-            if (!equippedWeapons.containsKey(i)) {
-                return i;
-            }
+    boolean mountWeapon(int slotIndex, WeaponComponent weapon) {
+        if (slotIndex < 0 || slotIndex >= equippedWeapons.length || equippedWeapons[slotIndex] != null) {
+            return false;
+        }
+        // The catalog has no slot sizes, so every weapon takes a single section slot
+        if (mechSection.allocateSlots(1, slotIndex) < 0) {
+            return false;
+        }
+        equippedWeapons[slotIndex] = weapon;
+        freeHardpoints &= ~(1L << slotIndex);
+        countMounted(weapon, 1);
+        equippedCount++;
+        return true;
+    }
+    
+    /**
+     * Take the weapon off a hardpoint and free its section slot
+     * @return The weapon that was there, or null when the hardpoint was free
+     */
+    private WeaponComponent unmountWeapon(int slotIndex) {
+        WeaponComponent weapon = getWeaponInSlot(slotIndex);
+        if (weapon != null) {
+            equippedWeapons[slotIndex] = null;
+            freeHardpoints |= 1L << slotIndex;
+            countMounted(weapon, -1);
+            equippedCount--;
+            releaseSectionSlot(slotIndex);
         }
-        return -1; // No available slots
+        return weapon;
+    }
+    
+    private void countMounted(WeaponComponent weapon, int delta) {
+        HardpointType type = HardpointType.fromWeaponType(weapon.getType());
+        if (type != null) {
+            mountedByType[type.ordinal()] += delta;
+        }
+    }
+    
+    /**
+     * Find the first free hardpoint index
+     */
+    private int findFirstAvailableSlot() {
+        return freeHardpoints != 0 ? Long.numberOfTrailingZeros(freeHardpoints) : -1; // -1 when no slots are available
     }
     
     private int getTotalHardpoints() {
@@ -209,8 +261,15 @@ public class MechSectionDropHandler extends TransferHandler {
                             JLabel centerLabel = (JLabel) dzComp;
                             
                             // Check if this slot has a weapon
-                            WeaponComponent weapon = equippedWeapons.get(slotIndex);
-                            if (weapon != null) {
+                            WeaponComponent weapon = getWeaponInSlot(slotIndex);
+                            if (weapon != null && isWeaponDestroyed(slotIndex)) {
+                                // Show weapon knocked out by a critical hit
+                                centerLabel.setText(weapon.getName() + " (destroyed)");
+                                centerLabel.setFont(centerLabel.getFont().deriveFont(Font.ITALIC, 9f));
+                                centerLabel.setForeground(Color.GRAY);
+                                panel.setBackground(new Color(220, 220, 220)); // Gray
+                                panel.setToolTipText(weapon.getName() + " is destroyed; double-click to remove");
+                            } else if (weapon != null) {
                                 // Show equipped weapon
                                 centerLabel.setText(weapon.getName());
                                 centerLabel.setFont(centerLabel.getFont().deriveFont(Font.BOLD, 9f));
@@ -245,7 +304,7 @@ public class MechSectionDropHandler extends TransferHandler {
      * Removes a weapon from the specified slot
      */
     public void removeWeapon(int slotIndex) {
-        WeaponComponent removedWeapon = equippedWeapons.remove(slotIndex);
+        WeaponComponent removedWeapon = unmountWeapon(slotIndex);
         if (removedWeapon != null) {
             updateSectionDisplay();
             System.out.println("Removed " + removedWeapon.getName() + " from " + mechSection.getName());
@@ -253,18 +312,105 @@ public class MechSectionDropHandler extends TransferHandler {
         }
     }
     
+    /**
+     * Applies a reloaded weapon catalog to this section: equipped weapons whose
+     * stats changed are swapped for the new version, and weapons that no longer
+     * exist are unequipped.
+     */
+    public void applyWeaponCatalogChanges(CatalogDiff<WeaponComponent> diff) {
+        java.util.Map<String, WeaponComponent> changedByName = new java.util.HashMap<>();
+        for (WeaponComponent weapon : diff.getChanged()) {
+            changedByName.put(diff.keyOf(weapon), weapon);
+        }
+        java.util.Set<String> removedNames = new java.util.HashSet<>();
+        for (WeaponComponent weapon : diff.getRemoved()) {
+            removedNames.add(diff.keyOf(weapon));
+        }
+        
+        boolean modified = false;
+        for (int i = 0; i < equippedWeapons.length; i++) {
+            WeaponComponent equipped = equippedWeapons[i];
+            if (equipped == null) {
+                continue;
+            }
+            String name = equipped.getName();
+            if (removedNames.contains(name)) {
+                unmountWeapon(i);
+                modified = true;
+            } else if (changedByName.containsKey(name)) {
+                // The new version may have another type, so it is recounted
+                countMounted(equipped, -1);
+                equippedWeapons[i] = changedByName.get(name);
+                countMounted(equippedWeapons[i], 1);
+                modified = true;
+            }
+        }
+        
+        if (modified) {
+            updateSectionDisplay();
+            notifyWeaponsChanged();
+        }
+    }
+    
+    /**
+     * Frees the section slot held by the weapon at a hardpoint index, if any
+     */
+    private void releaseSectionSlot(int slotIndex) {
+        mechSection.releaseSlots(slotIndex);
+    }
+    
+    /**
+     * True when the section slot holding the weapon at this hardpoint index has no structure left
+     */
+    public boolean isWeaponDestroyed(int slotIndex) {
+        int sectionSlot = mechSection.findSlotOf(slotIndex);
+        return sectionSlot >= 0 && mechSection.getSlotHP(sectionSlot) == 0;
+    }
+    
+    /**
+     * Redraw the slots, e.g. after the section took damage
+     */
+    public void refreshDisplay() {
+        updateSectionDisplay();
+    }
+    
     /**
      * Gets the weapon equipped in the specified slot
      */
     public WeaponComponent getWeaponInSlot(int slotIndex) {
-        return equippedWeapons.get(slotIndex);
+        return slotIndex >= 0 && slotIndex < equippedWeapons.length ? equippedWeapons[slotIndex] : null;
     }
     
     /**
      * Get all currently equipped weapons in this section
      */
     public List<WeaponComponent> getEquippedWeapons() {
-        return new ArrayList<>(equippedWeapons.values());
+        List<WeaponComponent> weapons = new ArrayList<>(equippedCount);
+        for (WeaponComponent weapon : equippedWeapons) {
+            if (weapon != null) {
+                weapons.add(weapon);
+            }
+        }
+        return weapons;
+    }
+    
+    /**
+     * Primitive form of this section's loadout: one weapon ID per hardpoint
+     * slot, EntityRegistry.NO_ID for empty slots. The IDs hold across hot
+     * reloads of the catalog but not across sessions; save weapon names to disk.
+     */
+    public int[] getEquippedWeaponIds(EntityRegistry<WeaponComponent> weaponIds) {
+        int[] ids = new int[getTotalHardpoints()];
+        java.util.Arrays.fill(ids, EntityRegistry.NO_ID);
+        for (int i = 0; i < equippedWeapons.length && i < ids.length; i++) {
+            WeaponComponent weapon = equippedWeapons[i];
+            if (weapon != null) {
+                int id = weaponIds.idOf(weapon);
+                // Weapons dropped from another catalog instance still resolve by name
+                ids[i] = id != EntityRegistry.NO_ID ? id : weaponIds.idOfName(weapon.getName());
+            }
+        }
+        return ids;
     }
     
     /**
@@ -272,8 +418,10 @@ public class MechSectionDropHandler extends TransferHandler {
      */
     public double getEquippedTonnage() {
         double totalTonnage = 0.0;
-        for (WeaponComponent weapon : equippedWeapons.values()) {
-            totalTonnage += weapon.getTonnage();
+        for (WeaponComponent weapon : equippedWeapons) {
+            if (weapon != null) {
+                totalTonnage += weapon.getTonnage();
+            }
         }
         return totalTonnage;
     }
@@ -282,7 +430,7 @@ public class MechSectionDropHandler extends TransferHandler {
      * Get the number of equipped items in this section
      */
     public int getEquippedCount() {
-        return equippedWeapons.size();
+        return equippedCount;
     }
     
     /**
@@ -331,7 +479,7 @@ public class MechSectionDropHandler extends TransferHandler {
             public void mouseClicked(MouseEvent e) {
                 // Double-click to remove weapon
                 if (e.getClickCount() == 2) {
-                    WeaponComponent weapon = equippedWeapons.get(slotIndex);
+                    WeaponComponent weapon = getWeaponInSlot(slotIndex);
                     if (weapon != null) {
                         removeWeapon(slotIndex);
                         System.out.println("Double-clicked to remove " + weapon.getName() + " from " + mechSection.getName());
@@ -345,7 +493,7 @@ public class MechSectionDropHandler extends TransferHandler {
      * Shows context menu for weapon management
      */
     private void showContextMenu(MouseEvent e, int slotIndex) {
-        WeaponComponent weapon = equippedWeapons.get(slotIndex);
+        WeaponComponent weapon = getWeaponInSlot(slotIndex);
         
         if (weapon != null) {
             JPopupMenu contextMenu = new JPopupMenu();
@@ -0,0 +1,119 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheTest {
+
+    private static final String TEST_KEY = "catalog-cache-test";
+
+    private final CatalogCache cache = CatalogCache.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        cache.invalidate(TEST_KEY);
+    }
+
+    @Test
+    void testLoaderRunsOnlyOnce() throws IOException, CsvValidationException {
+        // Given: A loader that counts invocations
+        AtomicInteger loads = new AtomicInteger();
+
+        // When: Reading the same key twice
+        String first = cache.get(TEST_KEY, () -> "value-" + loads.incrementAndGet());
+        String second = cache.get(TEST_KEY, () -> "value-" + loads.incrementAndGet());
+
+        // Then: Loader should only have run once
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertTrue(cache.isLoaded(TEST_KEY));
+    }
+
+    @Test
+    void testInvalidateForcesReparse() throws IOException, CsvValidationException {
+        // Given: A cached value
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(TEST_KEY, () -> loads.incrementAndGet());
+
+        // When: Invalidating and reading again
+        cache.invalidate(TEST_KEY);
+        assertFalse(cache.isLoaded(TEST_KEY));
+        int value = cache.get(TEST_KEY, () -> loads.incrementAndGet());
+
+        // Then: Loader should have run again
+        assertEquals(2, value);
+        
+        // And: Reload should parse immediately
+        assertEquals(3, (int) cache.reload(TEST_KEY, () -> loads.incrementAndGet()));
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() throws IOException, CsvValidationException {
+        // Given: A loader that fails the first time
+        assertThrows(IOException.class, () -> cache.get(TEST_KEY, () -> {
+            throw new IOException("boom");
+        }));
+
+        // When: Loading again with a working loader
+        String value = cache.get(TEST_KEY, () -> "recovered");
+
+        // Then: The retry should succeed
+        assertEquals("recovered", value);
+    }
+
+    @Test
+    void testConcurrentReadersShareSingleLoad() throws Exception {
+        // Given: Many threads racing for the same key
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[16];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    return cache.get(TEST_KEY, () -> {
+                        loads.incrementAndGet();
+                        LockSupport.parkNanos(20_000_000L);
+                        return "shared";
+                    });
+                });
+            }
+            start.countDown();
+
+            // When: All readers finish
+            for (Future<?> future : futures) {
+                assertEquals("shared", future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: Only one parse should have happened
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testRepositoriesShareImmutableCatalog() throws IOException, CsvValidationException {
+        // Given: Two independent repository instances
+        List<WeaponComponent> first = new WeaponRepository().loadAll();
+        List<WeaponComponent> second = new WeaponRepository().loadAll();
+
+        // Then: They should see the same immutable list
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+}
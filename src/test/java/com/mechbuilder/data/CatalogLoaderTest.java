@@ -0,0 +1,110 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.MechSection;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogLoaderTest {
+
+    @Test
+    void testLoadMatchesRepositories() throws IOException, CsvValidationException {
+        // When: Bootstrapping every catalog in parallel
+        Catalog catalog = CatalogLoader.load();
+
+        // Then: Each list should be the one the repositories serve
+        assertEquals(new MechChassisRepository().loadAll(), catalog.getChassis());
+        assertEquals(new WeaponRepository().loadAll(), catalog.getWeapons());
+        assertEquals(new SlotRepository().loadAll(), catalog.getSlotConfigurations());
+        assertEquals(new ArmorTypeRepository().loadAll(), catalog.getArmorTypes());
+        assertEquals(new ShieldRepository().loadAll(), catalog.getShields());
+        assertFalse(catalog.getChassis().isEmpty());
+    }
+
+    @Test
+    void testProgressReportsEveryCatalog() {
+        // Given: A listener recording progress callbacks
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        AtomicInteger highest = new AtomicInteger();
+
+        // When: Loading asynchronously
+        Catalog catalog = CatalogLoader.loadAsync((name, completed, total) -> {
+            names.add(name);
+            highest.accumulateAndGet(completed, Math::max);
+            assertEquals(CatalogLoader.CATALOG_COUNT, total);
+        }).join();
+
+        // Then: Every catalog should have reported once
+        assertNotNull(catalog);
+        assertEquals(CatalogLoader.CATALOG_COUNT, names.size());
+        assertEquals(CatalogLoader.CATALOG_COUNT, highest.get());
+    }
+
+    @Test
+    void testCatalogSharesRepositoryWeaponTable() throws IOException, CsvValidationException {
+        // When: Bootstrapping the catalog
+        Catalog catalog = CatalogLoader.load();
+
+        // Then: It should hold the repository's table and list rather than building its own
+        WeaponRepository repository = new WeaponRepository();
+        assertSame(repository.loadTable(), catalog.getWeaponTable());
+        assertSame(repository.loadAll(), catalog.getWeapons());
+
+        // And: Reloads that leave the weapons alone should keep the same table
+        assertSame(catalog.getWeaponTable(), catalog.withShields(catalog.getShields()).getWeaponTable());
+    }
+
+    @Test
+    void testReloadRebuildsOnlyTheChangedList() throws IOException, CsvValidationException {
+        // Given: A loaded catalog
+        Catalog catalog = CatalogLoader.load();
+
+        // When: Reloading the armor types
+        Catalog reloaded = catalog.withArmorTypes(catalog.getArmorTypes());
+
+        // Then: Only the armor registry should be new
+        assertNotSame(catalog.getArmorIds(), reloaded.getArmorIds());
+        assertSame(catalog.getChassisIds(), reloaded.getChassisIds());
+        assertSame(catalog.getWeaponIds(), reloaded.getWeaponIds());
+        assertSame(catalog.getShieldIds(), reloaded.getShieldIds());
+        assertSame(catalog.getWeaponTable(), reloaded.getWeaponTable());
+        assertSame(catalog.getSlotConfigurations(), reloaded.getSlotConfigurations());
+        assertEquals(catalog.findSlotConfiguration("Light"), reloaded.findSlotConfiguration("Light"));
+    }
+
+    @Test
+    void testCatalogIsImmutable() throws IOException, CsvValidationException {
+        // Given: A loaded catalog
+        Catalog catalog = CatalogLoader.load();
+
+        // Then: Its lists should reject modification
+        List<MechChassis> chassis = catalog.getChassis();
+        assertThrows(UnsupportedOperationException.class, () -> chassis.add(chassis.get(0)));
+    }
+
+    @Test
+    void testSectionFactoryUsesCatalogSlots() throws IOException, CsvValidationException {
+        // Given: A factory backed by the loaded catalog
+        Catalog catalog = CatalogLoader.load();
+        MechChassis chassis = catalog.getChassis().get(0);
+
+        // When: Creating sections from the catalog and from the repository
+        Map<String, MechSection> fromCatalog = new MechSectionFactory(catalog).createSectionsForChassis(chassis);
+        Map<String, MechSection> fromRepository = new MechSectionFactory().createSectionsForChassis(chassis);
+
+        // Then: Both should produce the same slot layout
+        assertEquals(fromRepository.keySet(), fromCatalog.keySet());
+        for (String name : fromRepository.keySet()) {
+            assertEquals(fromRepository.get(name).getTotalSlots(), fromCatalog.get(name).getTotalSlots());
+        }
+    }
+}
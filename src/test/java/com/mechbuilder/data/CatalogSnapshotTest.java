@@ -0,0 +1,125 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException, CsvValidationException {
+        snapshot = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot.compile(snapshot);
+        System.setProperty(CatalogSnapshot.SNAPSHOT_PROPERTY, snapshot.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CatalogSnapshot.SNAPSHOT_PROPERTY);
+        CatalogSource.setDataDirectory(null);
+    }
+
+    @Test
+    void testWeaponsRoundTrip() throws IOException, CsvValidationException {
+        // Given: Weapons parsed from CSV
+        List<WeaponComponent> fromCsv = new WeaponRepository().parseCsv();
+
+        // When: Reading the same section back from the snapshot
+        List<WeaponComponent> fromSnapshot = CatalogSnapshot.read(WeaponRepository.RESOURCE_PATH, CatalogSnapshot::readWeapon);
+
+        // Then: Every row should decode to identical values
+        assertNotNull(fromSnapshot);
+        assertEquals(fromCsv.size(), fromSnapshot.size());
+        for (int i = 0; i < fromCsv.size(); i++) {
+            assertEquals(fromCsv.get(i).toString(), fromSnapshot.get(i).toString());
+        }
+    }
+
+    @Test
+    void testChassisAndShieldsRoundTrip() throws IOException, CsvValidationException {
+        // Given: Chassis and shields parsed from CSV
+        List<MechChassis> chassisCsv = new MechChassisRepository().parseCsv();
+        List<Shield> shieldsCsv = new ShieldRepository().parseCsv();
+
+        // When: Reading them back from the snapshot
+        List<MechChassis> chassis = CatalogSnapshot.read(MechChassisRepository.RESOURCE_PATH, CatalogSnapshot::readChassis);
+        List<Shield> shields = CatalogSnapshot.read(ShieldRepository.RESOURCE_PATH, CatalogSnapshot::readShield);
+
+        // Then: Values and hardpoints should match
+        assertEquals(shieldsCsv, shields);
+        assertEquals(chassisCsv.size(), chassis.size());
+        for (int i = 0; i < chassisCsv.size(); i++) {
+            assertEquals(chassisCsv.get(i).toString(), chassis.get(i).toString());
+            assertEquals(chassisCsv.get(i).getHardpoints(), chassis.get(i).getHardpoints());
+        }
+    }
+
+    @Test
+    void testStalenessFollowsContentNotTimestamp() throws IOException, CsvValidationException {
+        // Given: A snapshot built from a shield catalog in a data directory
+        Path dataDir = Files.createDirectory(tempDir.resolve("data"));
+        Path shieldFile = dataDir.resolve(ShieldRepository.RESOURCE_PATH);
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(ShieldRepository.RESOURCE_PATH)) {
+            Files.copy(in, shieldFile);
+        }
+        CatalogSource.setDataDirectory(dataDir);
+        CatalogSnapshot.compile(snapshot);
+        FileTime built = Files.getLastModifiedTime(shieldFile);
+
+        // When: The file is touched without changing it
+        Files.setLastModifiedTime(shieldFile, FileTime.fromMillis(built.toMillis() + 10_000));
+
+        // Then: The snapshot should still be used
+        assertNotNull(CatalogSnapshot.read(ShieldRepository.RESOURCE_PATH, CatalogSnapshot::readShield));
+
+        // When: A value is edited in place, keeping the length
+        String csv = Files.readString(shieldFile, StandardCharsets.UTF_8);
+        Files.writeString(shieldFile, csv.replace("Aegis Class Barrier,500", "Aegis Class Barrier,400"),
+                StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(shieldFile, FileTime.fromMillis(built.toMillis() + 20_000));
+
+        // Then: The section should be reported stale
+        assertEquals(csv.length(), Files.readString(shieldFile, StandardCharsets.UTF_8).length());
+        assertNull(CatalogSnapshot.read(ShieldRepository.RESOURCE_PATH, CatalogSnapshot::readShield));
+    }
+
+    @Test
+    void testMissingSnapshotFallsBack() {
+        // Given: The property points at a file that does not exist
+        System.setProperty(CatalogSnapshot.SNAPSHOT_PROPERTY, tempDir.resolve("missing.snapshot").toString());
+
+        // Then: Reading should signal a CSV fallback
+        assertNull(CatalogSnapshot.read(ShieldRepository.RESOURCE_PATH, CatalogSnapshot::readShield));
+    }
+
+    @Test
+    void testUnknownFormatFallsBack() throws IOException {
+        // Given: A snapshot with a different format version
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[7] = (byte) (CatalogSnapshot.FORMAT_VERSION + 1);
+        Files.write(snapshot, bytes);
+
+        // Then: Reading should signal a CSV fallback
+        assertNull(CatalogSnapshot.read(ShieldRepository.RESOURCE_PATH, CatalogSnapshot::readShield));
+    }
+}
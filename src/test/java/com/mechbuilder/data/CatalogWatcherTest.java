@@ -0,0 +1,164 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.Hardpoints;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogWatcherTest {
+
+    @TempDir
+    Path dataDir;
+
+    private Path weaponFile;
+    private List<String> weaponLines;
+    private Catalog initial;
+
+    @BeforeEach
+    void setUp() throws IOException, CsvValidationException {
+        // Given: A data directory holding a copy of the weapon catalog
+        weaponFile = dataDir.resolve(WeaponRepository.RESOURCE_PATH);
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(WeaponRepository.RESOURCE_PATH)) {
+            Files.copy(in, weaponFile);
+        }
+        weaponLines = new ArrayList<>(Files.readAllLines(weaponFile, StandardCharsets.UTF_8));
+        CatalogSource.setDataDirectory(dataDir);
+        initial = CatalogLoader.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CatalogSource.setDataDirectory(null);
+    }
+
+    @Test
+    void testDataDirectoryOverridesBundledFile() throws IOException, CsvValidationException {
+        // Given: The data directory copy gains an extra weapon
+        weaponLines.add("Test Blaster,Energy,2,3,10,100,200,1,5,1,0");
+        Files.write(weaponFile, weaponLines, StandardCharsets.UTF_8);
+
+        // When: Reloading the weapon repository
+        List<WeaponComponent> weapons = new WeaponRepository().reload();
+
+        // Then: The external file should be the one parsed
+        assertEquals(initial.getWeapons().size() + 1, weapons.size());
+        assertEquals("Test Blaster", weapons.get(weapons.size() - 1).getName());
+    }
+
+    @Test
+    void testRefreshReportsAddedRemovedAndChanged() throws IOException, CsvValidationException {
+        // Given: One weapon removed, one changed and one added
+        String removedLine = weaponLines.remove(1);
+        String changedLine = weaponLines.get(1);
+        int lastComma = changedLine.lastIndexOf(',');
+        weaponLines.set(1, changedLine.substring(0, lastComma) + ",7");
+        weaponLines.add("Test Blaster,Energy,2,3,10,100,200,1,5,1,0");
+        Files.write(weaponFile, weaponLines, StandardCharsets.UTF_8);
+
+        CatalogWatcher watcher = new CatalogWatcher(dataDir, initial);
+        AtomicReference<Catalog> published = new AtomicReference<>();
+        watcher.addListener((catalog, diff) -> published.set(catalog));
+
+        // When: Refreshing the weapon file
+        CatalogDiff<WeaponComponent> diff = watcher.refresh(WeaponRepository.RESOURCE_PATH)
+                .ofType(WeaponComponent.class).orElseThrow();
+
+        // Then: Only the edited entries should be reported
+        assertEquals(List.of("Test Blaster"), names(diff.getAdded()));
+        assertEquals(1, diff.getRemoved().size());
+        assertTrue(removedLine.startsWith("\"" + diff.getRemoved().get(0).getName() + "\""));
+        assertEquals(1, diff.getChanged().size());
+        assertEquals(7.0, diff.getChanged().get(0).getDamageDrop());
+
+        // And: The published catalog should share the untouched lists
+        assertSame(watcher.getCatalog(), published.get());
+        assertSame(initial.getChassis(), published.get().getChassis());
+        assertEquals(initial.getWeapons().size(), published.get().getWeapons().size());
+    }
+
+    @Test
+    void testHardpointTypeEditIsReported() throws IOException, CsvValidationException {
+        // Given: A chassis whose left arm hardpoint gains a type but keeps its count
+        Path chassisFile = dataDir.resolve(MechChassisRepository.RESOURCE_PATH);
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(MechChassisRepository.RESOURCE_PATH)) {
+            Files.copy(in, chassisFile);
+        }
+        List<String> chassisLines = new ArrayList<>(Files.readAllLines(chassisFile, StandardCharsets.UTF_8));
+        String[] cells = chassisLines.get(1).split(",", -1);
+        MechChassis before = initial.findChassisByName(cells[0]).orElseThrow();
+        int count = before.getHardpoints(SectionId.LEFT_ARM).getTotal();
+        cells[5] = count + "M";
+        chassisLines.set(1, String.join(",", cells));
+        Files.write(chassisFile, chassisLines, StandardCharsets.UTF_8);
+
+        // When: Refreshing the chassis file
+        CatalogDiff<MechChassis> diff = new CatalogWatcher(dataDir, initial)
+                .refresh(MechChassisRepository.RESOURCE_PATH).ofType(MechChassis.class).orElseThrow();
+
+        // Then: The chassis should be reported as changed with its new layout
+        assertEquals(1, diff.getChanged().size());
+        MechChassis after = diff.getChanged().get(0);
+        assertEquals(before.getName(), after.getName());
+        assertEquals(before.getHardpoints(), after.getHardpoints());
+        assertEquals(Hardpoints.parse(count + "M"), after.getHardpoints(SectionId.LEFT_ARM));
+    }
+
+    @Test
+    void testUnknownFileIsIgnored() throws IOException, CsvValidationException {
+        // Given: A watcher over the data directory
+        CatalogWatcher watcher = new CatalogWatcher(dataDir, initial);
+
+        // Then: Files that are not catalogs should not trigger a reload
+        assertNull(watcher.refresh("notes.txt"));
+        assertSame(initial, watcher.getCatalog());
+    }
+
+    @Test
+    void testWatchServicePicksUpEdits() throws IOException, InterruptedException {
+        // Given: A running watcher
+        CountDownLatch updated = new CountDownLatch(1);
+        AtomicReference<CatalogDiff<?>> received = new AtomicReference<>();
+        try (CatalogWatcher watcher = new CatalogWatcher(dataDir, initial)) {
+            watcher.addListener((catalog, diff) -> {
+                received.set(diff);
+                updated.countDown();
+            });
+            watcher.start();
+
+            // When: A designer saves a new weapon
+            weaponLines.add("Test Blaster,Energy,2,3,10,100,200,1,5,1,0");
+            Files.write(weaponFile, weaponLines, StandardCharsets.UTF_8);
+
+            // Then: The change should arrive as a diff without restarting
+            assertTrue(updated.await(10, TimeUnit.SECONDS), "No reload within timeout");
+            CatalogDiff<WeaponComponent> diff = received.get().ofType(WeaponComponent.class).orElseThrow();
+            assertEquals(List.of("Test Blaster"), names(diff.getAdded()));
+        }
+    }
+
+    private static List<String> names(List<WeaponComponent> weapons) {
+        List<String> names = new ArrayList<>();
+        for (WeaponComponent weapon : weapons) {
+            names.add(weapon.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,119 @@
+package com.mechbuilder.data;
+
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowReaderTest {
+
+    private static CsvRowReader readerFor(String text) {
+        return new CsvRowReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testStripsBomAndHandlesCrlf() throws IOException, CsvValidationException {
+        // Given: A file with a BOM and Windows line endings
+        try (CsvRowReader reader = readerFor("\uFEFFName,Tonnage\r\nLaser,1.5\r\n")) {
+            // Then: The header should not start with the BOM
+            assertTrue(reader.nextRow());
+            assertEquals("Name", reader.getString(0));
+
+            // And: The carriage return should not leak into the last field
+            assertTrue(reader.nextRow());
+            assertEquals(2, reader.getFieldCount());
+            assertEquals("Laser", reader.getString(0));
+            assertEquals(1.5, reader.getDouble(1));
+            assertFalse(reader.nextRow());
+        }
+    }
+
+    @Test
+    void testQuotedFieldsKeepCommasAndEscapes() throws IOException, CsvValidationException {
+        // Given: Quoted names containing commas and doubled quotes
+        try (CsvRowReader reader = readerFor("\"Cannon, 120mm\",Ballistic\n\"The \"\"Big\"\" Gun\",Energy")) {
+            // Then: Commas inside quotes should not split the field
+            assertTrue(reader.nextRow());
+            assertEquals(2, reader.getFieldCount());
+            assertEquals("Cannon, 120mm", reader.getString(0));
+            assertEquals("Ballistic", reader.getString(1));
+
+            // And: Escaped quotes should be unescaped, even without a trailing newline
+            assertTrue(reader.nextRow());
+            assertEquals("The \"Big\" Gun", reader.getString(0));
+            assertEquals("Energy", reader.getString(1));
+            assertFalse(reader.nextRow());
+        }
+    }
+
+    @Test
+    void testNumbersMatchJdkParsing() throws IOException, CsvValidationException {
+        // Given: A spread of integer and decimal values
+        String[] ints = {"0", "42", "-7", "+3", " 15 ", "2147483647", "-2147483648"};
+        String[] doubles = {"0", "0.5", "1.25", "-3.75", "10.0", "0.1", "123.456", "0.000001", "1e3", "12345678901234567890"};
+
+        try (CsvRowReader reader = readerFor(String.join(",", ints) + "\n" + String.join(",", doubles))) {
+            // Then: In-place parsing should agree with Integer.parseInt
+            assertTrue(reader.nextRow());
+            for (int i = 0; i < ints.length; i++) {
+                assertEquals(Integer.parseInt(ints[i].trim()), reader.getInt(i), "int field " + i);
+            }
+
+            // And: With Double.parseDouble
+            assertTrue(reader.nextRow());
+            for (int i = 0; i < doubles.length; i++) {
+                assertEquals(Double.parseDouble(doubles[i]), reader.getDouble(i), "double field " + i);
+            }
+        }
+    }
+
+    @Test
+    void testMalformedNumbersThrow() throws IOException, CsvValidationException {
+        // Given: Fields that are not valid numbers
+        try (CsvRowReader reader = readerFor("abc,,1.5,2147483648,-")) {
+            assertTrue(reader.nextRow());
+
+            // Then: Parsing should fail the same way Integer.parseInt would
+            assertThrows(NumberFormatException.class, () -> reader.getInt(0));
+            assertThrows(NumberFormatException.class, () -> reader.getInt(1));
+            assertThrows(NumberFormatException.class, () -> reader.getInt(2));
+            assertThrows(NumberFormatException.class, () -> reader.getInt(3));
+            assertThrows(NumberFormatException.class, () -> reader.getDouble(4));
+            assertEquals("abc,,1.5,2147483648,-", reader.getRowText());
+        }
+    }
+
+    @Test
+    void testUnterminatedQuoteThrows() throws IOException {
+        // Given: A quoted field that never closes
+        try (CsvRowReader reader = readerFor("\"Cannon, 120mm,Ballistic\n")) {
+            // Then: The row should be rejected
+            assertThrows(CsvValidationException.class, reader::nextRow);
+        }
+    }
+
+    @Test
+    void testRowsLargerThanBufferAreRead() throws IOException, CsvValidationException {
+        // Given: Many rows spanning several buffer refills
+        StringBuilder text = new StringBuilder("Name,Value\n");
+        for (int i = 0; i < 20_000; i++) {
+            text.append("\"Weapon, ").append(i).append("\",").append(i).append('\n');
+        }
+
+        try (CsvRowReader reader = readerFor(text.toString())) {
+            assertTrue(reader.nextRow());
+
+            // Then: Every row should be read intact
+            for (int i = 0; i < 20_000; i++) {
+                assertTrue(reader.nextRow());
+                assertEquals("Weapon, " + i, reader.getString(0));
+                assertEquals(i, reader.getInt(1));
+            }
+            assertFalse(reader.nextRow());
+        }
+    }
+}
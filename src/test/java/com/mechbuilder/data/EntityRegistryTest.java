@@ -0,0 +1,109 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityRegistryTest {
+
+    private WeaponComponent laser;
+    private WeaponComponent cannon;
+    private WeaponComponent laserCopy;
+    private EntityRegistry<WeaponComponent> registry;
+
+    @BeforeEach
+    void setUp() {
+        laser = new WeaponComponent("Laser", "Energy", 1.5, 4, 10, 100, 300, 1.0, 5, 1, 0);
+        cannon = new WeaponComponent("Cannon", "Ballistic", 6, 6, 33, 25, 180, 0.33, 18, 1, 0);
+        laserCopy = new WeaponComponent("Laser", "Energy", 2, 4, 12, 100, 300, 1.0, 5, 1, 0);
+        registry = new EntityRegistry<>(List.of(laser, cannon, laserCopy), WeaponComponent::getName);
+    }
+
+    @Test
+    void testIdsAreDensePositions() {
+        // Then: IDs should be list positions and map back to the same entities
+        assertEquals(3, registry.size());
+        assertEquals(0, registry.idOf(laser));
+        assertEquals(1, registry.idOf(cannon));
+        assertEquals(2, registry.idOf(laserCopy));
+        assertSame(cannon, registry.get(1));
+        assertTrue(registry.contains(2));
+        assertFalse(registry.contains(3));
+    }
+
+    @Test
+    void testNameLookupReturnsFirstEntry() {
+        // Then: Duplicate names should resolve to the first row
+        assertEquals(0, registry.idOfName("Laser"));
+        assertEquals(1, registry.idOfName("Cannon"));
+        assertEquals(EntityRegistry.NO_ID, registry.idOfName("Missile"));
+    }
+
+    @Test
+    void testUnknownEntityHasNoId() {
+        // Given: An equal-looking weapon that is not in the catalog
+        WeaponComponent stranger = new WeaponComponent("Cannon", "Ballistic", 6, 6, 33, 25, 180, 0.33, 18, 1, 0);
+
+        // Then: Entity lookup should be by instance
+        assertEquals(EntityRegistry.NO_ID, registry.idOf(stranger));
+        assertArrayEquals(new int[] {1, EntityRegistry.NO_ID, 0}, registry.idsOf(List.of(cannon, stranger, laser)));
+    }
+
+    @Test
+    void testCatalogRegistriesCoverEveryEntity() throws IOException, CsvValidationException {
+        // Given: A loaded catalog
+        Catalog catalog = CatalogLoader.load();
+
+        // Then: Each registry should cover its list in order
+        assertEquals(catalog.getWeapons().size(), catalog.getWeaponIds().size());
+        assertEquals(catalog.getChassis().size(), catalog.getChassisIds().size());
+        assertEquals(catalog.getArmorTypes().size(), catalog.getArmorIds().size());
+        assertEquals(catalog.getShields().size(), catalog.getShieldIds().size());
+        for (int id = 0; id < catalog.getWeapons().size(); id++) {
+            assertEquals(id, catalog.getWeaponIds().idOf(catalog.getWeapons().get(id)));
+        }
+    }
+
+    @Test
+    void testReloadKeepsIds() {
+        // Given: A reload that removes the cannon, adds a missile ahead of everything and reorders the lasers
+        WeaponComponent missile = new WeaponComponent("Missile", "Missile", 2, 3, 4, 150, 600, 2.0, 50, 5, 0);
+        WeaponComponent newLaser = new WeaponComponent("Laser", "Energy", 1.5, 4, 11, 100, 300, 1.0, 5, 1, 0);
+        EntityRegistry<WeaponComponent> reloaded = registry.reload(List.of(missile, newLaser, laserCopy));
+
+        // Then: Surviving names should keep their IDs and the new name take the next one
+        assertEquals(0, reloaded.idOf(newLaser));
+        assertEquals(0, reloaded.idOfName("Laser"));
+        assertEquals(2, reloaded.idOf(laserCopy));
+        assertEquals(3, reloaded.idOf(missile));
+        assertSame(missile, reloaded.get(3));
+
+        // And: The cannon's ID should stay reserved and empty
+        assertEquals(3, reloaded.size());
+        assertEquals(4, reloaded.capacity());
+        assertNull(reloaded.get(1));
+        assertFalse(reloaded.contains(1));
+        assertEquals(EntityRegistry.NO_ID, reloaded.idOfName("Cannon"));
+
+        // And: A cannon coming back should get its old ID
+        assertEquals(1, reloaded.reload(List.of(cannon)).idOfName("Cannon"));
+    }
+
+    @Test
+    void testCatalogReloadKeepsWeaponIds() {
+        // Given: A catalog, then a reload with a weapon inserted first
+        Catalog catalog = new Catalog(List.of(), List.of(laser, cannon), List.of(), List.of(), List.of());
+        WeaponComponent missile = new WeaponComponent("Missile", "Missile", 2, 3, 4, 150, 600, 2.0, 50, 5, 0);
+        Catalog reloaded = catalog.withWeapons(List.of(missile, laser, cannon));
+
+        // Then: Existing weapons should keep their IDs
+        assertEquals(catalog.getWeaponIds().idOfName("Cannon"), reloaded.getWeaponIds().idOfName("Cannon"));
+        assertEquals(2, reloaded.getWeaponIds().idOf(missile));
+    }
+}
@@ -1,12 +1,15 @@
 package com.mechbuilder.data;
 
 import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.Mech;
 import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
 import com.opencsv.exceptions.CsvValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -209,4 +212,61 @@ class MechSectionFactoryTest {
             assertTrue(section.getTotalSlots() > 0, "Section should have slots: " + sectionName);
         }
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testCachedTemplatesHandOutIndependentCopies() throws IOException, CsvValidationException {
+        // Given: Sections created for a chassis, then damaged
+        EnumMap<SectionId, MechSection> first = factory.createSections(testLightChassis);
+        MechSection damaged = first.get(SectionId.CENTER_TORSO);
+        damaged.applyDamage(30);
+        damaged.applyFieldRepair(5);
+        damaged.setUsedSlots(1);
+        
+        // When: Creating sections for the same chassis again
+        EnumMap<SectionId, MechSection> second = factory.createSections(testLightChassis);
+        
+        // Then: The new sections should be fresh, separate objects with the same layout
+        MechSection fresh = second.get(SectionId.CENTER_TORSO);
+        assertNotSame(damaged, fresh);
+        assertEquals(0, fresh.getArmorDamage());
+        assertEquals(0, fresh.getFieldRepairArmor());
+        assertEquals(0, fresh.getUsedSlots());
+        assertEquals(fresh.getMaxTotalHP(), fresh.getCurrentTotalHP());
+        assertEquals(damaged.getTotalSlots(), fresh.getTotalSlots());
+        assertEquals(damaged.getEnergyHardpoints(), fresh.getEnergyHardpoints());
+        assertSame(SectionId.CENTER_TORSO, fresh.getSectionId());
+    }
+    
+    @Test
+    void testCopyMatchesNewlyBuiltSection() {
+        // Given: A section built through the constructor
+        MechSection original = new MechSection(SectionId.LEFT_TORSO, 3, 10, 2, 1, 1, 6);
+        original.applyDamage(40);
+        
+        // When: Copying it
+        MechSection copy = original.copy();
+        MechSection built = new MechSection(SectionId.LEFT_TORSO, 3, 10, 2, 1, 1, 6);
+        
+        // Then: The copy should be indistinguishable from a new section
+        assertEquals(built.getSectionSummary(), copy.getSectionSummary());
+        assertEquals(built.getMaxHitPoints(), copy.getCurrentHitPoints());
+        for (int slot = 0; slot < built.getTotalSlots(); slot++) {
+            assertEquals(built.getSlotHP(slot), copy.getSlotHP(slot));
+        }
+    }
+    
+    @Test
+    void testMechsOfSameChassisDoNotShareSections() throws IOException, CsvValidationException {
+        // Given: Two mechs built from the same chassis and factory
+        Mech first = new Mech("First", testMediumChassis, factory);
+        Mech second = new Mech("Second", testMediumChassis, factory);
+        
+        // When: Damaging one of them
+        first.getSection(SectionId.LEFT_ARM).applyDamage(10);
+        
+        // Then: The other should be untouched
+        assertEquals(0, second.getSection(SectionId.LEFT_ARM).getArmorDamage());
+        assertNotSame(first.getSection("Left Arm"), second.getSection("Left Arm"));
+        assertSame(MechSectionFactory.getDefault(), MechSectionFactory.getDefault());
+    }
+}
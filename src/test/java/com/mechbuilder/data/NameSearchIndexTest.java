@@ -0,0 +1,72 @@
+package com.mechbuilder.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTest {
+
+    private List<String> names;
+    private NameSearchIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        names = List.of(
+            "Cannon, 120mm",
+            "Laser, Heavy",
+            "Heavy Cannon",
+            "Pulse Laser",
+            "laser",
+            "Autocannon",
+            "LRM 20"
+        );
+        index = new NameSearchIndex<>(names, Function.identity());
+    }
+
+    @Test
+    void testFindContainingMatchesStringContains() {
+        // Given: Queries of assorted lengths, including case-sensitive ones
+        String[] queries = {"Cannon", "cannon", "Laser", "L", "aser", "120", "xyz", "", "RM 2"};
+
+        for (String query : queries) {
+            // When: Searching through the index
+            List<String> indexed = index.findContaining(query);
+
+            // Then: Result should equal a plain contains() scan in catalog order
+            List<String> scanned = names.stream().filter(n -> n.contains(query)).toList();
+            assertEquals(scanned, indexed, "Mismatch for query '" + query + "'");
+        }
+    }
+
+    @Test
+    void testFindByPrefixIgnoresCase() {
+        // When: Searching by prefix in a different case
+        List<String> result = index.findByPrefix("LASER");
+
+        // Then: Should find both laser entries in catalog order
+        assertEquals(List.of("Laser, Heavy", "laser"), result);
+    }
+
+    @Test
+    void testSearchRanksExactThenPrefixThenWordThenSubstring() {
+        // When: Searching case-insensitively
+        List<String> result = index.search("laser");
+
+        // Then: Exact match first, then prefix, then word prefix
+        assertEquals(List.of("laser", "Laser, Heavy", "Pulse Laser"), result);
+
+        // And: Word prefix ranks above mid-word substring
+        assertEquals(List.of("Cannon, 120mm", "Heavy Cannon", "Autocannon"), index.search("cannon"));
+    }
+
+    @Test
+    void testSearchIsStable() {
+        // When: Running the same search twice
+        // Then: The order should not change
+        assertEquals(index.search("a"), index.search("a"));
+    }
+}
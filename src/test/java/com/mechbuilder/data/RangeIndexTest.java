@@ -0,0 +1,52 @@
+package com.mechbuilder.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeIndexTest {
+
+    private List<Double> values;
+    private RangeIndex<Double> index;
+
+    @BeforeEach
+    void setUp() {
+        values = List.of(5.0, 1.0, 3.0, 3.0, Double.NaN, 9.0, 2.5);
+        index = new RangeIndex<>(values, Double::doubleValue);
+    }
+
+    @Test
+    void testInclusiveBounds() {
+        // When: Querying a range whose bounds hit existing keys
+        List<Double> result = index.findInRange(2.5, 5.0);
+
+        // Then: Both bounds should be included, in catalog order
+        assertEquals(List.of(5.0, 3.0, 3.0, 2.5), result);
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        // Given: A spread of query ranges
+        double[][] ranges = {{0, 10}, {3, 3}, {3.5, 4.5}, {-5, 0.5}, {9, 100}};
+
+        for (double[] range : ranges) {
+            // When: Running the indexed query
+            List<Double> indexed = index.findInRange(range[0], range[1]);
+
+            // Then: It should agree with a plain filter
+            List<Double> scanned = values.stream()
+                    .filter(v -> v >= range[0] && v <= range[1])
+                    .toList();
+            assertEquals(scanned, indexed, "Mismatch for range " + range[0] + ".." + range[1]);
+        }
+    }
+
+    @Test
+    void testInvertedOrNanRangeIsEmpty() {
+        assertTrue(index.findInRange(5, 1).isEmpty());
+        assertTrue(index.findInRange(Double.NaN, 10).isEmpty());
+    }
+}
@@ -0,0 +1,92 @@
+package com.mechbuilder.data;
+
+import com.mechbuilder.model.WeaponComponent;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeaponTableTest {
+
+    private List<WeaponComponent> weapons;
+    private WeaponTable table;
+
+    @BeforeEach
+    void setUp() {
+        weapons = List.of(
+            new WeaponComponent("Laser", "Energy", 1.5, 4, 10, 100, 300, 1.0, 5, 1, 0.5),
+            new WeaponComponent("Cannon", "Ballistic", 6, 6, 33, 25, 180, 0.33, 18, 1, 0),
+            new WeaponComponent("Heavy Laser", "Energy", 3, 8, 20, 120, 350, 1.5, 7, 1, 0.25),
+            new WeaponComponent("LRM 10", "Missile", 5, 5, 4, 150, 600, 2.0, 10, 10, 0)
+        );
+        table = new WeaponTable(weapons);
+    }
+
+    @Test
+    void testColumnsMatchObjects() {
+        // Then: Every column should mirror the weapon it was built from
+        assertEquals(weapons.size(), table.size());
+        for (int row = 0; row < weapons.size(); row++) {
+            WeaponComponent weapon = weapons.get(row);
+            assertSame(weapon, table.getWeapon(row));
+            assertEquals(weapon.getTonnage(), table.getTonnage(row));
+            assertEquals(weapon.getHeatGeneration(), table.getHeat(row));
+            assertEquals(weapon.getRecycleTime(), table.getRecycleTime(row));
+            assertEquals(weapon.getDamageDrop(), table.getDamageDrop(row));
+            assertEquals(weapon.getDamage(), table.getDamage(row));
+            assertEquals(weapon.getOptimalRange(), table.getOptimalRange(row));
+            assertEquals(weapon.getMaxRange(), table.getMaxRange(row));
+            assertEquals(weapon.getAccuracyPenalty(), table.getAccuracyPenalty(row));
+            assertEquals(weapon.getShotsperSalvo(), table.getShotsPerSalvo(row));
+            assertEquals(weapon.getType(), table.getType(row));
+        }
+    }
+
+    @Test
+    void testTypeColumnIsDictionaryEncoded() {
+        // Then: Each distinct type should get one code
+        assertEquals(3, table.getTypeCount());
+        assertEquals(table.getTypeCode(0), table.getTypeCode(2));
+        assertNotEquals(table.getTypeCode(0), table.getTypeCode(1));
+        assertEquals("Missile", table.getTypeName(table.codeOf("Missile")));
+        assertEquals(-1, table.codeOf("Melee"));
+    }
+
+    @Test
+    void testFiltersAndAggregates() {
+        // When: Selecting rows by type and tonnage
+        int[] energy = table.rowsOfType("Energy");
+        int[] light = table.rowsWithTonnageBetween(0, 3);
+
+        // Then: Rows should come back in catalog order
+        assertArrayEquals(new int[] {0, 2}, energy);
+        assertArrayEquals(new int[] {0, 2}, light);
+        assertArrayEquals(new int[0], table.rowsOfType("Melee"));
+
+        // And: Aggregates should sum the selected rows, repeats included
+        assertEquals(4.5, table.sumTonnage(energy));
+        assertEquals(12.0, table.sumHeat(energy));
+        assertEquals(40, table.sumDamage(new int[] {0, 0, 2}));
+    }
+
+    @Test
+    void testRepositoryTableMatchesCatalog() throws IOException, CsvValidationException {
+        // Given: The loaded weapon catalog
+        WeaponRepository repository = new WeaponRepository();
+        List<WeaponComponent> loaded = repository.loadAll();
+
+        // When: Fetching the columnar view
+        WeaponTable loadedTable = repository.loadTable();
+
+        // Then: Rows should line up with the object list
+        assertEquals(loaded.size(), loadedTable.size());
+        for (int row = 0; row < loaded.size(); row++) {
+            assertSame(loaded.get(row), loadedTable.getWeapon(row));
+        }
+        assertSame(loadedTable, repository.loadTable());
+    }
+}
@@ -0,0 +1,128 @@
+package com.mechbuilder.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DamageRouterTest {
+
+    private static Map<SectionId, MechSection> sections() {
+        Map<SectionId, MechSection> sections = new EnumMap<>(SectionId.class);
+        sections.put(SectionId.LEFT_ARM, new MechSection("Left Arm", 3, 8, 2, 0, 1, 6));
+        sections.put(SectionId.LEFT_TORSO, new MechSection("Left Torso", 4, 10, 2, 0, 2, 9));
+        sections.put(SectionId.CENTER_TORSO, new MechSection("Center Torso", 6, 15, 1, 1, 1, 3));
+        return sections;
+    }
+
+    @Test
+    void testOverflowFollowsDefaultGraph() {
+        // Given: Arm, side torso and center torso
+        Map<SectionId, MechSection> sections = sections();
+        DamageRouter router = new DamageRouter(sections, DamageTransferGraph.DEFAULT);
+        int arm = sections.get(SectionId.LEFT_ARM).getCurrentTotalHP();
+        int torso = sections.get(SectionId.LEFT_TORSO).getCurrentTotalHP();
+
+        // When: A hit bigger than the arm lands on it
+        long[] absorbed = new long[SectionId.COUNT];
+        int lost = router.route(SectionId.LEFT_ARM.ordinal(), arm + torso + 5, absorbed);
+
+        // Then: The arm and side torso should fall and the rest reach the center torso
+        assertEquals(0, lost);
+        assertEquals(arm, absorbed[SectionId.LEFT_ARM.ordinal()]);
+        assertEquals(torso, absorbed[SectionId.LEFT_TORSO.ordinal()]);
+        assertEquals(5, absorbed[SectionId.CENTER_TORSO.ordinal()]);
+        assertTrue(router.isDestroyed(SectionId.LEFT_ARM));
+        assertTrue(router.isDestroyed(SectionId.LEFT_TORSO));
+        assertFalse(router.isDestroyed(SectionId.CENTER_TORSO));
+    }
+
+    @Test
+    void testHitOnDestroyedSectionSkipsAhead() {
+        // Given: A destroyed arm
+        Map<SectionId, MechSection> sections = sections();
+        DamageRouter router = new DamageRouter(sections, DamageTransferGraph.DEFAULT);
+        router.route(SectionId.LEFT_ARM, sections.get(SectionId.LEFT_ARM).getCurrentTotalHP());
+
+        // When: The arm is hit again
+        router.route(SectionId.LEFT_ARM, 1);
+
+        // Then: The side torso should take the hit
+        assertEquals(1, sections.get(SectionId.LEFT_TORSO).getArmorDamage());
+    }
+
+    @Test
+    void testEmptyGraphLosesOverflow() {
+        // Given: A router that passes nothing on
+        Map<SectionId, MechSection> sections = sections();
+        DamageRouter router = new DamageRouter(sections, DamageTransferGraph.NONE);
+        int arm = sections.get(SectionId.LEFT_ARM).getCurrentTotalHP();
+
+        // Then: Overflow should come back as lost damage
+        assertEquals(7, router.route(SectionId.LEFT_ARM, arm + 7));
+        assertEquals(0, sections.get(SectionId.LEFT_TORSO).getArmorDamage());
+    }
+
+    @Test
+    void testResetAndRefreshTrackSections() {
+        // Given: A destroyed arm
+        Map<SectionId, MechSection> sections = sections();
+        DamageRouter router = new DamageRouter(sections, DamageTransferGraph.DEFAULT);
+        router.route(SectionId.LEFT_ARM, 1000);
+        assertNotEquals(0, router.getDestroyedMask());
+
+        // When: Resetting, then destroying the torso behind the router's back
+        router.resetDamage();
+        sections.get(SectionId.LEFT_TORSO).applyDamage(1000);
+        router.refresh();
+
+        // Then: The mask should follow the sections
+        assertEquals(1 << SectionId.LEFT_TORSO.ordinal(), router.getDestroyedMask());
+    }
+
+    @Test
+    void testResetSendsHitsToRepairedSection() {
+        // Given: A destroyed arm
+        Map<SectionId, MechSection> sections = sections();
+        DamageRouter router = new DamageRouter(sections, DamageTransferGraph.DEFAULT);
+        router.route(SectionId.LEFT_ARM, sections.get(SectionId.LEFT_ARM).getCurrentTotalHP());
+
+        // When: Resetting, then hitting the arm again
+        router.resetDamage();
+        router.route(SectionId.LEFT_ARM, 1);
+
+        // Then: The arm should take the hit instead of passing it on
+        assertEquals(1, sections.get(SectionId.LEFT_ARM).getArmorDamage());
+        assertEquals(0, sections.get(SectionId.LEFT_TORSO).getArmorDamage());
+    }
+
+    @Test
+    void testRejectsCycles() {
+        // Given: Two sections passing damage to each other
+        Map<SectionId, SectionId> transfers = new EnumMap<>(SectionId.class);
+        transfers.put(SectionId.LEFT_TORSO, SectionId.CENTER_TORSO);
+        transfers.put(SectionId.CENTER_TORSO, SectionId.LEFT_TORSO);
+
+        // Then: The graph should be refused
+        assertThrows(IllegalArgumentException.class, () -> new DamageTransferGraph(transfers));
+    }
+
+    @Test
+    void testMechRoutesThroughGraph() {
+        // Given: A mech with the default transfer graph
+        Mech mech = new Mech("Target");
+        MechSection arm = mech.getSection(SectionId.LEFT_ARM);
+        MechSection torso = mech.getSection(SectionId.LEFT_TORSO);
+
+        // When: Overkilling the arm
+        mech.applyDamage(SectionId.LEFT_ARM, arm.getCurrentTotalHP() + 10, 0.0);
+
+        // Then: The torso should take the overflow until the mech is reset
+        assertEquals(10, torso.getArmorDamage());
+        mech.resetDamage();
+        assertEquals(0, torso.getArmorDamage());
+        assertFalse(mech.getDamageRouter().isDestroyed(SectionId.LEFT_ARM));
+    }
+}
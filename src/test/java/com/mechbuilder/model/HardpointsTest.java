@@ -0,0 +1,99 @@
+package com.mechbuilder.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardpointsTest {
+
+    @Test
+    void testParsesPlainAndTypedCells() {
+        // Given: A plain count and typed groups
+        Hardpoints plain = Hardpoints.parse("3");
+        Hardpoints typed = Hardpoints.parse("2E 1m/1");
+
+        // Then: Plain counts should be universal, letters typed, and both round-trip
+        assertEquals(3, plain.getUniversal());
+        assertEquals(HardpointType.ALL_MASK, plain.getTypeMask());
+        assertEquals(2, typed.getCount(HardpointType.ENERGY));
+        assertEquals(1, typed.getCount(HardpointType.MISSILE));
+        assertEquals(1, typed.getUniversal());
+        assertEquals(4, typed.getTotal());
+        assertEquals(typed, Hardpoints.parse(typed.toString()));
+        assertSame(Hardpoints.NONE, Hardpoints.parse("0"));
+    }
+
+    @Test
+    void testRejectsMalformedCells() {
+        // Then: Unknown letters and missing counts should be refused
+        assertThrows(IllegalArgumentException.class, () -> Hardpoints.parse("2X"));
+        assertThrows(IllegalArgumentException.class, () -> Hardpoints.parse("E"));
+    }
+
+    @Test
+    void testTypedHardpointsOnlyTakeTheirType() {
+        // Given: Two energy hardpoints and one missile hardpoint
+        Hardpoints hardpoints = Hardpoints.of(2, 0, 1);
+
+        // Then: The mask should hold exactly those types
+        assertTrue(hardpoints.accepts(HardpointType.ENERGY));
+        assertTrue(hardpoints.accepts(HardpointType.MISSILE));
+        assertFalse(hardpoints.accepts(HardpointType.BALLISTIC));
+        assertEquals(0, HardpointType.maskOf("Flamethrower"));
+        assertEquals(HardpointType.MISSILE.bit(), HardpointType.maskOf("missile"));
+    }
+
+    @Test
+    void testRoomFillsTypedBeforeUniversal() {
+        // Given: One energy hardpoint and one universal hardpoint
+        Hardpoints hardpoints = Hardpoints.parse("1E1");
+        int[] mounted = new int[HardpointType.values().length];
+
+        // When: One energy weapon is mounted
+        mounted[HardpointType.ENERGY.ordinal()] = 1;
+
+        // Then: A ballistic weapon should still fit on the universal hardpoint
+        assertTrue(hardpoints.hasRoomFor(HardpointType.BALLISTIC, mounted));
+
+        // When: A second energy weapon takes the universal hardpoint
+        mounted[HardpointType.ENERGY.ordinal()] = 2;
+
+        // Then: Nothing else should fit
+        assertFalse(hardpoints.hasRoomFor(HardpointType.BALLISTIC, mounted));
+        assertFalse(hardpoints.hasRoomFor(HardpointType.ENERGY, mounted));
+    }
+
+    @Test
+    void testChassisPrecomputesCompatibleSections() {
+        // Given: A chassis with a missile-only torso and energy arms
+        Map<SectionId, Hardpoints> layout = new EnumMap<>(SectionId.class);
+        layout.put(SectionId.LEFT_ARM, Hardpoints.parse("1E"));
+        layout.put(SectionId.RIGHT_ARM, Hardpoints.parse("1E"));
+        layout.put(SectionId.LEFT_TORSO, Hardpoints.parse("2M"));
+        MechChassis chassis = MechChassis.withHardpoints("Typed", "Light", 20, 10, 9, layout);
+
+        // Then: Each type should map to the sections that take it, and legs to nothing
+        int energy = (1 << SectionId.LEFT_ARM.ordinal()) | (1 << SectionId.RIGHT_ARM.ordinal());
+        assertEquals(energy, chassis.getCompatibleSections(HardpointType.ENERGY));
+        assertEquals(1 << SectionId.LEFT_TORSO.ordinal(), chassis.getCompatibleSections(HardpointType.MISSILE));
+        assertEquals(0, chassis.getCompatibleSections(HardpointType.BALLISTIC));
+        assertFalse(chassis.accepts(SectionId.LEFT_LEG, HardpointType.ENERGY));
+        assertEquals(2, chassis.getHardpointCount(SectionId.LEFT_TORSO));
+    }
+
+    @Test
+    void testSectionCarriesHardpointMask() {
+        // Given: A section with a ballistic hardpoint and a universal one
+        MechSection section = new MechSection(SectionId.RIGHT_TORSO, 2, 5, Hardpoints.parse("1B1"), 6);
+
+        // Then: It should take every type, and report universal hardpoints as energy
+        assertEquals(HardpointType.ALL_MASK, section.getHardpointTypeMask());
+        assertEquals(1, section.getEnergyHardpoints());
+        assertEquals(1, section.getBallisticHardpoints());
+        assertEquals(0, section.getMissileHardpoints());
+        assertEquals(Hardpoints.parse("1B1"), section.copy().getHardpoints());
+    }
+}
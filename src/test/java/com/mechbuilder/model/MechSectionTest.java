@@ -0,0 +1,227 @@
+package com.mechbuilder.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MechSectionTest {
+
+    private MechSection section;
+
+    @BeforeEach
+    void setUp() {
+        // Given: An arm with 16 armor HP and three 24 HP slots
+        section = new MechSection(SectionId.LEFT_ARM, 2, 5, 1, 0, 0, 3);
+    }
+
+    @Test
+    void testArmorAbsorbsBeforeSlots() {
+        // When: A hit larger than the armor lands
+        int overflow = section.applyDamage(20);
+
+        // Then: Only the part the armor could not absorb should reach the bottom slot
+        assertEquals(0, overflow);
+        assertEquals(0, section.getEffectiveArmorHP());
+        assertEquals(20, section.getSlotHP(2));
+        assertEquals(24, section.getSlotHP(1));
+        assertEquals(68, section.getTotalSlotHP());
+    }
+
+    @Test
+    void testFieldRepairIsSpentFirst() {
+        // Given: Extra field repair armor
+        section.applyFieldRepair(10);
+
+        // When: Damage exceeds field repair plus armor
+        section.applyDamage(30);
+
+        // Then: Both layers should be gone and the rest should hit the slots
+        assertEquals(0, section.getFieldRepairArmor());
+        assertEquals(0, section.getEffectiveArmorHP());
+        assertEquals(20, section.getSlotHP(2));
+    }
+
+    @Test
+    void testVolleyMatchesSequentialHits() {
+        // Given: A twin section taking the same hits one at a time
+        MechSection sequential = section.copy();
+        int[] hits = {5, 12, 30, 7, 24, 40, 3};
+        int[] expected = new int[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            expected[i] = sequential.applyDamage(hits[i]);
+        }
+
+        // When: Applying the whole volley at once
+        int[] overflow = new int[hits.length];
+        int total = section.applyVolley(hits, hits.length, overflow);
+
+        // Then: State and per-hit overflow should be identical
+        assertArrayEquals(expected, overflow);
+        assertEquals(expected[5] + expected[6], total);
+        assertEquals(sequential.getCurrentTotalHP(), section.getCurrentTotalHP());
+        assertEquals(sequential.getCurrentHitPoints(), section.getCurrentHitPoints());
+        for (int slot = 0; slot < section.getTotalSlots(); slot++) {
+            assertEquals(sequential.getSlotHP(slot), section.getSlotHP(slot));
+        }
+    }
+
+    @Test
+    void testOverflowOnceDestroyed() {
+        // When: The volley exceeds everything the section has
+        int[] overflow = new int[3];
+        int total = section.applyVolley(new int[] {80, 10, 99}, 2, overflow);
+
+        // Then: Leftover damage should be reported per hit and the unused tail ignored
+        assertArrayEquals(new int[] {0, 2, 0}, overflow);
+        assertEquals(2, total);
+        assertEquals(0, section.getCurrentTotalHP());
+    }
+
+    @Test
+    void testRunningTotalsMatchSlotSum() {
+        // When: Damaging, resetting and damaging again
+        section.applyVolley(new int[] {20, 20, 20});
+        assertSlotTotalConsistent();
+        section.resetDamage();
+        assertEquals(section.getMaxTotalHP(), section.getCurrentTotalHP());
+        section.applyVolley(new int[] {50});
+
+        // Then: The cached slot total should always equal the per-slot sum
+        assertSlotTotalConsistent();
+    }
+
+    private void assertSlotTotalConsistent() {
+        int sum = 0;
+        for (int slot = 0; slot < section.getTotalSlots(); slot++) {
+            sum += section.getSlotHP(slot);
+        }
+        assertEquals(sum, section.getTotalSlotHP());
+    }
+
+    @Test
+    void testSlotOccupancy() {
+        // When: Placing two occupants and removing the first
+        section.occupySlot(section.findFreeSlot(), 7);
+        section.occupySlot(section.findFreeSlot(), 9);
+        int removed = section.vacateSlot(section.findSlotOf(7));
+
+        // Then: The freed slot should be reused first and the count should follow
+        assertEquals(7, removed);
+        assertEquals(0, section.findFreeSlot());
+        assertEquals(1, section.findSlotOf(9));
+        assertEquals(1, section.getUsedSlots());
+        assertThrows(IllegalStateException.class, () -> section.occupySlot(1, 3));
+    }
+
+    @Test
+    void testCriticalHitReportsOccupant() {
+        // Given: An occupant in the bottom slot, which fails first
+        section.occupySlot(2, 4);
+        int[] reported = {-1, -1};
+        section.setCriticalHitListener((hit, slot, occupant) -> {
+            reported[0] = slot;
+            reported[1] = occupant;
+        });
+
+        // When: Damage just short of the slot, then enough to break it
+        section.applyDamage(16 + 23);
+        assertEquals(-1, reported[0]);
+        section.applyDamage(1);
+
+        // Then: The listener should hear about the slot and its occupant once
+        assertEquals(2, reported[0]);
+        assertEquals(4, reported[1]);
+    }
+
+    @Test
+    void testDamageStateWithGapSkipsDeadSlot() {
+        // Given: No armor left, the middle slot destroyed and the bottom slot intact, with a weapon in each
+        section.occupySlot(1, 7);
+        section.occupySlot(2, 8);
+        section.setDamageState(16, 0, new int[] {0, 24, 0});
+        int[] reports = new int[10];
+        section.setCriticalHitListener((hit, slot, occupant) -> reports[occupant]++);
+
+        // When: Enough damage to break the bottom slot and carry into the top one
+        int overflow = section.applyDamage(24 + 5);
+
+        // Then: The dead slot should pass damage on untouched and not be reported again
+        assertEquals(0, overflow);
+        assertEquals(1, reports[8]);
+        assertEquals(0, reports[7]);
+        assertEquals(24, section.getSlotDamage(1));
+        assertEquals(19, section.getSlotHP(0));
+        assertEquals(19, section.getTotalSlotHP());
+    }
+
+    @Test
+    void testDamageStateRejectsOutOfRangeValues() {
+        // Then: Slot damage past base HP or below zero, and armor damage past max, should be refused
+        assertThrows(IllegalArgumentException.class, () -> section.setDamageState(0, 0, new int[] {0, 25, 0}));
+        assertThrows(IllegalArgumentException.class, () -> section.setDamageState(0, 0, new int[] {-1, 0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> section.setDamageState(17, 0, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> section.setDamageState(0, -1, new int[3]));
+        assertEquals(section.getMaxTotalHP(), section.getCurrentTotalHP());
+    }
+
+    @Test
+    void testAllocatorPlacesMultiSlotRunsFirstFit() {
+        // Given: A torso with nine slots and slot 1 taken
+        MechSection torso = new MechSection(SectionId.LEFT_TORSO, 4, 10, 2, 0, 0, 9);
+        torso.occupySlot(1, 0);
+
+        // When: Allocating a single slot, then a three-slot item
+        int single = torso.allocateSlots(1, 1);
+        int triple = torso.allocateSlots(3, 2);
+
+        // Then: The single should fill the gap at 0 and the triple start after the taken slot
+        assertEquals(0, single);
+        assertEquals(2, triple);
+        assertEquals(5, torso.findFreeSlot());
+        assertEquals(4, torso.getFreeSlotCount());
+        assertEquals(4, torso.getLargestFreeRun());
+        assertEquals(-1, torso.findFreeRun(5));
+    }
+
+    @Test
+    void testReleasingRunMakesRoomAgain() {
+        // Given: A full section holding a two-slot and a one-slot item
+        assertEquals(0, section.allocateSlots(2, 4));
+        assertEquals(2, section.allocateSlots(1, 5));
+        assertEquals(-1, section.findFreeSlot());
+
+        // When: Releasing the two-slot item
+        int freed = section.releaseSlots(4);
+
+        // Then: Both of its slots should be free again
+        assertEquals(2, freed);
+        assertEquals(0b011L, section.getFreeSlotMask());
+        assertEquals(1, section.getUsedSlots());
+        assertEquals(0, section.findFreeRun(2));
+    }
+
+    @Test
+    void testSetUsedSlotsGoesThroughAllocator() {
+        // Given: One slot held by a weapon
+        section.allocateSlots(1, 0);
+
+        // When: Raising the used count, then asking for none
+        section.setUsedSlots(3);
+        assertEquals(0L, section.getFreeSlotMask());
+        section.setUsedSlots(0);
+
+        // Then: Only the reserved slots should be freed again
+        assertEquals(1, section.getUsedSlots());
+        assertEquals(2, section.getAvailableSlots());
+        assertEquals(0b110L, section.getFreeSlotMask());
+        assertEquals(0, section.findSlotOf(0));
+    }
+
+    @Test
+    void testRejectsMoreSlotsThanBitset() {
+        // Then: A section needing more than one long of slot bits should be refused
+        assertThrows(IllegalArgumentException.class,
+                () -> new MechSection(SectionId.LEFT_TORSO, 4, 10, 0, 0, 0, MechSection.MAX_SLOTS + 1));
+    }
+}
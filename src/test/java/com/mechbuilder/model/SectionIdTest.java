@@ -0,0 +1,106 @@
+package com.mechbuilder.model;
+
+import com.mechbuilder.data.MechSectionFactory;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectionIdTest {
+
+    @Test
+    void testNamesRoundTrip() {
+        // Then: Every section should resolve from its display name
+        for (SectionId id : SectionId.values()) {
+            assertSame(id, SectionId.fromName(id.getDisplayName()));
+            assertSame(id, SectionId.ofOrdinal(id.ordinal()));
+        }
+        assertNull(SectionId.fromName("Cockpit"));
+        assertNull(SectionId.fromName(null));
+        assertEquals(8, SectionId.COUNT);
+    }
+
+    @Test
+    void testSectionConstants() {
+        // Then: Slot HP and armor caps should match the per-section rules
+        assertEquals(30, SectionId.HEAD.getBaseSlotHp());
+        assertEquals(60, SectionId.CENTER_TORSO.getBaseSlotHp());
+        assertEquals(32, SectionId.LEFT_TORSO.getBaseSlotHp());
+        assertEquals(24, SectionId.RIGHT_ARM.getBaseSlotHp());
+        assertEquals(36, SectionId.LEFT_LEG.getBaseSlotHp());
+        assertEquals(0.25, SectionId.CENTER_TORSO.getArmorPercentCap());
+        assertEquals(0.05, SectionId.HEAD.getArmorPercentCap());
+        assertTrue(SectionId.RIGHT_LEG.isLeg());
+        assertFalse(SectionId.RIGHT_ARM.isLeg());
+    }
+
+    @Test
+    void testSectionResolvesIdFromName() {
+        // Given: Sections built the old way, by name
+        MechSection torso = new MechSection("Center Torso", 2, 5, 1, 0, 0, 4);
+        MechSection custom = new MechSection("Turret", 2, 5, 1, 0, 0, 4);
+
+        // Then: Known names should pick up their constants, others the defaults
+        assertSame(SectionId.CENTER_TORSO, torso.getSectionId());
+        assertEquals(60, torso.getSlotHP(0));
+        assertNull(custom.getSectionId());
+        assertEquals(SectionId.DEFAULT_SLOT_HP, custom.getSlotHP(0));
+    }
+
+    @Test
+    void testFactoryBuildsEnumKeyedSections() throws IOException, CsvValidationException {
+        // Given: A light chassis with hardpoints in the torsos
+        Map<String, Integer> hardpoints = new HashMap<>();
+        hardpoints.put("Left Torso", 2);
+        hardpoints.put("Center Torso", 1);
+        MechChassis chassis = new MechChassis("TestLight", "Light", 20, 10, 9, hardpoints);
+
+        // When: Building sections both ways
+        MechSectionFactory factory = new MechSectionFactory();
+        EnumMap<SectionId, MechSection> byId = factory.createSections(chassis);
+        Map<String, MechSection> byName = factory.createSectionsForChassis(chassis);
+
+        // Then: Both views should describe the same eight sections
+        assertEquals(SectionId.COUNT, byId.size());
+        assertEquals(SectionId.COUNT, byName.size());
+        for (SectionId id : SectionId.values()) {
+            MechSection section = byId.get(id);
+            assertSame(id, section.getSectionId());
+            assertEquals(id.getDisplayName(), section.getName());
+            assertEquals(chassis.getHardpointCount(id), section.getEnergyHardpoints());
+            assertEquals(byName.get(id.getDisplayName()).getTotalSlots(), section.getTotalSlots());
+        }
+        assertEquals(2, chassis.getHardpointCount(SectionId.LEFT_TORSO));
+        assertEquals(0, chassis.getHardpointCount(SectionId.LEFT_LEG));
+    }
+
+    @Test
+    void testNameKeyedMapsAreViewsOfSectionIds() {
+        // Given: A mech built the legacy way and a chassis built from names
+        Mech mech = new Mech("Legacy");
+        Map<String, Integer> hardpoints = new HashMap<>();
+        hardpoints.put("Left Arm", 3);
+        hardpoints.put("Cockpit", 1);
+        MechChassis chassis = new MechChassis("TestLight", "Light", 20, 10, 9, hardpoints);
+
+        // Then: Every section should be reachable both ways, with no name outside SectionId
+        assertEquals(SectionId.COUNT, mech.getSections().size());
+        for (SectionId id : SectionId.values()) {
+            assertSame(mech.getSection(id), mech.getSections().get(id.getDisplayName()));
+        }
+        assertNull(mech.getSection("Cockpit"));
+        assertTrue(mech.copy().getSections().containsKey("Head"));
+        assertEquals(Map.of("Left Arm", 3), chassis.getHardpoints());
+        assertEquals(3, chassis.getHardpointCount("Left Arm"));
+        assertEquals(0, chassis.getHardpointCount("Cockpit"));
+
+        // And: The views should refuse writes
+        assertThrows(UnsupportedOperationException.class, () -> mech.getSections().put("Head", null));
+        assertThrows(UnsupportedOperationException.class, () -> chassis.getHardpoints().remove("Left Arm"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.mechbuilder.model;
+
+import com.mechbuilder.sim.Combatant;
+import com.mechbuilder.sim.DuelEngine;
+import com.mechbuilder.sim.DuelResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShieldStateTest {
+
+    // 100 HP, 10 HP per second after a 2 second delay
+    private static final Shield SHIELD = new Shield("Test", 100, 10, 2, 3, 4, 6);
+
+    @Test
+    void testShieldAbsorbsBeforePassingThrough() {
+        // Given: A fully charged shield
+        ShieldState state = new ShieldState(SHIELD);
+
+        // When: Taking two hits at the same moment
+        int first = state.absorb(60, 0.0);
+        int second = state.absorb(60, 0.0);
+
+        // Then: The second hit should only be partly absorbed
+        assertEquals(0, first);
+        assertEquals(20, second);
+        assertEquals(0, state.getHp(0.0));
+    }
+
+    @Test
+    void testRechargeIsComputedWhenRead() {
+        // Given: A shield drained to 40 HP at t=10
+        ShieldState state = new ShieldState(SHIELD);
+        state.absorb(60, 10.0);
+
+        // Then: It should hold during the delay, then refill and cap at full
+        assertEquals(40, state.getHp(11.5));
+        assertFalse(state.isRecharging(11.5));
+        assertEquals(55, state.getHp(13.5));
+        assertTrue(state.isRecharging(13.5));
+        assertEquals(100, state.getHp(1000.0));
+        assertFalse(state.isRecharging(1000.0));
+    }
+
+    @Test
+    void testHitRestartsRechargeDelay() {
+        // Given: A shield recharging since t=2
+        ShieldState state = new ShieldState(SHIELD);
+        state.absorb(100, 0.0);
+        assertEquals(30, state.getHp(5.0));
+
+        // When: A small hit lands at t=5
+        state.absorb(10, 5.0);
+
+        // Then: Recharge should wait out the delay again from the new level
+        assertEquals(20, state.getHp(6.9));
+        assertEquals(30, state.getHp(8.0));
+    }
+
+    @Test
+    void testMechRoutesDamageThroughShield() {
+        // Given: A mech with a shield
+        Mech mech = new Mech("Shielded");
+        mech.setShield(SHIELD);
+        MechSection torso = mech.getSection(SectionId.CENTER_TORSO);
+
+        // When: A hit larger than the shield lands
+        mech.applyDamage(SectionId.CENTER_TORSO, 110, 0.0);
+
+        // Then: Only the excess should reach the section, and a copy starts fully charged
+        assertEquals(10, torso.getArmorDamage());
+        assertEquals(100, mech.copy().getShieldState().getHp(0.0));
+    }
+
+    @Test
+    void testShieldOverflowFollowsTransferGraph() {
+        // Given: A shielded mech
+        Mech mech = new Mech("Shielded");
+        mech.setShield(SHIELD);
+        MechSection arm = mech.getSection(SectionId.LEFT_ARM);
+        int armHp = arm.getCurrentTotalHP();
+
+        // When: A hit past both the shield and the arm lands on the arm
+        long[] absorbed = new long[SectionId.COUNT];
+        mech.applyDamage(SectionId.LEFT_ARM, 100 + armHp + 5, 0.0, absorbed);
+
+        // Then: The shield takes its share first and the rest moves on to the side torso
+        assertEquals(armHp, absorbed[SectionId.LEFT_ARM.ordinal()]);
+        assertEquals(5, absorbed[SectionId.LEFT_TORSO.ordinal()]);
+        assertEquals(0, mech.getShieldState().getHp(0.0));
+    }
+
+    @Test
+    void testNoneShieldRemovesShield() {
+        // Given: A shielded mech
+        Mech mech = new Mech("Shielded");
+        mech.setShield(SHIELD);
+
+        // When: Fitting the "None" shield
+        mech.setShield(new Shield("None", 0, 0, 0, 0, 0, 0));
+
+        // Then: No shield state should remain
+        assertNull(mech.getShieldState());
+    }
+
+    @Test
+    void testShieldSlowsDuelKill() {
+        // Given: The same target with and without a shield
+        WeaponComponent gun = new WeaponComponent("Gun", "Ballistic", 2, 2, 10, 100, 200, 1.0, 10, 1, 0);
+        Mech shielded = new Mech("Target");
+        shielded.setShield(SHIELD);
+        DuelResult bare = new DuelEngine(
+                new Combatant(new Mech("Attacker"), List.of(gun)),
+                new Combatant(new Mech("Target"), List.of()), 100).run();
+        DuelResult guarded = new DuelEngine(
+                new Combatant(new Mech("Attacker"), List.of(gun)),
+                new Combatant(shielded, List.of()), 100).run();
+
+        // Then: The shield should soak damage and delay the kill
+        assertEquals(0, guarded.getWinner());
+        assertTrue(guarded.getShieldDamageTaken(1) >= SHIELD.getHp());
+        assertTrue(guarded.getTimeToKill() > bare.getTimeToKill());
+    }
+}
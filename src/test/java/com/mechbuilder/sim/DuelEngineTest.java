@@ -0,0 +1,153 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuelEngineTest {
+
+    // 10 damage per second out to 100, dropping 1 per unit beyond that up to 200
+    private static final WeaponComponent RIFLE =
+            new WeaponComponent("Rifle", "Ballistic", 2, 3, 10, 100, 200, 1.0, 20, 1, 1);
+    // Two 4-damage shots every half second, half the rifle's range
+    private static final WeaponComponent PAIR =
+            new WeaponComponent("Pair", "Energy", 1, 2, 4, 50, 100, 0.5, 10, 2, 0);
+
+    @Test
+    void testStrongerBuildWinsAtExpectedTime() {
+        // Given: Two default mechs, the first with two rifles and the second with one
+        Combatant first = new Combatant(new Mech("First"), List.of(RIFLE, RIFLE));
+        Combatant second = new Combatant(new Mech("Second"), List.of(RIFLE));
+
+        // When: Dueling at optimal range
+        DuelResult result = new DuelEngine(first, second, 100).run();
+
+        // Then: 228 center torso HP takes 12 double volleys, the last one at 11 seconds
+        assertEquals(0, result.getWinner());
+        assertEquals(11.05, result.getTimeToKill(), 1e-9);
+        assertEquals(228, result.getTotalDamageDealt(0));
+        assertEquals(228, result.getDamageTaken(1, SectionId.CENTER_TORSO));
+        assertEquals(result.getTotalDamageDealt(1), result.getDamageTaken(0, SectionId.CENTER_TORSO));
+        assertEquals(24, result.getShotsFired(0));
+    }
+
+    @Test
+    void testBreakdownPerWeapon() {
+        // Given: A mixed loadout against a bare mech
+        Combatant first = new Combatant(new Mech("First"), List.of(RIFLE, PAIR));
+        Combatant second = new Combatant(new Mech("Second"), List.of());
+
+        // When: Dueling where both weapons are in range
+        DuelResult result = new DuelEngine(first, second, 50).run();
+
+        // Then: Each weapon's share should add up to the kill
+        assertEquals(0, result.getWinner());
+        assertEquals(2, result.getWeaponCount(0));
+        assertEquals(result.getTotalDamageDealt(0), result.getWeaponDamage(0, 0) + result.getWeaponDamage(0, 1));
+        assertTrue(result.getWeaponDamage(0, 1) > result.getWeaponDamage(0, 0));
+        assertEquals(0, result.getShotsFired(1));
+    }
+
+    @Test
+    void testRunsAreDeterministicAndRepeatable() {
+        // Given: One engine over an even matchup with falloff
+        DuelEngine engine = new DuelEngine(
+                new Combatant(new Mech("First"), List.of(RIFLE, PAIR)),
+                new Combatant(new Mech("Second"), List.of(RIFLE, RIFLE)), 90);
+
+        // When: Running it twice
+        DuelResult firstRun = engine.run();
+        DuelResult secondRun = engine.run();
+
+        // Then: Mech damage should be reset between runs and results identical
+        assertEquals(firstRun.getWinner(), secondRun.getWinner());
+        assertEquals(firstRun.getTicks(), secondRun.getTicks());
+        assertEquals(firstRun.getTotalDamageDealt(0), secondRun.getTotalDamageDealt(0));
+        assertEquals(firstRun.getTotalDamageDealt(1), secondRun.getTotalDamageDealt(1));
+    }
+
+    @Test
+    void testMirrorMatchAndOutOfRangeAreDraws() {
+        // Given: Identical builds
+        DuelResult mirror = new DuelEngine(
+                new Combatant(new Mech("First"), List.of(RIFLE)),
+                new Combatant(new Mech("Second"), List.of(RIFLE)), 100).run();
+
+        // Then: Both should fall on the same tick
+        assertTrue(mirror.isDraw());
+
+        // When: Nobody can reach the other
+        DuelResult outOfRange = new DuelEngine(
+                new Combatant(new Mech("First"), List.of(PAIR)),
+                new Combatant(new Mech("Second"), List.of(PAIR)), 150, 0.1, 30).run();
+
+        // Then: Time should run out with no shots fired
+        assertTrue(outOfRange.isDraw());
+        assertEquals(300, outOfRange.getTicks());
+        assertEquals(0, outOfRange.getShotsFired(0));
+    }
+
+    @Test
+    void testFractionalDamageIsNotRounded() {
+        // Given: A rifle half a unit into falloff, dealing 9.5 per shot
+        Combatant first = new Combatant(new Mech("First"), List.of(RIFLE));
+        Combatant second = new Combatant(new Mech("Second"), List.of());
+        assertEquals(9.5, first.getRangeTable().getShotDamage(0, 100.5), 1e-12);
+
+        // When: Dueling a bare mech
+        DuelResult result = new DuelEngine(first, second, 100.5).run();
+
+        // Then: 228 center torso HP should take 24 shots, not the 23 a rounded 10 would need
+        assertEquals(0, result.getWinner());
+        assertEquals(228, result.getTotalDamageDealt(0));
+        assertEquals(24, result.getShotsFired(0));
+    }
+
+    @Test
+    void testBallisticsFalloff() {
+        // Then: Damage and accuracy should hold to optimal range and fall off to max range
+        assertEquals(10.0, WeaponBallistics.damageAt(RIFLE, 100));
+        assertEquals(5.0, WeaponBallistics.damageAt(RIFLE, 105));
+        assertEquals(0.0, WeaponBallistics.damageAt(RIFLE, 150));
+        assertEquals(0.0, WeaponBallistics.damageAt(RIFLE, 201));
+        assertEquals(1.0, WeaponBallistics.hitChance(RIFLE, 80));
+        assertEquals(0.9, WeaponBallistics.hitChance(RIFLE, 150), 1e-9);
+        assertEquals(0.0, WeaponBallistics.hitChance(RIFLE, 250));
+    }
+
+    @Test
+    void testDestroyedSlotDisablesWeapon() {
+        // Given: A defender whose only rifle is mounted in the arm the attacker aims at
+        Combatant attacker = new Combatant(new Mech("Attacker"), List.of(RIFLE, RIFLE), SectionId.RIGHT_ARM);
+        Combatant mounted = new Combatant(new Mech("Mounted"), Map.of(SectionId.RIGHT_ARM, List.of(RIFLE)));
+        Combatant unmounted = new Combatant(new Mech("Unmounted"), List.of(RIFLE));
+
+        // When: Dueling both versions
+        DuelResult withCrits = new DuelEngine(attacker, mounted, 100).run();
+        DuelResult withoutCrits = new DuelEngine(attacker.copy(), unmounted, 100).run();
+
+        // Then: The mounted rifle should fall silent once its slot is gone
+        assertEquals(SectionId.RIGHT_ARM, mounted.getWeaponSection(0));
+        assertTrue(mounted.getMech().getSection(SectionId.RIGHT_ARM).isDestroyed());
+        assertTrue(withCrits.getShotsFired(1) < withoutCrits.getShotsFired(1));
+    }
+
+    @Test
+    void testLoadoutMustFitSlots() {
+        // Given: More weapons than the center torso has slots
+        Mech mech = new Mech("Crowded");
+        int slots = mech.getSection(SectionId.CENTER_TORSO).getTotalSlots();
+        List<WeaponComponent> weapons = Collections.nCopies(slots + 1, RIFLE);
+
+        // Then: Placing them should be refused
+        assertThrows(IllegalArgumentException.class,
+                () -> new Combatant(mech, Map.of(SectionId.CENTER_TORSO, weapons)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatModelTest {
+
+    // 10 damage and 2 heat per second
+    private static final WeaponComponent COOL =
+            new WeaponComponent("Cool", "Ballistic", 2, 2, 10, 100, 200, 1.0, 10, 1, 0);
+    // 30 damage and 15 heat per second
+    private static final WeaponComponent HOT =
+            new WeaponComponent("Hot", "Energy", 3, 15, 30, 100, 200, 1.0, 10, 1, 0);
+
+    private final HeatModel model = new HeatModel(100, 10, 0.9, 0.5);
+
+    @Test
+    void testCoolLoadoutSustainsBurst() {
+        // When: Analyzing weapons that stay under dissipation
+        HeatReport report = model.analyze(List.of(COOL, COOL), null);
+
+        // Then: Nothing should be lost to heat
+        assertEquals(20.0, report.getAlphaDamage());
+        assertEquals(4.0, report.getAlphaHeat());
+        assertEquals(20.0, report.getBurstDps(), 1e-9);
+        assertEquals(20.0, report.getSustainedDps(), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, report.getSecondsToThrottle());
+    }
+
+    @Test
+    void testHotLoadoutIsHeatLimited() {
+        // When: Analyzing a loadout producing 32 heat a second against 10 dissipation
+        HeatReport report = model.analyze(List.of(HOT, HOT, COOL), null);
+
+        // Then: The cool weapon runs free and the budget left covers 8/15 of one hot weapon
+        assertEquals(70.0, report.getBurstDps(), 1e-9);
+        assertEquals(10.0 + 30.0 * 8 / 15, report.getSustainedDps(), 1e-9);
+        assertEquals(90.0 / 22.0, report.getSecondsToThrottle(), 1e-9);
+    }
+
+    @Test
+    void testShieldEatsIntoBudget() {
+        // Given: A shield producing 4 heat a second
+        Shield shield = new Shield("Test", 100, 10, 2, 3, 4, 6);
+
+        // When: Analyzing one hot weapon with and without it
+        double without = model.analyze(List.of(HOT), null).getSustainedDps();
+        double with = model.analyze(List.of(HOT), shield).getSustainedDps();
+
+        // Then: Only 6 of the 10 heat budget should be left for the weapon
+        assertEquals(20.0, without, 1e-9);
+        assertEquals(12.0, with, 1e-9);
+    }
+
+    @Test
+    void testSimulationConvergesOnAnalyticRate() {
+        // When: Simulating a heat-limited loadout for a long time
+        List<WeaponComponent> weapons = List.of(HOT, HOT, COOL);
+        HeatReport analytic = model.analyze(weapons, null);
+        HeatReport simulated = model.simulate(weapons, null, 3600);
+
+        // Then: Throttled fire should average out close to the closed form and never shut down
+        assertEquals(analytic.getSustainedDps(), simulated.getSustainedDps(), analytic.getSustainedDps() * 0.05);
+        assertEquals(0, simulated.getShutdowns());
+        assertTrue(simulated.getPeakHeat() <= model.getThrottleThreshold() + 1e-6);
+    }
+
+    @Test
+    void testOversizedSalvoShutsMechDown() {
+        // Given: A weapon whose single salvo exceeds capacity
+        WeaponComponent furnace = new WeaponComponent("Furnace", "Energy", 5, 120, 200, 100, 200, 2.0, 10, 1, 0);
+
+        // When: Simulating a minute of fire
+        HeatReport report = model.simulate(List.of(furnace), null, 60);
+
+        // Then: Each shot should shut the mech down until it has fully cooled
+        assertTrue(report.getShutdowns() >= 5);
+        assertEquals(120.0, report.getPeakHeat(), 1e-9);
+    }
+
+    @Test
+    void testDuelEngineThrottlesHotBuild() {
+        // Given: The same hot build with and without a small heat sink
+        List<WeaponComponent> weapons = List.of(HOT, HOT);
+        HeatModel smallSink = new HeatModel(40, 10, 0.9, 0.5);
+        DuelResult unlimited = new DuelEngine(
+                new Combatant(new Mech("Hot"), weapons),
+                new Combatant(new Mech("Target"), List.of()), 100).run();
+        DuelResult limited = new DuelEngine(
+                new Combatant(new Mech("Hot"), weapons, SectionId.CENTER_TORSO, smallSink),
+                new Combatant(new Mech("Target"), List.of()), 100).run();
+
+        // Then: Heat should slow the kill but not prevent it
+        assertEquals(0, limited.getWinner());
+        assertTrue(limited.getTimeToKill() > unlimited.getTimeToKill());
+    }
+}
@@ -0,0 +1,103 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HitLocationTableTest {
+
+    @Test
+    void testSamplesFollowWeights() {
+        // Given: The front distribution over every section
+        HitLocationTable table = HitLocationTable.of(AttackDirection.FRONT, EnumSet.allOf(SectionId.class));
+        SplittableRandom random = new SplittableRandom(42);
+
+        // When: Drawing many samples
+        int samples = 360_000;
+        int[] counts = new int[SectionId.COUNT];
+        for (int i = 0; i < samples; i++) {
+            counts[table.sampleOrdinal(random)]++;
+        }
+
+        // Then: Each section should be hit in proportion to its weight in 36ths
+        for (SectionId id : SectionId.values()) {
+            double expected = AttackDirection.FRONT.getWeight(id) / 36.0;
+            assertEquals(expected, table.getProbability(id), 1e-12);
+            assertEquals(expected, counts[id.ordinal()] / (double) samples, 0.005, id.toString());
+        }
+    }
+
+    @Test
+    void testMissingSectionsAreNeverHit() {
+        // Given: A left-side distribution over torso sections only
+        HitLocationTable table = HitLocationTable.of(AttackDirection.LEFT,
+                EnumSet.of(SectionId.LEFT_TORSO, SectionId.CENTER_TORSO, SectionId.RIGHT_TORSO));
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Then: Samples should stay within those sections, renormalized
+        for (int i = 0; i < 10_000; i++) {
+            SectionId hit = table.sample(random);
+            assertTrue(hit == SectionId.LEFT_TORSO || hit == SectionId.CENTER_TORSO || hit == SectionId.RIGHT_TORSO);
+        }
+        assertEquals(7.0 / 16.0, table.getProbability(SectionId.LEFT_TORSO), 1e-12);
+        assertEquals(0.0, table.getProbability(SectionId.HEAD));
+    }
+
+    @Test
+    void testDefaultTablesAreShared() {
+        // Then: Mechs with the same section set should share one table per direction
+        HitLocationTable first = HitLocationTable.forMech(new Mech("First"), AttackDirection.RIGHT);
+        assertSame(first, HitLocationTable.forMech(new Mech("Second"), AttackDirection.RIGHT));
+        assertNotSame(first, HitLocationTable.forMech(new Mech("First"), AttackDirection.LEFT));
+    }
+
+    @Test
+    void testSingleSectionAlwaysHit() {
+        // Given: Weight on the head alone
+        double[] weights = new double[SectionId.COUNT];
+        weights[SectionId.HEAD.ordinal()] = 1.0;
+        HitLocationTable table = new HitLocationTable(weights);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // Then: Every sample should be the head
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(SectionId.HEAD, table.sample(random));
+        }
+    }
+
+    @Test
+    void testRejectsEmptyDistribution() {
+        // Then: A distribution with nothing to hit should be refused
+        assertThrows(IllegalArgumentException.class, () -> new HitLocationTable(new double[SectionId.COUNT]));
+        assertThrows(IllegalArgumentException.class, () -> new HitLocationTable(new double[3]));
+    }
+
+    @Test
+    void testDuelSpreadsDamageByDirection() {
+        // Given: An attacker firing from the left
+        WeaponComponent gun = new WeaponComponent("Gun", "Ballistic", 2, 2, 10, 100, 200, 1.0, 10, 1, 0);
+        DuelEngine engine = new DuelEngine(
+                new Combatant(new Mech("Attacker"), List.of(gun), SectionId.CENTER_TORSO, null, AttackDirection.LEFT),
+                new Combatant(new Mech("Target"), List.of()), 50);
+
+        // When: Playing a randomized duel
+        DuelResult result = engine.run(new SplittableRandom(3));
+
+        // Then: Damage should be spread over several sections instead of the aim section alone
+        int sectionsHit = 0;
+        for (SectionId id : SectionId.values()) {
+            if (result.getDamageTaken(1, id) > 0) {
+                sectionsHit++;
+            }
+        }
+        assertTrue(sectionsHit >= 4);
+        assertTrue(result.getDamageTaken(1, SectionId.LEFT_TORSO) > 0);
+    }
+}
@@ -0,0 +1,193 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.CatalogLoader;
+import com.mechbuilder.data.MechSectionFactory;
+import com.mechbuilder.model.HardpointType;
+import com.mechbuilder.model.Hardpoints;
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.Shield;
+import com.mechbuilder.model.SlotConfiguration;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadoutOptimizerTest {
+
+    private static final SlotConfiguration LIGHT_SLOTS = new SlotConfiguration("Light", 4, 7, 2, 2, 7, 4, 2, 2);
+
+    private static final List<WeaponComponent> WEAPONS = List.of(
+            new WeaponComponent("Small Laser", "Energy", 1, 2, 5, 100, 300, 1.0, 0, 1, 0),
+            new WeaponComponent("Large Laser", "Energy", 3, 8, 12, 150, 450, 2.0, 0, 1, 0),
+            new WeaponComponent("Cannon", "Ballistic", 4, 3, 20, 200, 600, 3.0, 0, 1, 0),
+            new WeaponComponent("Heavy Cannon", "Ballistic", 6, 5, 30, 200, 600, 4.0, 0, 1, 0),
+            new WeaponComponent("LRM 5", "Missile", 2, 4, 2, 150, 600, 2.0, 0, 5, 0),
+            new WeaponComponent("Bad LRM 5", "Missile", 3, 5, 2, 150, 600, 2.0, 0, 5, 0));
+
+    private static MechChassis typedChassis() {
+        Map<SectionId, Hardpoints> layout = new EnumMap<>(SectionId.class);
+        layout.put(SectionId.LEFT_ARM, Hardpoints.parse("2E"));
+        layout.put(SectionId.LEFT_TORSO, Hardpoints.parse("1B1M"));
+        layout.put(SectionId.CENTER_TORSO, Hardpoints.parse("1"));
+        layout.put(SectionId.RIGHT_TORSO, Hardpoints.parse("2M"));
+        layout.put(SectionId.RIGHT_ARM, Hardpoints.parse("1E1B"));
+        return MechChassis.withHardpoints("Typed", "Light", 25, 10, 8, layout);
+    }
+
+    private static LoadoutOptimizer optimizer(MechChassis chassis) {
+        Catalog catalog = new Catalog(List.of(chassis), WEAPONS, List.of(LIGHT_SLOTS), List.of(), List.of());
+        return new LoadoutOptimizer(WEAPONS, new MechSectionFactory(catalog), HeatModel.DEFAULT);
+    }
+
+    @Test
+    void testMatchesExhaustiveSearch() throws Exception {
+        // Given: A chassis with typed hardpoints and a small catalog
+        MechChassis chassis = typedChassis();
+        LoadoutOptimizer optimizer = optimizer(chassis);
+        LoadoutSpace space = optimizer.space(chassis, 10, null);
+
+        for (LoadoutObjective objective : LoadoutObjective.values()) {
+            // When: Optimizing for the objective
+            Loadout best = optimizer.start(chassis, objective, 10, null).join();
+
+            // Then: No loadout that fits should score higher
+            double exhaustive = bestByEnumeration(space, objective, new int[space.size()], 0, optimizer.getHeatModel());
+            assertEquals(exhaustive, best.getScore(objective), 1e-9, objective.toString());
+            assertTrue(best.getTotalTonnage() <= chassis.getTonnage() + 1e-9);
+        }
+    }
+
+    private static double bestByEnumeration(LoadoutSpace space, LoadoutObjective objective, int[] counts,
+                                            int index, HeatModel heatModel) {
+        if (index == counts.length) {
+            int[] byType = new int[LoadoutSpace.TYPES];
+            double tons = 0;
+            List<WeaponComponent> weapons = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                byType[space.type[i]] += counts[i];
+                tons += counts[i] * space.tonnage[i];
+                for (int c = 0; c < counts[i]; c++) {
+                    weapons.add(space.weapons[i]);
+                }
+            }
+            if (!space.fits(byType) || tons > space.weaponBudget + 1e-9) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return objective.score(heatModel.analyze(weapons, null));
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c <= space.maxPerType[space.type[index]]; c++) {
+            counts[index] = c;
+            best = Math.max(best, bestByEnumeration(space, objective, counts, index + 1, heatModel));
+        }
+        counts[index] = 0;
+        return best;
+    }
+
+    @Test
+    void testPlacementRespectsHardpointsAndSlots() throws Exception {
+        // Given: The typed chassis
+        MechChassis chassis = typedChassis();
+
+        // When: Optimizing alpha damage with full armor
+        Loadout best = optimizer(chassis).optimize(chassis, LoadoutObjective.ALPHA_DAMAGE);
+
+        // Then: Every section should hold only weapons its hardpoints take, within its hardpoint count
+        assertFalse(best.getWeapons().isEmpty());
+        for (Map.Entry<SectionId, List<WeaponComponent>> entry : best.getWeaponsBySection().entrySet()) {
+            Hardpoints hardpoints = chassis.getHardpoints(entry.getKey());
+            int[] mounted = new int[LoadoutSpace.TYPES];
+            for (WeaponComponent weapon : entry.getValue()) {
+                HardpointType type = HardpointType.fromWeaponType(weapon.getType());
+                assertTrue(hardpoints.hasRoomFor(type, mounted), entry.getKey() + " " + weapon.getName());
+                mounted[type.ordinal()]++;
+            }
+        }
+        assertEquals(chassis.getMaxArmorTonnage(), best.getArmorTons());
+        assertTrue(best.getTotalTonnage() <= chassis.getTonnage() + 1e-9);
+    }
+
+    @Test
+    void testLoadoutCanFight() throws Exception {
+        // Given: An optimized loadout
+        MechChassis chassis = typedChassis();
+        Loadout best = optimizer(chassis).optimize(chassis, LoadoutObjective.SUSTAINED_DPS);
+
+        // Then: Its section map should be accepted as a combatant loadout
+        Combatant combatant = new Combatant(new Mech("Built"), best.getWeaponsBySection());
+        assertEquals(best.getWeapons().size(), combatant.getWeapons().size());
+    }
+
+    @Test
+    void testShieldAndArmorShrinkWeaponBudget() throws Exception {
+        // Given: A heavy shield on the typed chassis
+        MechChassis chassis = typedChassis();
+        LoadoutOptimizer optimizer = optimizer(chassis);
+        Shield shield = new Shield("Heavy", 200, 10, 3, 10, 2, 2);
+
+        // When: Optimizing with and without it
+        Loadout bare = optimizer.start(chassis, LoadoutObjective.ALPHA_DAMAGE, 10, null).join();
+        Loadout shielded = optimizer.start(chassis, LoadoutObjective.ALPHA_DAMAGE, 10, shield).join();
+
+        // Then: The shield's tonnage should come out of the weapons
+        assertTrue(shielded.getWeaponTonnage() <= 5 + 1e-9);
+        assertTrue(shielded.getScore(LoadoutObjective.ALPHA_DAMAGE) < bare.getScore(LoadoutObjective.ALPHA_DAMAGE));
+        assertThrows(IllegalArgumentException.class,
+                () -> optimizer.start(chassis, LoadoutObjective.ALPHA_DAMAGE, 11, null));
+    }
+
+    @Test
+    void testCancelStopsSearch() throws Exception {
+        // Given: A search over the full catalog for the largest chassis, on a single thread
+        Catalog catalog = CatalogLoader.load();
+        MechChassis largest = catalog.getChassis().get(catalog.getChassis().size() - 1);
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            LoadoutSearch search = new LoadoutOptimizer(catalog)
+                    .start(largest, LoadoutObjective.SUSTAINED_DPS, largest.getMaxArmorTonnage(), null, pool);
+
+            // When: Cancelling it
+            search.cancel();
+            Loadout best = search.join();
+
+            // Then: It should stop without claiming optimality
+            assertTrue(search.isDone());
+            assertFalse(search.isOptimal());
+            if (best != null) {
+                assertTrue(best.getTotalTonnage() <= largest.getTonnage() + 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testOptimizesEveryCatalogChassis() throws Exception {
+        // Given: The shipped catalog
+        Catalog catalog = CatalogLoader.load();
+        LoadoutOptimizer optimizer = new LoadoutOptimizer(catalog);
+
+        // Then: Every chassis should get a loadout within its tonnage and hardpoints
+        for (MechChassis chassis : catalog.getChassis()) {
+            LoadoutSearch search = optimizer.start(chassis, LoadoutObjective.ALPHA_DAMAGE,
+                    chassis.getMaxArmorTonnage(), null);
+            Loadout best = search.join();
+            assertTrue(search.isOptimal());
+            assertTrue(best.getTotalTonnage() <= chassis.getTonnage() + 1e-9, chassis.getName());
+            int hardpoints = 0;
+            for (SectionId id : SectionId.values()) {
+                hardpoints += chassis.getHardpointCount(id);
+            }
+            assertTrue(best.getWeapons().size() <= hardpoints, chassis.getName());
+        }
+    }
+}
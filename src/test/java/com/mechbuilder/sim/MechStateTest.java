@@ -0,0 +1,111 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MechStateTest {
+
+    private Mech mech;
+
+    @BeforeEach
+    void setUp() {
+        // Given: A mech with the default section layout
+        mech = new Mech("Test");
+    }
+
+    @Test
+    void testPackedStateMatchesSections() {
+        // Given: Some damage already on the mech
+        mech.getSection(SectionId.LEFT_ARM).applyDamage(40);
+        mech.getSection(SectionId.CENTER_TORSO).applyFieldRepair(6);
+
+        // When: Packing it
+        MechState state = MechState.of(mech);
+
+        // Then: Every accessor should agree with the section it came from
+        for (SectionId id : SectionId.values()) {
+            MechSection section = mech.getSection(id);
+            if (section == null) {
+                assertEquals(0, state.getTotalSlots(id));
+                continue;
+            }
+            assertEquals(section.getEffectiveArmorHP(), state.getEffectiveArmorHP(id), id.name());
+            assertEquals(section.getFieldRepairArmor(), state.getFieldRepairArmor(id));
+            assertEquals(section.getTotalSlotHP(), state.getTotalSlotHP(id));
+            assertEquals(section.getMaxTotalHP(), state.getMaxTotalHP(id));
+            for (int slot = 0; slot < section.getTotalSlots(); slot++) {
+                assertEquals(section.getSlotHP(slot), state.getSlotHP(id, slot));
+            }
+        }
+    }
+
+    @Test
+    void testDamageRulesMatchSections() {
+        // Given: A packed copy of an undamaged mech
+        MechState state = MechState.of(mech);
+        int[] hits = {5, 30, 2, 60, 9, 400};
+
+        // When: Applying the same hits to both representations
+        for (SectionId id : new SectionId[] {SectionId.LEFT_TORSO, SectionId.RIGHT_LEG}) {
+            MechSection section = mech.getSection(id);
+            section.applyFieldRepair(4);
+            state.applyFieldRepair(id, 4);
+            for (int hit : hits) {
+                // Then: Overflow and totals should stay in lockstep
+                assertEquals(section.applyDamage(hit), state.applyDamage(id, hit));
+                assertEquals(section.getCurrentTotalHP(), state.getCurrentTotalHP(id));
+                assertEquals(section.getArmorDamage(), state.getArmorDamage(id));
+            }
+            assertTrue(state.isDestroyed(id));
+        }
+    }
+
+    @Test
+    void testRoundTripAndReset() {
+        // Given: A packed state with damage applied in the packed form
+        MechState state = MechState.of(mech);
+        state.applyDamage(SectionId.RIGHT_ARM, 50);
+        MechState snapshot = state.copy();
+
+        // When: Writing it back to the mech
+        state.applyTo(mech);
+
+        // Then: The mech should carry the same damage
+        MechSection arm = mech.getSection(SectionId.RIGHT_ARM);
+        assertEquals(state.getCurrentTotalHP(SectionId.RIGHT_ARM), arm.getCurrentTotalHP());
+        assertEquals(state.getSlotDamage(SectionId.RIGHT_ARM, arm.getTotalSlots() - 1),
+                     arm.getSlotDamage(arm.getTotalSlots() - 1));
+
+        // And: Resetting and restoring should not allocate a new layout
+        state.resetDamage();
+        assertEquals(state.getMaxTotalHP(SectionId.RIGHT_ARM), state.getCurrentTotalHP(SectionId.RIGHT_ARM));
+        state.copyFrom(snapshot);
+        assertEquals(arm.getCurrentTotalHP(), state.getCurrentTotalHP(SectionId.RIGHT_ARM));
+        assertEquals(snapshot.size(), state.size());
+    }
+
+    @Test
+    void testPackedGapMatchesSection() {
+        // Given: An arm whose armor is gone and whose middle slot alone is destroyed, packed as a state
+        MechSection arm = mech.getSection(SectionId.LEFT_ARM);
+        int[] slotDamage = new int[arm.getTotalSlots()];
+        slotDamage[arm.getTotalSlots() / 2] = SectionId.LEFT_ARM.getBaseSlotHp();
+        arm.setDamageState(arm.getArmorTons() * 8, 0, slotDamage);
+        MechState state = MechState.of(mech);
+
+        // When: Hitting both with enough to reach past the dead slot
+        int hit = SectionId.LEFT_ARM.getBaseSlotHp() * (arm.getTotalSlots() / 2) + 3;
+
+        // Then: They should skip the dead slot the same way
+        assertEquals(arm.applyDamage(hit), state.applyDamage(SectionId.LEFT_ARM, hit));
+        assertEquals(arm.getCurrentTotalHP(), state.getCurrentTotalHP(SectionId.LEFT_ARM));
+        for (int slot = 0; slot < arm.getTotalSlots(); slot++) {
+            assertEquals(arm.getSlotDamage(slot), state.getSlotDamage(SectionId.LEFT_ARM, slot));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.model.Mech;
+import com.mechbuilder.model.MechSection;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloDuelRunnerTest {
+
+    private static final WeaponComponent RIFLE =
+            new WeaponComponent("Rifle", "Ballistic", 2, 3, 10, 100, 200, 1.0, 40, 1, 0);
+    private static final WeaponComponent SCATTER =
+            new WeaponComponent("Scatter", "Ballistic", 2, 3, 3, 60, 200, 0.5, 80, 4, 0);
+
+    private MonteCarloDuelRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        // Given: Two builds that are close enough for the dice to matter, fighting beyond optimal range
+        runner = new MonteCarloDuelRunner(
+                new Combatant(new Mech("First"), List.of(RIFLE, RIFLE)),
+                new Combatant(new Mech("Second"), List.of(SCATTER, SCATTER)), 150);
+    }
+
+    @Test
+    void testResultsIndependentOfThreadCount() {
+        // When: Running the same seed on one thread and on four
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            MonteCarloResult serial = runner.run(5000, 42L, single);
+            MonteCarloResult parallel = runner.run(5000, 42L, quad);
+
+            // Then: Every figure should match exactly
+            assertEquals(serial.getWins(0), parallel.getWins(0));
+            assertEquals(serial.getWins(1), parallel.getWins(1));
+            assertEquals(serial.getDraws(), parallel.getDraws());
+            assertEquals(serial.getMeanTimeToKill(), parallel.getMeanTimeToKill());
+            for (SectionId id : SectionId.values()) {
+                assertEquals(serial.getDestructionFrequency(1, id), parallel.getDestructionFrequency(1, id));
+            }
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    void testTalliesAreConsistent() {
+        // When: Running a batch that does not fill its last chunk
+        MonteCarloResult result = runner.run(3000, 7L);
+
+        // Then: Every duel should be counted once
+        assertEquals(3000, result.getDuels());
+        assertEquals(3000, result.getWins(0) + result.getWins(1) + result.getDraws());
+        assertTrue(result.getWins(0) > 0 && result.getWins(1) > 0, "Dice should decide some duels each way");
+        assertTrue(result.getTimeToKillQuantile(0.1) <= result.getTimeToKillQuantile(0.9));
+        assertTrue(result.getMeanTimeToKill() > 0);
+
+        // And: The loser's center torso should be destroyed in every decided duel
+        double decided = (double) (result.getWins(0) + result.getWins(1)) / result.getDuels();
+        double centerTorso = result.getDestructionFrequency(0, SectionId.CENTER_TORSO)
+                + result.getDestructionFrequency(1, SectionId.CENTER_TORSO);
+        assertTrue(centerTorso >= decided - 1e-9);
+        assertEquals(0.0, result.getDestructionFrequency(0, SectionId.LEFT_ARM));
+    }
+
+    @Test
+    void testDifferentSeedsDiffer() {
+        // When: Running two seeds
+        MonteCarloResult first = runner.run(2000, 1L);
+        MonteCarloResult second = runner.run(2000, 2L);
+
+        // Then: The samples should not be identical
+        assertNotEquals(first.getMeanTimeToKill(), second.getMeanTimeToKill());
+        assertEquals(0, runner.run(0, 1L).getDuels());
+    }
+
+    @Test
+    void testInputsAreNeverTouched() {
+        // Given: A caller's mech with its own critical hit listener on an occupied slot
+        Mech mech = new Mech("Watched");
+        MechSection arm = mech.getSection(SectionId.LEFT_ARM);
+        int bottom = arm.getTotalSlots() - 1;
+        arm.occupySlot(bottom, 0);
+        int[] reported = {-1};
+        arm.setCriticalHitListener((section, slot, occupant) -> reported[0] = slot);
+
+        // When: Running duels with it, then shooting the arm's bottom slot off
+        new MonteCarloDuelRunner(new Combatant(mech, List.of(RIFLE)),
+                new Combatant(new Mech("Other"), List.of(RIFLE)), 150).run(10, 3L);
+        arm.applyDamage(arm.getEffectiveArmorHP() + arm.getSlotHP(bottom));
+
+        // Then: The caller's listener should still be the one told
+        assertEquals(bottom, reported[0]);
+    }
+}
@@ -0,0 +1,211 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.data.CatalogLoader;
+import com.mechbuilder.data.MechSectionFactory;
+import com.mechbuilder.model.Hardpoints;
+import com.mechbuilder.model.MechChassis;
+import com.mechbuilder.model.SectionId;
+import com.mechbuilder.model.SlotConfiguration;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParetoExplorerTest {
+
+    private static final List<WeaponComponent> WEAPONS = List.of(
+            new WeaponComponent("Small Laser", "Energy", 1, 2, 5, 100, 300, 1.0, 0, 1, 0),
+            new WeaponComponent("Large Laser", "Energy", 3, 8, 12, 250, 450, 2.0, 0, 1, 0),
+            new WeaponComponent("Cannon", "Ballistic", 4, 3, 20, 200, 600, 3.0, 0, 1, 0),
+            new WeaponComponent("Heavy Cannon", "Ballistic", 6, 5, 30, 150, 600, 4.0, 0, 1, 0),
+            new WeaponComponent("LRM 5", "Missile", 2, 4, 2, 300, 600, 2.0, 0, 5, 0),
+            new WeaponComponent("Bad LRM 5", "Missile", 3, 5, 2, 300, 600, 2.0, 0, 5, 0));
+
+    private static MechChassis typedChassis() {
+        Map<SectionId, Hardpoints> layout = new EnumMap<>(SectionId.class);
+        layout.put(SectionId.LEFT_ARM, Hardpoints.parse("2E"));
+        layout.put(SectionId.LEFT_TORSO, Hardpoints.parse("1B1M"));
+        layout.put(SectionId.CENTER_TORSO, Hardpoints.parse("1"));
+        layout.put(SectionId.RIGHT_ARM, Hardpoints.parse("1E1B"));
+        return MechChassis.withHardpoints("Typed", "Light", 20, 10, 8, layout);
+    }
+
+    private static MechSectionFactory sectionFactory(MechChassis chassis) {
+        return new MechSectionFactory(new Catalog(List.of(chassis), WEAPONS,
+                List.of(new SlotConfiguration("Light", 4, 7, 2, 2, 7, 4, 2, 2)), List.of(), List.of()));
+    }
+
+    private static ParetoExplorer exactExplorer(MechChassis chassis) {
+        return new ParetoExplorer(WEAPONS, sectionFactory(chassis), HeatModel.DEFAULT, 0.0);
+    }
+
+    @Test
+    void testExactFrontierMatchesEnumeration() throws Exception {
+        // Given: A small catalog searched without rounding
+        MechChassis chassis = typedChassis();
+        ParetoExplorer explorer = exactExplorer(chassis);
+        LoadoutSpace space = new LoadoutSpace(chassis, sectionFactory(chassis).createSections(chassis), WEAPONS,
+                chassis.getTonnage());
+
+        // When: Exploring the frontier
+        List<Loadout> frontier = explorer.explore(chassis);
+
+        // Then: It should hold exactly the undominated metric values of every loadout that fits
+        List<double[]> all = new ArrayList<>();
+        enumerate(space, new int[space.size()], 0, all);
+        Set<String> expected = new HashSet<>();
+        for (double[] candidate : all) {
+            boolean dominated = false;
+            for (double[] other : all) {
+                if (dominates(other, candidate)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                expected.add(key(candidate));
+            }
+        }
+        Set<String> found = new HashSet<>();
+        for (Loadout loadout : frontier) {
+            found.add(key(new double[] {
+                    LoadoutMetric.DAMAGE.value(loadout), LoadoutMetric.HEAT.value(loadout),
+                    LoadoutMetric.TONNAGE.value(loadout), LoadoutMetric.RANGE_BAND.value(loadout)}));
+        }
+        assertEquals(expected, found);
+        assertEquals(expected.size(), frontier.size());
+    }
+
+    private static void enumerate(LoadoutSpace space, int[] counts, int index, List<double[]> out) {
+        if (index == counts.length) {
+            int[] byType = new int[LoadoutSpace.TYPES];
+            double dps = 0;
+            double heat = 0;
+            double tons = 0;
+            int range = Integer.MAX_VALUE;
+            for (int i = 0; i < counts.length; i++) {
+                byType[space.type[i]] += counts[i];
+                dps += counts[i] * space.dps[i];
+                heat += counts[i] * space.hps[i];
+                tons += counts[i] * space.tonnage[i];
+                if (counts[i] > 0) {
+                    range = Math.min(range, space.weapons[i].getOptimalRange());
+                }
+            }
+            if (space.fits(byType) && tons <= space.weaponBudget + 1e-9) {
+                out.add(new double[] {dps, heat, tons, range == Integer.MAX_VALUE ? 0 : range});
+            }
+            return;
+        }
+        for (int c = 0; c <= space.maxPerType[space.type[index]]; c++) {
+            counts[index] = c;
+            enumerate(space, counts, index + 1, out);
+        }
+        counts[index] = 0;
+    }
+
+    // Damage and range up, heat and tonnage down; armor left follows tonnage
+    private static boolean dominates(double[] a, double[] b) {
+        if (a[0] < b[0] || a[1] > b[1] || a[2] > b[2] || a[3] < b[3]) {
+            return false;
+        }
+        return a[0] > b[0] || a[1] < b[1] || a[2] < b[2] || a[3] > b[3];
+    }
+
+    private static String key(double[] metrics) {
+        return String.format("%.6f/%.6f/%.6f/%.0f", metrics[0], metrics[1], metrics[2], metrics[3]);
+    }
+
+    @Test
+    void testListenerStreamsFrontier() throws Exception {
+        // Given: A listener replaying frontier changes
+        MechChassis chassis = typedChassis();
+        Set<Loadout> replayed = new HashSet<>();
+        ParetoExplorer.FrontierListener listener = new ParetoExplorer.FrontierListener() {
+            @Override
+            public void pointAdded(Loadout loadout) {
+                assertTrue(replayed.add(loadout));
+            }
+
+            @Override
+            public void pointRemoved(Loadout loadout) {
+                assertTrue(replayed.remove(loadout));
+            }
+        };
+
+        // When: Exploring with it
+        FrontierSearch search = exactExplorer(chassis).start(chassis, null, listener);
+        List<Loadout> frontier = search.join();
+
+        // Then: The replayed points should be the final frontier, with none dominating another
+        assertTrue(search.isComplete());
+        assertEquals(new HashSet<>(frontier), replayed);
+        for (Loadout a : frontier) {
+            for (Loadout b : frontier) {
+                assertFalse(a.dominates(b), a + " dominates " + b);
+            }
+            assertTrue(a.getTotalTonnage() <= chassis.getTonnage() + 1e-9);
+        }
+    }
+
+    @Test
+    void testArmorLeftFollowsWeaponTonnage() throws Exception {
+        // Given: The frontier of the typed chassis
+        MechChassis chassis = typedChassis();
+        List<Loadout> frontier = exactExplorer(chassis).explore(chassis);
+
+        // Then: Each loadout should keep all the armor that still fits, up to the maximum
+        for (Loadout loadout : frontier) {
+            double expected = Math.min(chassis.getMaxArmorTonnage(), chassis.getTonnage() - loadout.getWeaponTonnage());
+            assertEquals(expected, loadout.getArmorTons(), 1e-9);
+        }
+    }
+
+    @Test
+    void testCatalogFrontierWithinTonnage() throws Exception {
+        // Given: The shipped catalog at the default resolution
+        Catalog catalog = CatalogLoader.load();
+        MechChassis chassis = catalog.getChassis().get(0);
+
+        // When: Exploring the first chassis
+        List<Loadout> frontier = new ParetoExplorer(catalog).explore(chassis);
+
+        // Then: Every point should fit the chassis, from the empty loadout to the heaviest
+        assertTrue(frontier.size() > 1);
+        for (Loadout loadout : frontier) {
+            assertTrue(loadout.getTotalTonnage() <= chassis.getTonnage() + 1e-9, loadout.toString());
+        }
+        assertTrue(frontier.stream().anyMatch(loadout -> loadout.getWeapons().isEmpty()));
+    }
+
+    @Test
+    void testCancelKeepsPartialFrontier() throws Exception {
+        // Given: A search over the largest chassis on a single thread
+        Catalog catalog = CatalogLoader.load();
+        MechChassis largest = catalog.getChassis().get(catalog.getChassis().size() - 1);
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            FrontierSearch search = new ParetoExplorer(catalog).start(largest, null, null, pool);
+
+            // When: Cancelling it right away
+            search.cancel();
+            List<Loadout> frontier = search.join();
+
+            // Then: It should stop early with the points found so far
+            assertTrue(search.isDone());
+            assertFalse(search.isComplete());
+            assertFalse(frontier.isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.mechbuilder.sim;
+
+import com.mechbuilder.data.Catalog;
+import com.mechbuilder.model.WeaponComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeaponRangeTableTest {
+
+    private static final WeaponComponent LASER =
+            new WeaponComponent("Laser", "Energy", 1.5, 4, 10, 100, 300, 1.0, 20, 1, 0.025);
+    private static final WeaponComponent LRM =
+            new WeaponComponent("LRM 10", "Missile", 5, 5, 4, 150, 600, 2.0, 50, 10, 0);
+
+    @Test
+    void testTableMatchesBallistics() {
+        // Given: A table over two weapons
+        List<WeaponComponent> weapons = List.of(LASER, LRM);
+        WeaponRangeTable table = new WeaponRangeTable(weapons);
+
+        // Then: Every integer range should hold the curve values
+        for (int row = 0; row < weapons.size(); row++) {
+            WeaponComponent weapon = weapons.get(row);
+            assertEquals(weapon.getMaxRange(), table.getMaxRange(row));
+            for (int range = 0; range <= weapon.getMaxRange(); range += 7) {
+                assertEquals(WeaponBallistics.damageAt(weapon, range), table.getShotDamage(row, range), 1e-12);
+                assertEquals(WeaponBallistics.hitChance(weapon, range), table.getHitChance(row, range), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void testRangesBetweenCellsMatchBallistics() {
+        // Given: A table over two weapons
+        List<WeaponComponent> weapons = List.of(LASER, LRM);
+        WeaponRangeTable table = new WeaponRangeTable(weapons);
+
+        // Then: Fractional ranges, including the last one before maximum, should follow the curves
+        for (int row = 0; row < weapons.size(); row++) {
+            WeaponComponent weapon = weapons.get(row);
+            for (double range : new double[] {0.5, 99.25, 100.5, 299.75, weapon.getMaxRange() - 0.5,
+                    weapon.getMaxRange() + 0.5}) {
+                assertEquals(WeaponBallistics.damageAt(weapon, range), table.getShotDamage(row, range), 1e-9);
+                assertEquals(WeaponBallistics.hitChance(weapon, range), table.getHitChance(row, range), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testSalvoMeanAndVariance() {
+        // Given: A table with a ten-shot salvo weapon
+        WeaponRangeTable table = new WeaponRangeTable(List.of(LASER, LRM));
+
+        // Then: Inside optimal range every shot lands, so there is no spread
+        assertEquals(40.0, table.getExpectedSalvoDamage(1, 100), 1e-12);
+        assertEquals(0.0, table.getSalvoDamageVariance(1, 100), 1e-12);
+
+        // And: Halfway through falloff each shot hits with p = 0.75
+        assertEquals(0.75, table.getHitChance(1, 375), 1e-12);
+        assertEquals(10 * 4 * 0.75, table.getExpectedSalvoDamage(1, 375), 1e-12);
+        assertEquals(10 * 16 * 0.75 * 0.25, table.getSalvoDamageVariance(1, 375), 1e-12);
+        assertEquals(4 * 0.75, table.getExpectedShotDamage(1, 375), 1e-12);
+    }
+
+    @Test
+    void testOutOfRangeReadsZero() {
+        // Given: A table over one weapon
+        WeaponRangeTable table = new WeaponRangeTable(List.of(LASER));
+
+        // Then: Negative ranges and ranges past maximum should deal nothing
+        assertEquals(0.0, table.getExpectedSalvoDamage(0, -1));
+        assertEquals(0.0, table.getShotDamage(0, 301));
+        assertEquals(0.0, table.getHitChance(0, 10_000));
+    }
+
+    @Test
+    void testCatalogTableIsBuiltOnce() {
+        // Given: A catalog
+        Catalog catalog = new Catalog(List.of(), List.of(LASER, LRM), List.of(), List.of(), List.of());
+
+        // Then: Repeated requests should share one table
+        WeaponRangeTable table = WeaponRangeTable.forCatalog(catalog);
+        assertSame(table, WeaponRangeTable.forCatalog(catalog));
+        assertEquals(2, table.size());
+    }
+}
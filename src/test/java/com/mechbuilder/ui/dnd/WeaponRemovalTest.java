@@ -107,6 +107,41 @@ class WeaponRemovalTest {
         assertNull(dropHandler.getWeaponInSlot(3));
     }
     
+    @Test
+    void testEquipWeaponWithoutDrag() {
+        // Two energy hardpoints take two lasers, and each takes a section slot
+        assertTrue(dropHandler.equipWeapon(testWeapon1));
+        assertTrue(dropHandler.equipWeapon(testWeapon1));
+        assertFalse(dropHandler.equipWeapon(testWeapon1));
+        assertEquals(2, testSection.getUsedSlots());
+        
+        // Removing one frees its hardpoint for the next laser
+        dropHandler.removeWeapon(0);
+        assertEquals(1, testSection.getUsedSlots());
+        assertTrue(dropHandler.equipWeapon(testWeapon1));
+        assertEquals(testWeapon1, dropHandler.getWeaponInSlot(0));
+    }
+    
+    @Test
+    void testFirstFreeHardpointIsFilledFirst() {
+        // Given: Hardpoints 0 and 2 taken, 1 and 3 free
+        addWeaponDirectly(0, testWeapon1);
+        addWeaponDirectly(2, testWeapon2);
+
+        // When: Equipping without a drag
+        assertTrue(dropHandler.equipWeapon(testWeapon1));
+
+        // Then: The lowest free hardpoint should take it, and the count follow
+        assertEquals(testWeapon1, dropHandler.getWeaponInSlot(1));
+        assertEquals(3, dropHandler.getEquippedCount());
+        assertFalse(dropHandler.mountWeapon(1, testWeapon2));
+        assertFalse(dropHandler.mountWeapon(4, testWeapon2));
+
+        // And: With both energy hardpoints in use, the free hardpoint 3 should refuse a third laser
+        assertFalse(dropHandler.equipWeapon(testWeapon1));
+        assertNull(dropHandler.getWeaponInSlot(3));
+    }
+    
     @Test
     void testSlotReuseAfterRemoval() {
         // Add weapon, remove it, then add another
@@ -124,17 +159,8 @@ class WeaponRemovalTest {
      * Helper method to directly add weapons for testing (bypasses transfer system)
      */
     private void addWeaponDirectly(int slotIndex, WeaponComponent weapon) {
-        // Directly manipulate the equipped weapons map for testing
+        // Mount straight onto the hardpoint index
         // In real usage, this would happen through importData()
-        try {
-            java.lang.reflect.Field field = dropHandler.getClass().getDeclaredField("equippedWeapons");
-            field.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            java.util.Map<Integer, WeaponComponent> equippedWeapons = 
-                (java.util.Map<Integer, WeaponComponent>) field.get(dropHandler);
-            equippedWeapons.put(slotIndex, weapon);
-        } catch (Exception e) {
-            fail("Could not access equippedWeapons field for testing: " + e.getMessage());
-        }
+        assertTrue(dropHandler.mountWeapon(slotIndex, weapon), "Could not mount weapon at " + slotIndex);
     }
-}
\ No newline at end of file
+}